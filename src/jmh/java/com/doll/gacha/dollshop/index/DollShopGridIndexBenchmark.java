@@ -0,0 +1,114 @@
+package com.doll.gacha.dollshop.index;
+
+import com.doll.gacha.dollshop.dto.DollShopMapDTO;
+import com.doll.gacha.dollshop.dto.DollShopNearbyDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지도 bbox 조회 벤치마크 (./gradlew jmh)
+ * - 데이터: 가게데이터/*.json 전국 매장 (운영중만)
+ * - gridIndex*: DollShopGridIndex 격자 조회
+ * - fullScan*: 기존 searchForMap 방식 (지역 전체를 훑고 좌표로 거르기)을 메모리에서 흉내낸 기준값
+ *   실제 QueryDSL 경로는 MariaDB가 떠 있어야 해서 여기선 DB 왕복을 뺀 하한선으로 비교
+ * - nearest*: 주변 매장 k-NN (SampleTime 모드로 p95 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DollShopGridIndexBenchmark {
+
+    @Param("가게데이터")
+    public String dataDir;
+
+    private DollShopGridIndex index;
+    private List<DollShopMapDTO> allShops;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        allShops = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get(dataDir), "*.json")) {
+            for (Path file : files) {
+                List<DollShopMapDTO> shops = objectMapper.readValue(file.toFile(), new TypeReference<>() {});
+                shops.stream()
+                        .filter(shop -> Boolean.TRUE.equals(shop.getIsOperating()))
+                        .forEach(allShops::add);
+            }
+        }
+
+        // Repository 없이 직접 적재 (rebuild는 DB를 쓰므로 사용 안 함)
+        index = new DollShopGridIndex(null);
+        allShops.forEach(index::upsert);
+    }
+
+    // 서울 마포구 정도의 화면 (지도 레벨 5~6)
+    @Benchmark
+    public List<DollShopMapDTO> gridIndexDistrict() {
+        return index.searchInBounds(37.53, 37.58, 126.88, 126.95);
+    }
+
+    @Benchmark
+    public List<DollShopMapDTO> fullScanDistrict() {
+        return fullScan(37.53, 37.58, 126.88, 126.95);
+    }
+
+    // 서울 전체 화면 (지도 레벨 8)
+    @Benchmark
+    public List<DollShopMapDTO> gridIndexCity() {
+        return index.searchInBounds(37.42, 37.70, 126.76, 127.18);
+    }
+
+    @Benchmark
+    public List<DollShopMapDTO> fullScanCity() {
+        return fullScan(37.42, 37.70, 126.76, 127.18);
+    }
+
+    // 홍대입구역 기준 가까운 20개 (반경 5km)
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public List<DollShopNearbyDTO> nearestDowntown() {
+        return index.findNearest(37.5572, 126.9245, 20, 5);
+    }
+
+    // 매장이 드문 지역 (강원 산간) - 고리를 많이 넓혀야 하는 경우
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public List<DollShopNearbyDTO> nearestSparse() {
+        return index.findNearest(37.55, 128.45, 20, 50);
+    }
+
+    private List<DollShopMapDTO> fullScan(double minLat, double maxLat, double minLng, double maxLng) {
+        List<DollShopMapDTO> result = new ArrayList<>();
+        for (DollShopMapDTO shop : allShops) {
+            if (shop.getLatitude() >= minLat && shop.getLatitude() <= maxLat
+                    && shop.getLongitude() >= minLng && shop.getLongitude() <= maxLng) {
+                result.add(shop);
+            }
+        }
+        result.sort(Comparator.comparing(DollShopMapDTO::getId).reversed());
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+package com.doll.gacha.dollshop.index;
+
+import com.doll.gacha.dollshop.dto.DollShopMapDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전국 지도 응답 직렬화 벤치마크 (./gradlew jmh)
+ * - jsonSerialize: 기존 /map (매 요청 Jackson 직렬화)
+ * - columnarEncode: 컬럼형 인코딩 (버전마다 한 번만 실행되는 비용)
+ * - columnarDecode: 앱에서 복원하는 비용 (참고용)
+ * - 크기는 setUp 로그로 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DollShopMapSnapshotBenchmark {
+
+    @Param("가게데이터")
+    public String dataDir;
+
+    private ObjectMapper objectMapper;
+    private List<DollShopMapDTO> allShops;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+
+        allShops = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get(dataDir), "*.json")) {
+            for (Path file : files) {
+                List<DollShopMapDTO> shops = objectMapper.readValue(file.toFile(), new TypeReference<>() {});
+                for (DollShopMapDTO shop : shops) {
+                    if (Boolean.TRUE.equals(shop.getIsOperating())) {
+                        String[] tokens = shop.getAddress().split(" ");
+                        shop.setGubun1(tokens[0]);
+                        shop.setGubun2(tokens.length > 1 ? tokens[1] : null);
+                        allShops.add(shop);
+                    }
+                }
+            }
+        }
+
+        encoded = DollShopColumnarCodec.encode(allShops, 1);
+        System.out.printf("매장 %d개 - JSON %dB, 컬럼형 %dB%n",
+                allShops.size(), objectMapper.writeValueAsBytes(allShops).length, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() throws IOException {
+        return objectMapper.writeValueAsBytes(allShops);
+    }
+
+    @Benchmark
+    public byte[] columnarEncode() {
+        return DollShopColumnarCodec.encode(allShops, 1);
+    }
+
+    @Benchmark
+    public List<DollShopMapDTO> columnarDecode() {
+        return DollShopColumnarCodec.decode(encoded);
+    }
+}
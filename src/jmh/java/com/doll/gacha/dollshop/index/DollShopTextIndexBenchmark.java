@@ -0,0 +1,139 @@
+package com.doll.gacha.dollshop.index;
+
+import com.doll.gacha.dollshop.DollShop;
+import com.doll.gacha.dollshop.dto.DollShopMapDTO;
+import com.doll.gacha.dollshop.dto.DollShopSuggestDTO;
+import com.doll.gacha.dollshop.event.DollShopChangedEvent;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매장 키워드 검색/자동완성 벤치마크 (./gradlew jmh)
+ * - textIndex*: DollShopTextIndex (n-gram 교집합 + 확인)
+ * - likeScan*: 기존 LIKE '%kw%' 방식을 메모리에서 흉내낸 기준값 (전체 매장을 훑음)
+ * - suggest*: DollShopSuggestIndex 키 입력 1번 (SampleTime 모드로 p99가 1ms 미만인지 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DollShopTextIndexBenchmark {
+
+    @Param("가게데이터")
+    public String dataDir;
+
+    private DollShopTextIndex index;
+    private DollShopSuggestIndex suggestIndex;
+    private List<DollShopMapDTO> allShops;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        allShops = new ArrayList<>();
+        List<DollShop> entities = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get(dataDir), "*.json")) {
+            for (Path file : files) {
+                List<DollShopMapDTO> shops = objectMapper.readValue(file.toFile(), new TypeReference<>() {});
+                for (DollShopMapDTO shop : shops) {
+                    if (!Boolean.TRUE.equals(shop.getIsOperating())) {
+                        continue;
+                    }
+                    allShops.add(shop);
+                    entities.add(DollShop.builder()
+                            .id(shop.getId())
+                            .businessName(shop.getBusinessName())
+                            .address(shop.getAddress())
+                            .isOperating(true)
+                            .build());
+                }
+            }
+        }
+
+        // Repository 없이 변경 이벤트로 직접 적재
+        index = new DollShopTextIndex(null);
+        index.onShopChanged(DollShopChangedEvent.upserted(entities));
+
+        suggestIndex = new DollShopSuggestIndex(null);
+        suggestIndex.onShopChanged(DollShopChangedEvent.upserted(entities));
+    }
+
+    // 매장명 일부
+    @Benchmark
+    public List<Long> textIndexName() {
+        return index.search("크레인", null, null);
+    }
+
+    @Benchmark
+    public List<DollShopMapDTO> likeScanName() {
+        return likeScan("크레인");
+    }
+
+    // 주소 일부
+    @Benchmark
+    public List<Long> textIndexAddress() {
+        return index.search("마포구", null, null);
+    }
+
+    @Benchmark
+    public List<DollShopMapDTO> likeScanAddress() {
+        return likeScan("마포구");
+    }
+
+    // 초성 (LIKE로는 불가능)
+    @Benchmark
+    public List<Long> textIndexChosung() {
+        return index.search("ㅇㅎㅃㄱ", null, null);
+    }
+
+    // 자동완성 - 한 글자 (후보가 가장 많은 경우)
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public List<DollShopSuggestDTO> suggestOneSyllable() {
+        return suggestIndex.suggest("인");
+    }
+
+    // 자동완성 - 입력 중인 자음 ("인형ㅃ")
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public List<DollShopSuggestDTO> suggestTrailingJamo() {
+        return suggestIndex.suggest("인형ㅃ");
+    }
+
+    // 자동완성 - 초성만
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public List<DollShopSuggestDTO> suggestChosung() {
+        return suggestIndex.suggest("ㅇㅎㅃ");
+    }
+
+    private List<DollShopMapDTO> likeScan(String keyword) {
+        List<DollShopMapDTO> result = new ArrayList<>();
+        for (DollShopMapDTO shop : allShops) {
+            if ((shop.getBusinessName() != null && shop.getBusinessName().contains(keyword))
+                    || (shop.getAddress() != null && shop.getAddress().contains(keyword))) {
+                result.add(shop);
+            }
+        }
+        return result;
+    }
+}
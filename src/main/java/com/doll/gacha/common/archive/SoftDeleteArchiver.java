@@ -0,0 +1,197 @@
+package com.doll.gacha.common.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 오래전에 소프트 삭제된 행을 보관 테이블로 옮기는 작업 (댓글 → 게시글 → 리뷰 순)
+ * - 삭제된 행이 운영 테이블과 인덱스에 계속 쌓이지 않도록 매일 새벽(기본 05:00) 실행
+ * - 삭제 시각은 updated_at으로 판단 (소프트 삭제가 마지막 수정), 기본 보관 기준 90일
+ * - 보관 테이블(xxx_archive)은 없으면 원본과 같은 구조로 만들고 archived_at 컬럼 추가
+ *   (CREATE TABLE ... LIKE 라 외래키는 복사되지 않음)
+ * - 배치(기본 500행) 단위로 INSERT ... SELECT + DELETE를 한 트랜잭션에서 처리
+ *   게시글/리뷰에 딸린 파일 정보(files, ref_type + ref_id)도 같은 배치에서 files_archive로 옮김 (저장소의 실제 파일은 그대로)
+ * - 외래키 순서 유지
+ *   - 댓글: 자식 답글이 남아 있는 댓글은 건너뜀 (답글이 먼저 옮겨지면 다음 배치에서 처리)
+ *   - 게시글: 댓글이 남아 있는 게시글은 건너뜀 (삭제된 게시글의 댓글은 댓글 단계에서 같이 옮김)
+ * - 삭제된 행만 옮기므로 메모리 인덱스/캐시(살아있는 행만 보관)는 건드릴 필요 없음
+ * - MariaDB 전용 DDL(ADD COLUMN IF NOT EXISTS)을 쓰므로 기본은 꺼져 있음 (archive.enabled=true 일 때만 등록)
+ */
+@Component
+@ConditionalOnProperty(name = "archive.enabled", havingValue = "true")
+@Slf4j
+public class SoftDeleteArchiver {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int batchSize;
+
+    private static final String FILES_TABLE = "files";
+
+    // 옮길 순서대로 (테이블, 딸린 파일 ref_type, 기준 시각 파라미터 수, 옮길 대상 ID 조회 SQL - 파라미터: 기준 시각..., 배치 크기)
+    private final List<Target> targets = List.of(
+            new Target("comment", null, 2,
+                    "SELECT c.id FROM comment c" +
+                    " WHERE ((c.is_deleted = true AND c.updated_at < ?)" +
+                    "     OR c.community_id IN (SELECT p.id FROM community p WHERE p.is_deleted = true AND p.updated_at < ?))" +
+                    " AND NOT EXISTS (SELECT 1 FROM comment r WHERE r.parent_id = c.id)" +
+                    " ORDER BY c.id LIMIT ?"),
+            new Target("community", "COMMUNITY", 1,
+                    "SELECT p.id FROM community p" +
+                    " WHERE p.is_deleted = true AND p.updated_at < ?" +
+                    " AND NOT EXISTS (SELECT 1 FROM comment c WHERE c.community_id = p.id)" +
+                    " ORDER BY p.id LIMIT ?"),
+            new Target("reviews", "REVIEW", 1,
+                    "SELECT r.id FROM reviews r" +
+                    " WHERE r.is_deleted = true AND r.updated_at < ?" +
+                    " ORDER BY r.id LIMIT ?")
+    );
+
+    public SoftDeleteArchiver(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${archive.retention-days:90}") int retentionDays,
+            @Value("${archive.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${archive.cron:0 0 5 * * *}")
+    public synchronized void archive() {
+        LocalDateTime cutoff = cutoff();
+        for (Target target : targets) {
+            long start = System.currentTimeMillis();
+            try {
+                int moved = archive(target, cutoff);
+                log.info("삭제 데이터 보관 완료 - 테이블: {}, 옮긴 행 수: {}, 소요: {}ms",
+                        target.table, moved, System.currentTimeMillis() - start);
+            } catch (RuntimeException e) {
+                // 한 테이블이 실패해도 다음 테이블은 진행, 실패한 배치는 롤백되어 다음 실행에 다시 시도
+                log.error("삭제 데이터 보관 실패 - 테이블: {}", target.table, e);
+            }
+        }
+    }
+
+    /**
+     * 테이블 하나만 보관 (순서 제약 확인용 - 앞 단계를 건너뛰어도 외래키/남은 자식 때문에 옮기지 않는 행은 그대로)
+     */
+    synchronized int archive(String table) {
+        Target target = targets.stream().filter(candidate -> candidate.table.equals(table)).findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("보관 대상 테이블이 아닙니다: " + table));
+        return archive(target, cutoff());
+    }
+
+    private LocalDateTime cutoff() {
+        return LocalDateTime.now().minusDays(retentionDays);
+    }
+
+    /**
+     * 대상이 없을 때까지 배치 반복 (옮긴 행 수 반환)
+     */
+    private int archive(Target target, LocalDateTime cutoff) {
+        String archiveTable = ensureArchiveTable(target.table);
+        String columns = columnList(target.table, archiveTable);
+        String filesArchiveTable = target.fileRefType == null ? null : ensureArchiveTable(FILES_TABLE);
+        String fileColumns = target.fileRefType == null ? null : columnList(FILES_TABLE, filesArchiveTable);
+
+        int moved = 0;
+        while (true) {
+            List<Long> ids = findCandidates(target, cutoff);
+            if (ids.isEmpty()) {
+                return moved;
+            }
+            String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+            transactionTemplate.executeWithoutResult(status -> {
+                if (target.fileRefType != null) {
+                    List<Object> fileParams = new ArrayList<>(ids.size() + 1);
+                    fileParams.add(target.fileRefType);
+                    fileParams.addAll(ids);
+                    move(FILES_TABLE, filesArchiveTable, fileColumns,
+                            "ref_type = ? AND ref_id IN (" + placeholders + ")", fileParams.toArray());
+                }
+                move(target.table, archiveTable, columns, "id IN (" + placeholders + ")", ids.toArray());
+            });
+            moved += ids.size();
+        }
+    }
+
+    private void move(String table, String archiveTable, String columns, String where, Object[] params) {
+        jdbcTemplate.update("INSERT INTO " + archiveTable + " (" + columns + ", archived_at)" +
+                " SELECT " + columns + ", NOW() FROM " + table + " WHERE " + where, params);
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE " + where, params);
+    }
+
+    private List<Long> findCandidates(Target target, LocalDateTime cutoff) {
+        List<Object> params = new ArrayList<>(Collections.nCopies(target.cutoffParams, cutoff));
+        params.add(batchSize);
+        return jdbcTemplate.queryForList(target.candidateSql, Long.class, params.toArray());
+    }
+
+    /**
+     * 보관 테이블이 없으면 원본 구조로 생성 (archived_at 추가)
+     */
+    private String ensureArchiveTable(String table) {
+        String archiveTable = table + "_archive";
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + archiveTable + " LIKE " + table);
+        jdbcTemplate.execute("ALTER TABLE " + archiveTable + " ADD COLUMN IF NOT EXISTS archived_at DATETIME NULL");
+        return archiveTable;
+    }
+
+    private String columnList(String table, String archiveTable) {
+        return sharedColumns(table, archiveTable).stream()
+                .map(column -> "`" + column + "`")
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * 원본과 보관 테이블에 모두 있는 컬럼 (보관 테이블 생성 후 원본에 추가된 컬럼은 옮기지 않고 경고)
+     */
+    private List<String> sharedColumns(String table, String archiveTable) {
+        Set<String> source = columnsOf(table);
+        Set<String> archive = columnsOf(archiveTable);
+
+        Set<String> missing = source.stream().filter(column -> !archive.contains(column))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!missing.isEmpty()) {
+            log.warn("보관 테이블에 없는 컬럼은 옮기지 않음 - 테이블: {}, 컬럼: {}", archiveTable, missing);
+        }
+        return source.stream().filter(archive::contains).toList();
+    }
+
+    private Set<String> columnsOf(String table) {
+        return new LinkedHashSet<>(jdbcTemplate.queryForList(
+                "SELECT column_name FROM information_schema.columns" +
+                " WHERE table_schema = DATABASE() AND table_name = ? ORDER BY ordinal_position",
+                String.class, table));
+    }
+
+    private static final class Target {
+        private final String table;
+        private final String fileRefType;
+        private final int cutoffParams;
+        private final String candidateSql;
+
+        private Target(String table, String fileRefType, int cutoffParams, String candidateSql) {
+            this.table = table;
+            this.fileRefType = fileRefType;
+            this.cutoffParams = cutoffParams;
+            this.candidateSql = candidateSql;
+        }
+    }
+}
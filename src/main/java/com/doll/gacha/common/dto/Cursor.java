@@ -0,0 +1,75 @@
+package com.doll.gacha.common.dto;
+
+import com.doll.gacha.common.exception.BusinessRuleException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이징용 커서
+ * - 마지막으로 받은 항목의 (정렬 값, ID)를 담아서 다음 페이지는 "그 뒤부터" 조회 (OFFSET 없음)
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 전달 (내부 형식은 노출 안 함)
+ * - 정렬 기준도 같이 담아서, 정렬을 바꾼 채로 이전 커서를 보내면 400
+ */
+@Getter
+@AllArgsConstructor
+public class Cursor {
+    private static final String SEPARATOR = "|";
+
+    private final String sort;  // 정렬 기준 (예: "averageRating,desc")
+    private final String key;   // 마지막 항목의 정렬 값
+    private final Long id;      // 마지막 항목의 ID (정렬 값이 같을 때 순서 결정)
+
+    public String encode() {
+        String raw = sort + SEPARATOR + key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (없으면 null = 첫 페이지)
+     * @param expectedSort 이번 요청의 정렬 기준 (커서에 담긴 값과 같아야 함)
+     */
+    public static Cursor decode(String cursor, String expectedSort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            parts = raw.split("\\" + SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessRuleException("잘못된 커서입니다.");
+        }
+        if (parts.length != 3) {
+            throw new BusinessRuleException("잘못된 커서입니다.");
+        }
+        if (!parts[0].equals(expectedSort)) {
+            throw new BusinessRuleException("정렬 기준이 바뀌었습니다. 첫 페이지부터 다시 조회해주세요.");
+        }
+        try {
+            return new Cursor(parts[0], parts[1], Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            throw new BusinessRuleException("잘못된 커서입니다.");
+        }
+    }
+
+    public double keyAsDouble() {
+        try {
+            return Double.parseDouble(key);
+        } catch (NumberFormatException e) {
+            throw new BusinessRuleException("잘못된 커서입니다.");
+        }
+    }
+
+    public LocalDateTime keyAsDateTime() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new BusinessRuleException("잘못된 커서입니다.");
+        }
+    }
+}
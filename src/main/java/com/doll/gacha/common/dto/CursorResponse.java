@@ -0,0 +1,40 @@
+package com.doll.gacha.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 페이징 응답용 클래스 (무한 스크롤)
+ * PageResponse와 달리 전체 개수/페이지 수가 없음 → count 쿼리 없이 조회
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class CursorResponse<T> {
+    private List<T> content;        // 실제 데이터 목록
+    private int size;               // 요청한 페이지 크기
+    private String nextCursor;      // 다음 페이지 요청 시 그대로 넘길 값 (마지막이면 null)
+    private boolean hasNext;        // 다음 페이지 존재 여부
+
+    /**
+     * size + 1 개를 조회한 결과로 응답 생성 (한 개 더 있으면 다음 페이지 있음)
+     * @param fetched size + 1 개까지 조회한 목록
+     * @param cursorOf 항목 → 그 항목 다음부터 조회할 커서
+     */
+    public static <T> CursorResponse<T> of(List<T> fetched, int size, Function<T, Cursor> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? List.copyOf(fetched.subList(0, size)) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+
+        return CursorResponse.<T>builder()
+                .content(content)
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
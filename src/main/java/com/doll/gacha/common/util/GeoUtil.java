@@ -0,0 +1,34 @@
+package com.doll.gacha.common.util;
+
+/**
+ * 위경도 거리 계산 유틸
+ */
+public final class GeoUtil {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    // 위도 1도의 거리 (km)
+    public static final double KM_PER_DEGREE_LAT = 111.32;
+
+    private GeoUtil() {
+    }
+
+    /**
+     * 두 좌표 사이의 대원 거리 (하버사인 공식, km)
+     */
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 해당 위도에서 경도 1도의 거리 (km)
+     */
+    public static double kmPerDegreeLng(double latitude) {
+        return KM_PER_DEGREE_LAT * Math.cos(Math.toRadians(latitude));
+    }
+}
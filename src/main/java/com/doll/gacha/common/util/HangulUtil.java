@@ -0,0 +1,97 @@
+package com.doll.gacha.common.util;
+
+/**
+ * 한글 검색용 유틸
+ * - 완성형 음절(가~힣)에서 초성 추출: (코드 - 0xAC00) / (21 * 28) 번째 초성
+ * - 초성은 호환용 자모(ㄱ~ㅎ)로 표현 (키보드로 입력되는 문자와 동일)
+ */
+public final class HangulUtil {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;  // 가
+    private static final char SYLLABLE_END = 0xD7A3;    // 힣
+    private static final int CHOSUNG_PERIOD = 21 * 28;  // 중성 21개 × 종성 28개
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private HangulUtil() {
+    }
+
+    /**
+     * 검색용 정규화 (공백 제거 + 소문자)
+     * "고고 크레인" → "고고크레인"
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 문자열의 초성 (한글 음절만 초성으로 바꾸고 나머지 문자는 그대로)
+     * "고고크레인" → "ㄱㄱㅋㄹㅇ"
+     */
+    public static String chosungOf(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            sb.append(chosungOf(text.charAt(i)));
+        }
+        return sb.toString();
+    }
+
+    public static char chosungOf(char c) {
+        if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+            return CHOSUNG.charAt((c - SYLLABLE_BEGIN) / CHOSUNG_PERIOD);
+        }
+        return c;
+    }
+
+    /**
+     * 초성 자모(ㄱ~ㅎ 자음)인지
+     */
+    public static boolean isChosung(char c) {
+        return CHOSUNG.indexOf(c) >= 0;
+    }
+
+    /**
+     * 초성이 하나라도 섞여 있는지 ("ㄱㄱㅋㄹㅇ", "고고ㅋ" 등)
+     */
+    public static boolean containsChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isChosung(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 초성이 섞인 검색어가 text의 어디에서 일치하는지 (없으면 -1)
+     * - 검색어의 초성 자리는 text 음절의 초성과 비교, 나머지는 문자 그대로 비교
+     * - "고고ㅋ" 는 "고고크레인" 의 0번 위치에서 일치
+     */
+    public static int indexOfWithChosung(String text, String query) {
+        int last = text.length() - query.length();
+        for (int start = 0; start <= last; start++) {
+            boolean matched = true;
+            for (int i = 0; i < query.length(); i++) {
+                char q = query.charAt(i);
+                char t = text.charAt(start + i);
+                if (isChosung(q) ? chosungOf(t) != q : t != q) {
+                    matched = false;
+                    break;
+                }
+            }
+            if (matched) {
+                return start;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,102 @@
+package com.doll.gacha.common.util;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 결과 하이라이트 유틸
+ * - 검색어(공백으로 나눈 각 단어)가 나온 부분을 <mark>로 감쌈, 대소문자 무시
+ * - 원문은 HTML 이스케이프 후 반환하므로 화면에서 innerHTML로 그대로 써도 됨
+ */
+public final class HighlightUtil {
+
+    private static final String MARK_OPEN = "<mark>";
+    private static final String MARK_CLOSE = "</mark>";
+
+    private HighlightUtil() {
+    }
+
+    /**
+     * 전체 문자열 하이라이트 (제목 등 짧은 텍스트)
+     */
+    public static String highlight(String text, String keyword) {
+        if (text == null) {
+            return null;
+        }
+        return render(text, 0, text.length(), matchesOf(text, keyword));
+    }
+
+    /**
+     * 첫 번째 일치 위치 주변만 잘라서 하이라이트 (내용 미리보기)
+     * 일치하는 곳이 없으면 앞에서부터 length 글자
+     * @param length 잘라낼 최대 길이
+     */
+    public static String snippet(String text, String keyword, int length) {
+        if (text == null) {
+            return null;
+        }
+        List<int[]> matches = matchesOf(text, keyword);
+        int start = matches.isEmpty() ? 0 : Math.max(0, matches.get(0)[0] - length / 3);
+        int end = Math.min(text.length(), start + length);
+        start = Math.max(0, Math.min(start, end - length));
+
+        StringBuilder sb = new StringBuilder();
+        if (start > 0) {
+            sb.append("…");
+        }
+        sb.append(render(text, start, end, matches));
+        if (end < text.length()) {
+            sb.append("…");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * [from, to) 구간을 이스케이프하면서 일치 구간에 <mark> (구간 경계에 걸친 일치는 잘린 만큼만)
+     */
+    private static String render(String text, int from, int to, List<int[]> matches) {
+        StringBuilder sb = new StringBuilder();
+        int position = from;
+        for (int[] match : matches) {
+            int matchStart = Math.max(match[0], position);
+            int matchEnd = Math.min(match[1], to);
+            if (matchStart >= matchEnd) {
+                continue;
+            }
+            sb.append(HtmlUtils.htmlEscape(text.substring(position, matchStart)));
+            sb.append(MARK_OPEN).append(HtmlUtils.htmlEscape(text.substring(matchStart, matchEnd))).append(MARK_CLOSE);
+            position = matchEnd;
+        }
+        sb.append(HtmlUtils.htmlEscape(text.substring(position, to)));
+        return sb.toString();
+    }
+
+    /**
+     * 검색어 단어들의 일치 구간 [시작, 끝) - 앞에서부터, 겹치지 않게
+     */
+    private static List<int[]> matchesOf(String text, String keyword) {
+        List<int[]> matches = new ArrayList<>();
+        if (keyword == null || keyword.isBlank()) {
+            return matches;
+        }
+        String[] terms = keyword.trim().split("\\s+");
+        int i = 0;
+        while (i < text.length()) {
+            int matchedLength = 0;
+            for (String term : terms) {
+                if (term.length() > matchedLength && text.regionMatches(true, i, term, 0, term.length())) {
+                    matchedLength = term.length();
+                }
+            }
+            if (matchedLength > 0) {
+                matches.add(new int[]{i, i + matchedLength});
+                i += matchedLength;
+            } else {
+                i++;
+            }
+        }
+        return matches;
+    }
+}
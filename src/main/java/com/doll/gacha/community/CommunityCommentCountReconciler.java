@@ -0,0 +1,33 @@
+package com.doll.gacha.community;
+
+import com.doll.gacha.community.repository.CommunityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글 댓글 수(comment_count) 보정 작업
+ * - 평소에는 CommentService가 증감으로 맞추지만, SQL 직접 수정/컬럼 추가 직후 등으로 어긋날 수 있음
+ * - 서버 기동 시 + 매일 새벽(기본 04:30)에 comment 테이블 기준으로 어긋난 게시글만 다시 계산
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommunityCommentCountReconciler {
+
+    private final CommunityRepository communityRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${community.comment-count.reconcile-cron:0 30 4 * * *}")
+    @Transactional
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        int fixed = communityRepository.reconcileCommentCounts();
+
+        log.info("게시글 댓글 수 보정 완료 - 보정된 게시글 수: {}, 소요: {}ms", fixed, System.currentTimeMillis() - start);
+    }
+}
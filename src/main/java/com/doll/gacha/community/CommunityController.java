@@ -1,6 +1,7 @@
 package com.doll.gacha.community;
 
 import com.doll.gacha.common.dto.ApiResponse;
+import com.doll.gacha.common.dto.CursorResponse;
 import com.doll.gacha.common.dto.PageResponse;
 import com.doll.gacha.community.dto.CommunityCreateDTO;
 import com.doll.gacha.community.dto.CommunityDTO;
@@ -36,7 +37,23 @@ public class CommunityController {
     }
 
     /**
-     * 게시글 상세 조회 (조회수 증가)
+     * 게시글 목록 조회 / 검색 - 커서 방식 (무한 스크롤, 최신순)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<CommunityDTO>>> getCommunityListByCursor(
+            @RequestParam(required = false) String searchType,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            Pageable pageable) {
+
+        CursorResponse<CommunityDTO> communities = communityService.getCommunityListByCursor(
+                searchType, keyword, cursor, pageable.getPageSize());
+        return ResponseEntity.ok(ApiResponse.success("게시글 목록 조회 성공", communities));
+    }
+
+    /**
+     * 게시글 상세 조회 (조회수 증가 - 몇 초 단위로 모아서 DB 반영)
      */
     @GetMapping("/{communityId}")
     public ResponseEntity<ApiResponse<CommunityDTO>> getCommunityDetail(@PathVariable Long communityId) {
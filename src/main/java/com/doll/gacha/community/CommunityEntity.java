@@ -3,11 +3,19 @@ package com.doll.gacha.community;
 import com.doll.gacha.jwt.entity.UserEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "community")
+@Table(name = "community", indexes = {
+        // 목록/커서 (is_deleted = false, 최신순) + 인기글 적재 (최근 N일)
+        @Index(name = "idx_community_deleted_created", columnList = "is_deleted, created_at, id"),
+        // 댓글 많은 순 목록
+        @Index(name = "idx_community_deleted_comment_count", columnList = "is_deleted, comment_count, id"),
+        // 보관 대상 (오래전에 삭제된 게시글) 조회
+        @Index(name = "idx_community_deleted_updated", columnList = "is_deleted, updated_at")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -33,6 +41,12 @@ public class CommunityEntity {
     @Builder.Default
     private Integer viewCount = 0;
 
+    // 댓글 수 (비정규화 - 댓글 작성/삭제 시 UPDATE로 증감, CommunityCommentCountReconciler가 주기적으로 보정)
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long commentCount = 0L;
+
     // 삭제 여부
     @Column(nullable = false)
     @Builder.Default
@@ -57,13 +71,6 @@ public class CommunityEntity {
 
     // ===== 비즈니스 메서드 =====
 
-    /**
-     * 조회수 증가
-     */
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
     /**
      * 게시글 수정
      */
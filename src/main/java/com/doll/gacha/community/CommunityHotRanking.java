@@ -0,0 +1,214 @@
+package com.doll.gacha.community;
+
+import com.doll.gacha.community.dto.CommunityDTO;
+import com.doll.gacha.community.event.CommentCountChangedEvent;
+import com.doll.gacha.community.event.CommunityChangedEvent;
+import com.doll.gacha.community.event.CommunityViewedEvent;
+import com.doll.gacha.community.repository.CommunityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 커뮤니티 인기글 랭킹 (GET /api/community?sort=hot)
+ * - 점수 = (조회수 × VIEW_WEIGHT + 댓글 수 × COMMENT_WEIGHT) / (경과 시간(h) + 2)^GRAVITY  (Hacker News 방식)
+ * - 최근 WINDOW 안의 게시글만 메모리에 보관, 조회/댓글/게시글 이벤트로 카운트 갱신 (SQL로 점수 계산 안 함)
+ * - 시간이 지나면 점수가 계속 바뀌므로 REFRESH 주기마다 상위 N개를 다시 정렬해 두고, 조회는 그 목록을 잘라서 반환
+ * - 검색어가 있으면 상위 N개가 아니라 기간 안의 후보 전체에서 먼저 거른 뒤 정렬 (상위 N개 밖의 일치 글도 포함)
+ * - 서버 기동 시 DB에서 적재, 여러 서버면 서버마다 조회수가 조금씩 다를 수 있음 (랭킹 용도라 허용)
+ */
+@Component
+@Slf4j
+public class CommunityHotRanking {
+
+    private static final double VIEW_WEIGHT = 1.0;
+    private static final double COMMENT_WEIGHT = 5.0;
+    private static final double GRAVITY = 1.8;
+
+    private final CommunityRepository communityRepository;
+    private final Duration window;
+    private final int maxSize;
+
+    // 게시글 ID → 랭킹 후보 (최근 WINDOW 안의 게시글)
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    // 점수순 상위 N개 (REFRESH 주기마다 교체)
+    private volatile List<CommunityDTO> ranked = List.of();
+
+    public CommunityHotRanking(
+            CommunityRepository communityRepository,
+            @Value("${community.hot.window-days:7}") long windowDays,
+            @Value("${community.hot.max-size:200}") int maxSize) {
+        this.communityRepository = communityRepository;
+        this.window = Duration.ofDays(windowDays);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 후보 전체 재적재 (서버 기동 시)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        List<CommunityEntity> recent = communityRepository.findRecentWithUser(LocalDateTime.now().minus(window));
+
+        entries.clear();
+        for (CommunityEntity community : recent) {
+            entries.put(community.getId(), new Entry(CommunityDTO.from(community)));
+        }
+        refresh();
+
+        log.info("인기글 랭킹 적재 완료 - 후보 수: {}, 소요: {}ms", entries.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 점수 다시 계산해서 상위 N개 교체 (기간이 지난 게시글은 후보에서 제외)
+     */
+    @Scheduled(fixedDelayString = "${community.hot.refresh-ms:10000}", initialDelayString = "${community.hot.refresh-ms:10000}")
+    public synchronized void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime oldest = now.minus(window);
+        entries.values().removeIf(entry -> entry.base.getCreatedAt().isBefore(oldest));
+
+        // 정렬 중에 이벤트로 카운트가 바뀌어도 순서가 흔들리지 않도록 점수를 먼저 고정
+        List<Entry> candidates = new ArrayList<>(entries.values());
+        candidates.forEach(entry -> entry.score = entry.score(now));
+        candidates.sort(Comparator.comparingDouble((Entry entry) -> entry.score).reversed()
+                .thenComparing(entry -> entry.base.getId(), Comparator.reverseOrder()));
+
+        this.ranked = candidates.stream()
+                .limit(maxSize)
+                .map(Entry::toDTO)
+                .toList();
+    }
+
+    @EventListener
+    public void onViewed(CommunityViewedEvent event) {
+        Entry entry = entries.get(event.getCommunityId());
+        if (entry != null) {
+            entry.views.incrementAndGet();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentCountChanged(CommentCountChangedEvent event) {
+        Entry entry = entries.get(event.getCommunityId());
+        if (entry != null) {
+            entry.comments.addAndGet(event.getDelta());
+        }
+    }
+
+    /**
+     * 게시글 작성/수정/삭제 반영 (트랜잭션 커밋 후 실행)
+     * - 댓글 수는 DB 컬럼 값으로 다시 읽고, 조회수는 아직 DB 반영 전일 수 있으니 메모리 값과 큰 쪽 사용
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCommunityChanged(CommunityChangedEvent event) {
+        Long id = event.getCommunityId();
+        if (event.isDeleted()) {
+            entries.remove(id);
+            ranked = ranked.stream().filter(dto -> !dto.getId().equals(id)).toList();
+            return;
+        }
+        communityRepository.findByIdWithUser(id).ifPresent(community -> {
+            if (community.getCreatedAt().isBefore(LocalDateTime.now().minus(window))) {
+                return;
+            }
+            Entry previous = entries.get(id);
+            Entry updated = new Entry(CommunityDTO.from(community));
+            if (previous != null) {
+                updated.views.set(Math.max(previous.views.get(), community.getViewCount()));
+            }
+            entries.put(id, updated);
+        });
+    }
+
+    /**
+     * 인기순 페이지 (DB 조회 없음)
+     * - 검색 조건이 없으면 미리 정렬된 상위 N개에서 잘라서 반환
+     * - 있으면 후보 전체에서 거른 뒤 지금 시각 기준 점수로 정렬 → 전체 개수 = 기간 안의 일치 글 수
+     * @param filter 제목/내용/닉네임 검색 조건 (null이면 전체)
+     */
+    public Page<CommunityDTO> getPage(Predicate<CommunityDTO> filter, Pageable pageable) {
+        List<CommunityDTO> current = filter == null ? ranked : rankMatching(filter);
+        int from = (int) Math.min(pageable.getOffset(), current.size());
+        int to = Math.min(from + pageable.getPageSize(), current.size());
+        return new PageImpl<>(current.subList(from, to), pageable, current.size());
+    }
+
+    /**
+     * 검색 조건에 맞는 후보만 점수순 정렬 (점수는 refresh와 같은 방식, 같으면 ID 내림차순)
+     */
+    private List<CommunityDTO> rankMatching(Predicate<CommunityDTO> filter) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime oldest = now.minus(window);
+        Map<Entry, Double> scores = new HashMap<>();
+        for (Entry entry : entries.values()) {
+            if (!entry.base.getCreatedAt().isBefore(oldest) && filter.test(entry.base)) {
+                scores.put(entry, entry.score(now));
+            }
+        }
+
+        List<Entry> matched = new ArrayList<>(scores.keySet());
+        matched.sort(Comparator.comparingDouble((Entry entry) -> scores.get(entry)).reversed()
+                .thenComparing(entry -> entry.base.getId(), Comparator.reverseOrder()));
+        return matched.stream().map(Entry::toDTO).toList();
+    }
+
+    /**
+     * 랭킹 후보 (목록 표시용 값 + 이벤트로 올라가는 조회수/댓글 수)
+     */
+    private static final class Entry {
+        private final CommunityDTO base;
+        private final AtomicLong views;
+        private final AtomicLong comments;
+        private double score; // 마지막 refresh 때 계산한 점수 (refresh 안에서만 사용)
+
+        private Entry(CommunityDTO base) {
+            this.base = base;
+            this.views = new AtomicLong(base.getViewCount() != null ? base.getViewCount() : 0);
+            this.comments = new AtomicLong(base.getCommentCount() != null ? base.getCommentCount() : 0);
+        }
+
+        private double score(LocalDateTime now) {
+            double ageHours = Math.max(0, Duration.between(base.getCreatedAt(), now).toMinutes() / 60.0);
+            double points = views.get() * VIEW_WEIGHT + comments.get() * COMMENT_WEIGHT;
+            return points / Math.pow(ageHours + 2, GRAVITY);
+        }
+
+        private CommunityDTO toDTO() {
+            return CommunityDTO.builder()
+                    .id(base.getId())
+                    .userId(base.getUserId())
+                    .username(base.getUsername())
+                    .nickname(base.getNickname())
+                    .title(base.getTitle())
+                    .content(base.getContent())
+                    .viewCount((int) views.get())
+                    .commentCount(comments.get())
+                    .imageUrls(base.getImageUrls())
+                    .attachments(base.getAttachments())
+                    .createdAt(base.getCreatedAt())
+                    .updatedAt(base.getUpdatedAt())
+                    .build();
+        }
+    }
+}
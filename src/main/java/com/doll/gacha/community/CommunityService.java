@@ -1,28 +1,43 @@
 package com.doll.gacha.community;
 
+import com.doll.gacha.common.dto.CursorResponse;
 import com.doll.gacha.common.exception.AccessDeniedException;
 import com.doll.gacha.common.exception.EntityNotFoundException;
+import com.doll.gacha.common.util.HangulUtil;
+import com.doll.gacha.common.util.HighlightUtil;
 import com.doll.gacha.community.dto.CommunityCreateDTO;
 import com.doll.gacha.community.dto.CommunityDTO;
 import com.doll.gacha.community.dto.CommunityUpdateDTO;
+import com.doll.gacha.community.event.CommunityChangedEvent;
+import com.doll.gacha.community.event.CommunityViewedEvent;
 import com.doll.gacha.community.repository.CommunityRepository;
 import com.doll.gacha.jwt.entity.UserEntity;
 import com.doll.gacha.jwt.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommunityService {
 
+    // 검색 결과 내용 미리보기 길이
+    private static final int SNIPPET_LENGTH = 80;
+
     private final CommunityRepository communityRepository;
     private final UserRepository userRepository;
+    private final CommunityViewCounter communityViewCounter;
+    private final CommunityHotRanking communityHotRanking;
+    private final CommunityTextIndex communityTextIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시글 작성
@@ -33,29 +48,54 @@ public class CommunityService {
                 .orElseThrow(() -> EntityNotFoundException.of("사용자", username));
         CommunityEntity community = createDTO.toEntity(user);
         CommunityEntity savedCommunity = communityRepository.save(community);
+        eventPublisher.publishEvent(CommunityChangedEvent.upserted(savedCommunity.getId()));
         return savedCommunity.getId();
     }
 
     /**
      * 게시글 목록 조회 / 검색 (페이징)
+     * sort=hot 이면 인기순 (메모리 랭킹, 검색어가 있으면 기간 안의 후보 전체에서 거른 뒤 정렬)
+     * 검색어가 있으면 전문 검색 색인(제목/내용/닉네임)으로 찾고 DB는 ID로만 조회, 제목/내용 하이라이트 포함
      */
     public Page<CommunityDTO> getCommunityList(String searchType, String keyword, Pageable pageable) {
+        if (isHotOrder(pageable)) {
+            return communityHotRanking.getPage(hotFilter(searchType, keyword), pageable);
+        }
+        if (isIndexSearch(keyword)) {
+            Page<CommunityDTO> result = searchByIndex(searchType, keyword, pageable);
+            result.getContent().forEach(dto -> {
+                dto.setTitleHighlight(HighlightUtil.highlight(dto.getTitle(), keyword));
+                dto.setContentHighlight(HighlightUtil.snippet(dto.getContent(), keyword, SNIPPET_LENGTH));
+            });
+            return result;
+        }
         // Repository에서 직접 DTO로 조회 (카운트 쿼리 최적화 포함)
         return communityRepository.searchCommunity(searchType, keyword, pageable);
     }
 
+    /**
+     * 게시글 목록 조회 / 검색 - 커서 방식 (무한 스크롤, count 쿼리 없음)
+     */
+    public CursorResponse<CommunityDTO> getCommunityListByCursor(String searchType, String keyword, String cursor, int size) {
+        return communityRepository.searchCommunityByCursor(searchType, keyword, cursor, size);
+    }
+
     /**
      * 게시글 상세 조회 (조회수 증가)
      * 파일 정보는 클라이언트에서 별도 API로 조회 (/api/files?refId={id}&refType=COMMUNITY)
+     * 조회수는 메모리 카운터에만 올리고 주기적으로 모아서 반영 (CommunityViewCounter) → 읽기 전용 트랜잭션, 행 락 없음
      */
-    @Transactional
     public CommunityDTO getCommunityDetail(Long communityId) {
         CommunityEntity community = communityRepository.findByIdAndIsDeletedFalse(communityId)
             .orElseThrow(() -> EntityNotFoundException.of("게시글", communityId));
 
-        community.incrementViewCount();
+        communityViewCounter.increment(communityId);
+        eventPublisher.publishEvent(new CommunityViewedEvent(communityId));
 
-        return CommunityDTO.from(community, List.of(), List.of());
+        CommunityDTO dto = CommunityDTO.from(community, List.of(), List.of());
+        // 아직 DB에 반영 안 된 조회수까지 포함해서 표시
+        dto.setViewCount((int) (community.getViewCount() + communityViewCounter.pendingOf(communityId)));
+        return dto;
     }
 
     /**
@@ -71,6 +111,7 @@ public class CommunityService {
         }
 
         community.update(updateDTO.getTitle(), updateDTO.getContent());
+        eventPublisher.publishEvent(CommunityChangedEvent.upserted(communityId));
     }
 
     /**
@@ -86,6 +127,66 @@ public class CommunityService {
         }
 
         community.softDelete();
+        eventPublisher.publishEvent(CommunityChangedEvent.deleted(communityId));
+    }
+
+    private boolean isIndexSearch(String keyword) {
+        return keyword != null
+                && HangulUtil.normalize(keyword).length() >= CommunityTextIndex.MIN_QUERY_LENGTH
+                && communityTextIndex.isReady();
+    }
+
+    /**
+     * 전문 검색 (정렬 미지정 또는 sort=relevance 면 관련도순, 그 외는 검색된 ID를 색인 안에서 최신순/댓글순으로 정렬)
+     * 어느 쪽이든 이번 페이지 ID만 DB에서 조회
+     */
+    private Page<CommunityDTO> searchByIndex(String searchType, String keyword, Pageable pageable) {
+        List<Long> rankedIds = communityTextIndex.search(keyword, CommunityTextIndex.Field.of(searchType));
+        List<Long> orderedIds = isRelevanceOrder(pageable)
+                ? rankedIds
+                : communityTextIndex.sort(rankedIds, isCommentCountOrder(pageable));
+
+        int from = (int) Math.min(pageable.getOffset(), orderedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), orderedIds.size());
+        List<CommunityDTO> content = communityRepository.findListByIds(orderedIds.subList(from, to));
+        return new PageImpl<>(content, pageable, orderedIds.size());
+    }
+
+    private boolean isRelevanceOrder(Pageable pageable) {
+        return pageable.getSort().isEmpty()
+                || pageable.getSort().stream().anyMatch(order -> "relevance".equals(order.getProperty()));
+    }
+
+    private boolean isCommentCountOrder(Pageable pageable) {
+        return pageable.getSort().stream().anyMatch(order -> "commentCount".equals(order.getProperty()));
+    }
+
+    private boolean isHotOrder(Pageable pageable) {
+        return pageable.getSort().stream().anyMatch(order -> "hot".equals(order.getProperty()));
+    }
+
+    /**
+     * 인기순 목록의 검색 조건 (searchCommunity와 같은 규칙: 제목/내용/닉네임 부분 일치, 대소문자 무시)
+     */
+    private Predicate<CommunityDTO> hotFilter(String searchType, String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return null;
+        }
+        String lowered = keyword.trim().toLowerCase();
+        Predicate<CommunityDTO> title = dto -> containsIgnoreCase(dto.getTitle(), lowered);
+        Predicate<CommunityDTO> content = dto -> containsIgnoreCase(dto.getContent(), lowered);
+        Predicate<CommunityDTO> nickname = dto -> containsIgnoreCase(dto.getNickname(), lowered);
+        return switch (searchType == null ? "all" : searchType) {
+            case "title" -> title;
+            case "content" -> content;
+            case "nickname" -> nickname;
+            case "all" -> title.or(content).or(nickname);
+            default -> null;
+        };
+    }
+
+    private static boolean containsIgnoreCase(String text, String lowered) {
+        return text != null && text.toLowerCase().contains(lowered);
     }
 
 }
@@ -0,0 +1,303 @@
+package com.doll.gacha.community;
+
+import com.doll.gacha.common.util.HangulUtil;
+import com.doll.gacha.community.event.CommentCountChangedEvent;
+import com.doll.gacha.community.event.CommunityChangedEvent;
+import com.doll.gacha.community.repository.CommunityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 전문 검색용 역색인 (제목/내용/작성자 닉네임, 2글자 n-gram)
+ * - MariaDB FULLTEXT는 ngram 파서가 없어 한글 부분 검색이 안 되므로, 매장 검색(DollShopTextIndex)과 같은 방식의 메모리 색인 사용
+ * - 필드별로 n-gram → 게시글 ID 집합 보관, 검색어의 n-gram 후보를 교집합 → LIKE '%kw%' 전체 스캔 없음
+ * - n-gram 교집합은 후보일 뿐이라("고양 … 양이"도 "고양이"의 n-gram을 모두 가짐) 정규화된 필드 문자열로 검색어 포함 여부를 확인
+ * - 관련도 = Σ 필드 가중치 × 등장 횟수 포화값(tf × (K+1) / (tf + K))  (제목 3 > 닉네임 2 > 내용 1)
+ * - 최신순/댓글순 정렬도 색인 안에서 (작성일/댓글 수 보관) → DB는 이번 페이지 ID만 조회
+ * - 하이라이트는 조회된 페이지에서만 계산 (HighlightUtil)
+ * - 메모리: 정규화 문자열(공백 제거)을 그대로 들고 있으므로 게시글 본문 전체 크기만큼 힙을 더 씀
+ *   (Java 문자열은 한글 1자 2바이트 → 평균 본문 1,000자 × 게시글 10만 개 ≈ 200MB, n-gram posting 별도)
+ *   게시글이 이 규모를 넘으면 본문은 후보만 남기고 포함 확인을 조회한 페이지 행에서 하는 방식으로 바꿔야 함
+ * - 삭제되지 않은 게시글만 보관, CommunityChangedEvent(작성/수정/삭제)로 동기화
+ * - 닉네임 변경은 해당 사용자의 글이 다시 수정될 때 반영됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommunityTextIndex {
+
+    // 검색어 최소 길이 (2글자 n-gram 색인이라 한 글자는 DB LIKE 검색 사용)
+    public static final int MIN_QUERY_LENGTH = 2;
+
+    private static final double TF_SATURATION = 1.2;
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    /**
+     * 검색 대상 필드 (가중치)
+     */
+    public enum Field {
+        TITLE(3.0), NICKNAME(2.0), CONTENT(1.0);
+
+        private final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+
+        /**
+         * 검색 타입 → 필드 (title/nickname/content, 그 외(all/null)는 전체)
+         */
+        public static Set<Field> of(String searchType) {
+            if (searchType == null) {
+                return EnumSet.allOf(Field.class);
+            }
+            return switch (searchType) {
+                case "title" -> EnumSet.of(TITLE);
+                case "nickname" -> EnumSet.of(NICKNAME);
+                case "content" -> EnumSet.of(CONTENT);
+                default -> EnumSet.allOf(Field.class);
+            };
+        }
+    }
+
+    private final CommunityRepository communityRepository;
+
+    // 필드 → n-gram → 게시글 ID 집합
+    private final Map<Field, Map<String, Set<Long>>> postings = new EnumMap<>(Field.class);
+
+    // 게시글 ID → 색인 항목 (필드별 정규화 문자열: 검색어 포함 확인 + 수정/삭제 시 기존 색인 제거용)
+    private final Map<Long, Doc> indexed = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    {
+        for (Field field : Field.values()) {
+            postings.put(field, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 전체 적재 (서버 기동 시) - ID 순으로 LOAD_BATCH_SIZE개씩 나눠 읽음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        postings.values().forEach(Map::clear);
+        indexed.clear();
+
+        long lastId = 0;
+        while (true) {
+            List<CommunityEntity> batch = communityRepository.findAfterIdWithUser(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            batch.forEach(this::add);
+            if (batch.size() < LOAD_BATCH_SIZE) {
+                break;
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+        this.ready = true;
+
+        log.info("게시글 검색 색인 적재 완료 - 게시글 수: {}, n-gram 수: {}, 소요: {}ms",
+                indexed.size(), postings.values().stream().mapToInt(Map::size).sum(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 게시글 작성/수정/삭제 반영 (트랜잭션 커밋 후 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCommunityChanged(CommunityChangedEvent event) {
+        remove(event.getCommunityId());
+        if (!event.isDeleted()) {
+            communityRepository.findByIdWithUser(event.getCommunityId()).ifPresent(this::add);
+        }
+    }
+
+    /**
+     * 키워드 검색 (관련도 높은 순, 같으면 최신(ID 내림차순))
+     * @param keyword 검색어 (공백/대소문자 무시, MIN_QUERY_LENGTH 이상)
+     * @param fields 검색할 필드
+     * @return 게시글 ID 목록
+     */
+    public List<Long> search(String keyword, Set<Field> fields) {
+        String query = HangulUtil.normalize(keyword);
+        if (query.length() < MIN_QUERY_LENGTH) {
+            return List.of();
+        }
+        Set<String> queryGrams = bigramsOf(query);
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (Field field : fields) {
+            for (Long id : intersect(postings.get(field), queryGrams)) {
+                Doc doc = indexed.get(id);
+                int tf = doc == null ? 0 : occurrences(doc.texts.get(field), query);
+                if (tf > 0) {
+                    scores.merge(id, field.weight * tf * (TF_SATURATION + 1) / (tf + TF_SATURATION), Double::sum);
+                }
+            }
+        }
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()));
+        return ranked.stream().map(Map.Entry::getKey).toList();
+    }
+
+    /**
+     * 댓글 수 증감 반영 (트랜잭션 커밋 후 실행, 댓글순 정렬용)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentCountChanged(CommentCountChangedEvent event) {
+        Doc doc = indexed.get(event.getCommunityId());
+        if (doc != null) {
+            doc.comments.addAndGet(event.getDelta());
+        }
+    }
+
+    /**
+     * 검색 결과를 최신순 또는 댓글 많은 순으로 다시 정렬 (DB 조회 없음, searchCommunity와 같은 기준)
+     * - 최신순: 작성일 내림차순, 댓글순: 댓글 수 내림차순 → 같으면 ID 내림차순
+     * - 검색 후 그 사이 삭제된 게시글은 맨 뒤 (조회 시 빠짐)
+     * @param ids search 결과
+     */
+    public List<Long> sort(List<Long> ids, boolean byCommentCount) {
+        Comparator<Doc> order = byCommentCount
+                ? Comparator.comparingLong((Doc doc) -> doc.comments.get()).reversed()
+                : Comparator.comparing((Doc doc) -> doc.createdAt, Comparator.nullsLast(Comparator.reverseOrder()));
+        Map<Long, Doc> docs = new HashMap<>();
+        for (Long id : ids) {
+            Doc doc = indexed.get(id);
+            if (doc != null) {
+                docs.put(id, doc);
+            }
+        }
+        List<Long> sorted = new ArrayList<>(ids);
+        sorted.sort(Comparator.comparing((Long id) -> docs.get(id), Comparator.nullsLast(order))
+                .thenComparing(Comparator.reverseOrder()));
+        return sorted;
+    }
+
+    /**
+     * 기동 직후 적재 전에는 false (이때는 DB LIKE 검색 사용)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void add(CommunityEntity community) {
+        Map<Field, String> texts = new EnumMap<>(Field.class);
+        index(community.getId(), Field.TITLE, community.getTitle(), texts);
+        index(community.getId(), Field.NICKNAME, community.getUser().getNickname(), texts);
+        index(community.getId(), Field.CONTENT, community.getContent(), texts);
+        indexed.put(community.getId(), new Doc(texts, community.getCreatedAt(), community.getCommentCount()));
+    }
+
+    private void index(Long id, Field field, String text, Map<Field, String> texts) {
+        String normalized = HangulUtil.normalize(text);
+        Map<String, Set<Long>> fieldPostings = postings.get(field);
+        for (String gram : bigramsOf(normalized)) {
+            fieldPostings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+        texts.put(field, normalized);
+    }
+
+    private void remove(Long id) {
+        Doc previous = indexed.remove(id);
+        if (previous == null) {
+            return;
+        }
+        previous.texts.forEach((field, text) -> {
+            Map<String, Set<Long>> fieldPostings = postings.get(field);
+            for (String gram : bigramsOf(text)) {
+                Set<Long> posting = fieldPostings.get(gram);
+                if (posting != null) {
+                    posting.remove(id);
+                    if (posting.isEmpty()) {
+                        fieldPostings.remove(gram, posting);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 검색어 n-gram이 모두 들어있는 게시글 (후보 - 검색어가 이어져 있는지는 호출부에서 확인)
+     * 가장 작은 posting부터 확인
+     */
+    private static List<Long> intersect(Map<String, Set<Long>> fieldPostings, Set<String> queryGrams) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : queryGrams) {
+            Set<Long> posting = fieldPostings.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        List<Long> result = new ArrayList<>();
+        for (Long candidate : lists.get(0)) {
+            boolean all = true;
+            for (int i = 1; i < lists.size() && all; i++) {
+                all = lists.get(i).contains(candidate);
+            }
+            if (all) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 필드 문자열 안의 검색어 등장 횟수 (겹쳐서 나오는 것도 셈, 0 = 검색어 없음)
+     */
+    private static int occurrences(String text, String query) {
+        if (text == null) {
+            return 0;
+        }
+        int count = 0;
+        for (int from = text.indexOf(query); from >= 0; from = text.indexOf(query, from + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    private static Set<String> bigramsOf(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 1 < text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 색인 항목 (필드별 정규화 문자열 + 정렬용 작성일/댓글 수)
+     */
+    private static class Doc {
+        private final Map<Field, String> texts;
+        private final LocalDateTime createdAt;
+        private final AtomicLong comments;
+
+        Doc(Map<Field, String> texts, LocalDateTime createdAt, Long commentCount) {
+            this.texts = texts;
+            this.createdAt = createdAt;
+            this.comments = new AtomicLong(commentCount != null ? commentCount : 0);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.doll.gacha.community;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 모아서 쓰기 (write-behind)
+ * - 상세 조회마다 community 행을 UPDATE 하면 인기 글 하나에 모든 조회가 행 락으로 줄을 섬
+ * - 조회 시에는 메모리 카운터(게시글별 LongAdder)만 올리고, 몇 초마다 쌓인 증가분을 UPDATE ... CASE 한 문장으로 반영
+ * - 서버 종료 시에도 남은 증가분 반영, 반영 실패 시 다음 주기에 다시 시도
+ * - 조회 응답은 DB 값 + 아직 반영 안 된 증가분 (pending) 으로 보여줌
+ * - 서버가 비정상 종료되면 마지막 주기의 증가분은 잃을 수 있음 (조회수는 근사값 허용)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommunityViewCounter {
+
+    // 한 UPDATE 문에 넣을 최대 게시글 수
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 게시글 ID → 아직 DB에 반영 안 된 조회수
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가 (메모리만, 락 없음)
+     */
+    public void increment(Long communityId) {
+        LongAdder adder = pending.computeIfAbsent(communityId, id -> new LongAdder());
+        adder.increment();
+        // 받아온 직후 flush가 빈 카운터로 보고 지웠다면 떨어져 나간 카운터에 올린 것 → 맵에 있는 카운터로 옮김
+        if (pending.get(communityId) != adder) {
+            moveToPending(communityId, adder);
+        }
+    }
+
+    /**
+     * 아직 DB에 반영 안 된 조회수
+     */
+    public long pendingOf(Long communityId) {
+        LongAdder adder = pending.get(communityId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 쌓인 증가분을 DB에 반영
+     * - 카운터는 지우지 않고 0으로 되돌림 (반영 중 들어온 조회가 지운 카운터에 쌓여 사라지지 않도록)
+     * - 한 주기 동안 조회가 없던 게시글의 카운터만 정리
+     *   (지운 카운터에 늦게 올라간 조회는 increment/flush 양쪽에서 다시 확인해서 맵으로 옮김 → 잃지 않음)
+     */
+    @Scheduled(fixedDelayString = "${community.view-count.flush-ms:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        pending.forEach((id, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(id, delta);
+            } else if (pending.remove(id, adder)) {
+                // 지우는 사이에 들어온 조회는 맵에 새 카운터로 되돌림
+                moveToPending(id, adder);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        for (int from = 0; from < entries.size(); from += FLUSH_CHUNK_SIZE) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, entries.size()));
+            try {
+                update(chunk);
+            } catch (RuntimeException e) {
+                // 실패한 증가분은 카운터에 되돌려서 다음 주기에 다시 반영
+                chunk.forEach(entry -> pending.computeIfAbsent(entry.getKey(), id -> new LongAdder()).add(entry.getValue()));
+                log.warn("게시글 조회수 반영 실패 - 게시글 수: {}, 다음 주기에 재시도: {}", chunk.size(), e.getMessage());
+            }
+        }
+        log.debug("게시글 조회수 반영 - 게시글 수: {}", deltas.size());
+    }
+
+    /**
+     * 맵에서 빠진 카운터에 남은 값을 맵의 카운터로 옮김 (sumThenReset이라 두 쪽에서 같이 불러도 한 번만 옮겨짐)
+     */
+    private void moveToPending(Long communityId, LongAdder detached) {
+        long late = detached.sumThenReset();
+        if (late > 0) {
+            pending.computeIfAbsent(communityId, id -> new LongAdder()).add(late);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * UPDATE community SET view_count = view_count + CASE id WHEN ? THEN ? ... END WHERE id IN (?, ...)
+     * updated_at은 건드리지 않음 (조회는 글 수정이 아님)
+     */
+    private void update(List<Map.Entry<Long, Long>> chunk) {
+        StringBuilder sql = new StringBuilder("UPDATE community SET view_count = view_count + CASE id");
+        List<Object> args = new ArrayList<>(chunk.size() * 3);
+        for (Map.Entry<Long, Long> entry : chunk) {
+            sql.append(" WHEN ? THEN ?");
+            args.add(entry.getKey());
+            args.add(entry.getValue());
+        }
+        sql.append(" ELSE 0 END WHERE id IN (");
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+            args.add(chunk.get(i).getKey());
+        }
+        sql.append(")");
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
@@ -12,9 +12,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/comments")
@@ -35,6 +37,15 @@ public class CommentController {
         return ResponseEntity.ok(ApiResponse.success("댓글 목록 조회 성공", PageResponse.from(comments)));
     }
 
+    /**
+     * 특정 게시글의 실시간 댓글 스트림 (SSE)
+     * - 이벤트 이름: created / updated / deleted, data: CommentDTO
+     */
+    @GetMapping(value = "/community/{communityId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(@PathVariable Long communityId) {
+        return commentService.subscribeComments(communityId);
+    }
+
     /**
      * 댓글 작성 (로그인 필요)
      */
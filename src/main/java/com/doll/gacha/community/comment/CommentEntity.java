@@ -4,17 +4,31 @@ import com.doll.gacha.community.CommunityEntity;
 import com.doll.gacha.jwt.entity.UserEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+        @Index(name = "idx_comment_community_thread", columnList = "community_id, depth, id"),
+        @Index(name = "idx_comment_root_path", columnList = "root_id, path"),
+        // 게시글 댓글 수 보정 (community_id별 삭제 안 된 댓글 COUNT)
+        @Index(name = "idx_comment_community_deleted", columnList = "community_id, is_deleted"),
+        // 보관 대상 (오래전에 삭제된 댓글) 조회
+        @Index(name = "idx_comment_deleted_updated", columnList = "is_deleted, updated_at")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class CommentEntity {
 
+    // 답글 최대 깊이 (최상위 댓글 0 → 답글 1 → 답글의 답글 2)
+    public static final int MAX_DEPTH = 2;
+
+    // 경로 한 칸 길이 (ID를 0으로 채운 고정 길이 → 문자열 정렬 = 트리 순서)
+    static final int PATH_SEGMENT_LENGTH = 12;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -32,6 +46,33 @@ public class CommentEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // 부모 댓글 (최상위 댓글이면 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    private CommentEntity parent;
+
+    // 스레드(최상위 댓글) ID - 최상위 댓글은 자기 자신
+    @Column(name = "root_id")
+    private Long rootId;
+
+    // 경로 (materialized path) - 최상위부터 자기까지 ID를 PATH_SEGMENT_LENGTH 자리로 이어붙인 값
+    // 예) 000000000007 → 000000000007000000000012 → ...
+    // root_id + path 인덱스 한 번 훑으면 스레드 전체가 트리 순서(부모 → 자식, 형제는 작성순)로 나옴
+    @Column(length = (MAX_DEPTH + 1) * PATH_SEGMENT_LENGTH)
+    private String path;
+
+    // 깊이 (최상위 0)
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer depth = 0;
+
+    // 스레드의 삭제되지 않은 답글 수 (최상위 댓글에만 유지, 답글 작성/삭제 시 증감)
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long replyCount = 0L;
+
     // 삭제 여부
     @Column(nullable = false)
     @Builder.Default
@@ -47,6 +88,18 @@ public class CommentEntity {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        depth = parent == null ? 0 : parent.getDepth() + 1;
+    }
+
+    /**
+     * 경로/스레드 ID 채우기 (IDENTITY라 INSERT 후에야 ID를 알 수 있음 → 같은 트랜잭션 flush 때 UPDATE)
+     */
+    @PostPersist
+    protected void onPersisted() {
+        if (path == null) {
+            path = (parent == null ? "" : parent.getPath()) + pathSegment(id);
+            rootId = parent == null ? id : parent.getRootId();
+        }
     }
 
     @PreUpdate
@@ -73,11 +126,28 @@ public class CommentEntity {
         this.isDeleted = true;
     }
 
+    /**
+     * 최상위 댓글 여부
+     */
+    public boolean isRoot() {
+        return this.parent == null;
+    }
+
+    /**
+     * 답글을 더 달 수 있는 깊이인지
+     */
+    public boolean canReply() {
+        return this.depth < MAX_DEPTH;
+    }
+
     /**
      * 작성자 확인
      */
     public boolean isWrittenBy(String username) {
         return this.user != null && this.user.getUsername().equals(username);
     }
-}
 
+    static String pathSegment(Long id) {
+        return String.format("%0" + PATH_SEGMENT_LENGTH + "d", id);
+    }
+}
@@ -0,0 +1,185 @@
+package com.doll.gacha.community.comment;
+
+import com.doll.gacha.community.comment.dto.CommentDTO;
+import com.doll.gacha.community.event.CommentChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 게시글별 댓글 첫 페이지 캐시 (스레드 목록 + 전체 스레드 수)
+ * - 상세 화면 대부분이 첫 페이지만 보므로 자주 보는 게시글은 SQL 없이 응답
+ * - 크기 제한(기본 1만 게시글, 자주 보는 게시글 위주로 남음) + TTL (다른 서버 변경 반영 한도)
+ * - 댓글 작성/수정/삭제는 커밋 후 캐시된 페이지에 바로 반영 (버리고 다시 조회하지 않음)
+ *   단, 최상위 댓글이 목록에서 빠지는 경우는 다음 스레드를 채워야 하므로 그 게시글만 제거
+ * - 캐시된 페이지는 읽기 전용 스냅샷, 반영할 때는 복사본을 고쳐서 통째로 교체
+ */
+@Component
+public class CommentFirstPageCache {
+
+    private final Cache<Long, CachedPage> cache;
+    private final int pageSize;
+
+    public CommentFirstPageCache(
+            @Value("${community.comment-cache.max-size:10000}") long maxSize,
+            @Value("${community.comment-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${community.comment-cache.page-size:10}") int pageSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * 캐시하는 첫 페이지 크기 (이 크기의 0페이지 요청만 캐시 사용)
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * 첫 페이지 조회 (없으면 loader로 채움, loader 예외는 그대로 전달하고 저장 안 함)
+     * - 쓰기 트랜잭션 안에서 호출되면 캐시를 거치지 않음 (커밋 안 된 댓글이 캐시에 들어가지 않도록)
+     */
+    public Page<CommentDTO> get(Long communityId, Function<Long, Page<CommentDTO>> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return loader.apply(communityId);
+        }
+        CachedPage page = cache.get(communityId, id -> {
+            Page<CommentDTO> loaded = loader.apply(id);
+            return new CachedPage(Collections.unmodifiableList(loaded.getContent()), loaded.getTotalElements());
+        });
+        return new PageImpl<>(page.threads, PageRequest.of(0, pageSize), page.total);
+    }
+
+    public void evict(Long communityId) {
+        cache.invalidate(communityId);
+    }
+
+    /**
+     * 댓글 변경 반영 (트랜잭션 커밋 후 실행, 캐시된 게시글만)
+     * - 이미 반영된 변경(캐시를 채운 조회가 커밋 후에 읽은 경우)은 다시 반영하지 않음
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        cache.asMap().computeIfPresent(event.getCommunityId(), (id, page) -> apply(page, event));
+    }
+
+    /**
+     * 복사본에 변경 반영 (null 반환 = 캐시에서 제거)
+     */
+    private CachedPage apply(CachedPage page, CommentChangedEvent event) {
+        CommentDTO changed = event.getComment();
+        List<CommentDTO> threads = copyOf(page.threads);
+        long total = page.total;
+
+        CommentDTO target = find(threads, changed.getId());
+        switch (event.getType()) {
+            case CREATED -> {
+                if (target != null) {
+                    return page;
+                }
+                CommentDTO created = changed.toBuilder().replies(new ArrayList<>()).build();
+                if (changed.getParentId() == null) {
+                    threads.add(0, created);
+                    if (threads.size() > pageSize) {
+                        threads.remove(threads.size() - 1);
+                    }
+                    total++;
+                } else {
+                    CommentDTO parent = find(threads, changed.getParentId());
+                    if (parent == null) {
+                        return page;
+                    }
+                    parent.getReplies().add(created);
+                    addReplyCount(rootOf(threads, parent.getId()), 1);
+                }
+            }
+            case UPDATED -> {
+                if (target == null) {
+                    return page;
+                }
+                target.setContent(changed.getContent());
+                target.setUpdatedAt(changed.getUpdatedAt());
+            }
+            case DELETED -> {
+                if (target == null || Boolean.TRUE.equals(target.getDeleted())) {
+                    return page;
+                }
+                if (changed.getParentId() == null) {
+                    return null;
+                }
+                CommentDTO root = rootOf(threads, target.getId());
+                target.setDeleted(true);
+                target.setContent(changed.getContent());
+                target.setUserId(null);
+                target.setUsername(null);
+                target.setNickname(null);
+                addReplyCount(root, -1);
+                if (root.pruneDeleted()) {
+                    return null;
+                }
+            }
+        }
+        return new CachedPage(Collections.unmodifiableList(threads), total);
+    }
+
+    private static void addReplyCount(CommentDTO root, long delta) {
+        long current = root.getReplyCount() != null ? root.getReplyCount() : 0L;
+        root.setReplyCount(Math.max(current + delta, 0L));
+    }
+
+    private static List<CommentDTO> copyOf(List<CommentDTO> comments) {
+        List<CommentDTO> copies = new ArrayList<>(comments.size());
+        for (CommentDTO comment : comments) {
+            copies.add(comment.toBuilder().replies(copyOf(comment.getReplies())).build());
+        }
+        return copies;
+    }
+
+    private static CommentDTO find(List<CommentDTO> comments, Long id) {
+        for (CommentDTO comment : comments) {
+            if (comment.getId().equals(id)) {
+                return comment;
+            }
+            CommentDTO found = find(comment.getReplies(), id);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    private static CommentDTO rootOf(List<CommentDTO> threads, Long id) {
+        for (CommentDTO thread : threads) {
+            if (find(List.of(thread), id) != null) {
+                return thread;
+            }
+        }
+        return null;
+    }
+
+    private static final class CachedPage {
+        private final List<CommentDTO> threads;
+        private final long total;
+
+        private CachedPage(List<CommentDTO> threads, long total) {
+            this.threads = threads;
+            this.total = total;
+        }
+    }
+}
@@ -1,20 +1,33 @@
 package com.doll.gacha.community.comment;
 
 import com.doll.gacha.common.exception.AccessDeniedException;
+import com.doll.gacha.common.exception.BusinessRuleException;
 import com.doll.gacha.common.exception.EntityNotFoundException;
 import com.doll.gacha.community.CommunityEntity;
 import com.doll.gacha.community.comment.dto.CommentCreateDTO;
 import com.doll.gacha.community.comment.dto.CommentDTO;
 import com.doll.gacha.community.comment.dto.CommentUpdateDTO;
 import com.doll.gacha.community.comment.repository.CommentRepository;
+import com.doll.gacha.community.event.CommentChangedEvent;
+import com.doll.gacha.community.event.CommentCountChangedEvent;
 import com.doll.gacha.community.repository.CommunityRepository;
 import com.doll.gacha.jwt.entity.UserEntity;
 import com.doll.gacha.jwt.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -24,13 +37,46 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final CommunityRepository communityRepository;
     private final UserRepository userRepository;
+    private final CommentStreamHub commentStreamHub;
+    private final CommentFirstPageCache commentFirstPageCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 특정 게시글의 댓글 목록 조회 (페이징)
+     * 특정 게시글의 댓글 목록 조회 (스레드 단위 페이징, 최신 스레드순)
+     * - 기본 크기의 첫 페이지는 CommentFirstPageCache에서 (상세 화면 대부분이 첫 페이지만 봄)
      */
     public Page<CommentDTO> getCommentsByCommunityId(Long communityId, Pageable pageable) {
-        return commentRepository.findByCommunityIdWithUser(communityId, pageable)
-                .map(CommentDTO::from);
+        if (pageable.getPageNumber() == 0 && pageable.getPageSize() == commentFirstPageCache.getPageSize()) {
+            return commentFirstPageCache.get(communityId, id -> loadThreadPage(id, pageable));
+        }
+        return loadThreadPage(communityId, pageable);
+    }
+
+    /**
+     * 스레드 페이지 DB 조회
+     * - 쿼리 2번 고정: 스레드 ID 페이지 + 그 스레드들의 댓글 전체 (path 순)
+     * - 답글은 replies에 트리로 담김, 삭제된 댓글은 살아있는 답글이 있을 때만 자리 표시
+     */
+    private Page<CommentDTO> loadThreadPage(Long communityId, Pageable pageable) {
+        Page<Long> rootIds = commentRepository.findThreadRootIds(
+                communityId, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        if (rootIds.isEmpty()) {
+            return new PageImpl<>(List.of(), rootIds.getPageable(), rootIds.getTotalElements());
+        }
+
+        List<CommentDTO> threads = buildThreads(commentRepository.findThreadsWithUser(rootIds.getContent()));
+        return new PageImpl<>(threads, rootIds.getPageable(), rootIds.getTotalElements());
+    }
+
+    /**
+     * 게시글 실시간 댓글 스트림 구독 (SSE - created/updated/deleted 이벤트, data는 CommentDTO)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public SseEmitter subscribeComments(Long communityId) {
+        if (!communityRepository.existsById(communityId)) {
+            throw EntityNotFoundException.of("게시글", communityId);
+        }
+        return commentStreamHub.subscribe(communityId);
     }
 
     /**
@@ -44,9 +90,21 @@ public class CommentService {
         UserEntity user = userRepository.findByUsername(username)
                 .orElseThrow(() -> EntityNotFoundException.of("사용자", username));
 
-        CommentEntity comment = createDTO.toEntity(community, user);
+        CommentEntity parent = createDTO.getParentId() != null
+                ? findReplyParent(createDTO.getParentId(), community.getId())
+                : null;
+
+        CommentEntity comment = createDTO.toEntity(community, user, parent);
+        CommentEntity saved = commentRepository.save(comment);
+        if (parent != null) {
+            commentRepository.addReplyCount(saved.getRootId(), 1);
+        }
+        communityRepository.addCommentCount(community.getId(), 1);
+        eventPublisher.publishEvent(CommentCountChangedEvent.added(community.getId()));
 
-        return CommentDTO.from(commentRepository.save(comment));
+        CommentDTO created = CommentDTO.from(saved);
+        eventPublisher.publishEvent(CommentChangedEvent.created(created));
+        return created;
     }
 
     /**
@@ -56,7 +114,12 @@ public class CommentService {
     public CommentDTO updateComment(Long commentId, CommentUpdateDTO updateDTO, String username) {
         CommentEntity comment = findCommentByIdAndValidateUser(commentId, username);
         comment.update(updateDTO.getContent());
-        return CommentDTO.from(comment);
+        // 수정 시각은 flush 때 @PreUpdate에서 바뀌므로 먼저 flush 해야 캐시/실시간 이벤트에 새 시각이 담김
+        commentRepository.flush();
+
+        CommentDTO updated = CommentDTO.from(comment);
+        eventPublisher.publishEvent(CommentChangedEvent.updated(updated));
+        return updated;
     }
 
     /**
@@ -66,6 +129,54 @@ public class CommentService {
     public void deleteComment(Long commentId, String username) {
         CommentEntity comment = findCommentByIdAndValidateUser(commentId, username);
         comment.softDelete();
+        CommentDTO deleted = CommentDTO.from(comment);
+        if (!comment.isRoot()) {
+            commentRepository.addReplyCount(comment.getRootId(), -1);
+        }
+        Long communityId = comment.getCommunity().getId();
+        communityRepository.addCommentCount(communityId, -1);
+        eventPublisher.publishEvent(CommentCountChangedEvent.removed(communityId));
+        eventPublisher.publishEvent(CommentChangedEvent.deleted(deleted));
+    }
+
+    /**
+     * 답글을 달 부모 댓글 조회 및 검증 (같은 게시글, 삭제 안 됨, 최대 깊이 미만)
+     */
+    private CommentEntity findReplyParent(Long parentId, Long communityId) {
+        CommentEntity parent = commentRepository.findById(parentId)
+                .orElseThrow(() -> EntityNotFoundException.of("댓글", parentId));
+
+        if (!parent.getCommunity().getId().equals(communityId)) {
+            throw new BusinessRuleException("같은 게시글의 댓글에만 답글을 달 수 있습니다.");
+        }
+        if (Boolean.TRUE.equals(parent.getIsDeleted())) {
+            throw new BusinessRuleException("삭제된 댓글에는 답글을 달 수 없습니다.");
+        }
+        if (!parent.canReply()) {
+            throw new BusinessRuleException("답글은 최대 " + CommentEntity.MAX_DEPTH + "단계까지 달 수 있습니다.");
+        }
+        return parent;
+    }
+
+    /**
+     * path 순으로 정렬된 댓글들을 스레드 트리로 조립 (부모가 항상 자식보다 먼저 나옴)
+     * 삭제된 댓글 중 아래에 살아있는 답글이 없는 것은 제외
+     */
+    private List<CommentDTO> buildThreads(List<CommentEntity> comments) {
+        Map<Long, CommentDTO> byId = new HashMap<>();
+        List<CommentDTO> roots = new ArrayList<>();
+        for (CommentEntity comment : comments) {
+            CommentDTO dto = CommentDTO.from(comment);
+            byId.put(dto.getId(), dto);
+            CommentDTO parent = dto.getParentId() != null ? byId.get(dto.getParentId()) : null;
+            if (parent != null) {
+                parent.getReplies().add(dto);
+            } else if (dto.getParentId() == null) {
+                roots.add(dto);
+            }
+        }
+        roots.removeIf(CommentDTO::pruneDeleted);
+        return roots;
     }
 
     /**
@@ -0,0 +1,170 @@
+package com.doll.gacha.community.comment;
+
+import com.doll.gacha.community.event.CommentChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게시글별 실시간 댓글 스트림 (SSE fan-out)
+ * - 게시글 상세를 보는 동안 댓글 목록을 다시 조회(폴링)하지 않도록 댓글 작성/수정/삭제를 커밋 후 밀어줌
+ * - 연결은 서블릿 비동기(SseEmitter)라 대기 중인 구독자는 스레드를 잡지 않음
+ *   (Java 17이라 가상 스레드 대신, 보낼 것이 있을 때만 전송 전용 풀에서 잠깐 씀)
+ * - 구독자마다 크기 제한 큐 → 큐가 꽉 찬(못 따라오는) 구독자는 연결을 끊음 (브라우저 EventSource가 재접속)
+ * - 구독자마다 전송은 한 번에 한 스레드만 (draining 플래그), 이벤트 순서 유지
+ * - 주기적으로 heartbeat를 보내서 끊긴 연결 정리 + 프록시 유휴 타임아웃 방지
+ */
+@Component
+@Slf4j
+public class CommentStreamHub {
+
+    private final long timeoutMillis;
+    private final int queueSize;
+    private final ThreadPoolTaskExecutor sender;
+
+    // 게시글 ID → 구독자들
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    public CommentStreamHub(
+            @Value("${community.comment-stream.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${community.comment-stream.queue-size:32}") int queueSize,
+            @Value("${community.comment-stream.send-threads:4}") int sendThreads) {
+        this.timeoutMillis = timeoutMillis;
+        this.queueSize = queueSize;
+
+        this.sender = new ThreadPoolTaskExecutor();
+        this.sender.setCorePoolSize(sendThreads);
+        this.sender.setMaxPoolSize(sendThreads);
+        this.sender.setThreadNamePrefix("comment-stream-");
+        this.sender.initialize();
+    }
+
+    /**
+     * 게시글 댓글 스트림 구독 (연결이 끝나면 알아서 빠짐)
+     */
+    public SseEmitter subscribe(Long communityId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(communityId, emitter, new ArrayBlockingQueue<>(queueSize));
+
+        subscribers.computeIfAbsent(communityId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // 연결 직후 한 번 보내서 응답 헤더를 바로 내보냄
+        offer(subscriber, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    /**
+     * 댓글 변경 전달 (트랜잭션 커밋 후 실행, 롤백되면 안 보냄)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.getCommunityId());
+        if (targets == null) {
+            return;
+        }
+        for (Subscriber subscriber : targets) {
+            offer(subscriber, SseEmitter.event()
+                    .name(event.getType().name().toLowerCase(Locale.ROOT))
+                    .id(String.valueOf(event.getComment().getId()))
+                    .data(event.getComment()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${community.comment-stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        subscribers.values().forEach(targets -> targets.forEach(
+                subscriber -> offer(subscriber, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    public int subscriberCount(Long communityId) {
+        Set<Subscriber> targets = subscribers.get(communityId);
+        return targets != null ? targets.size() : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+        sender.shutdown();
+    }
+
+    /**
+     * 구독자 큐에 넣고 전송 예약 (큐가 꽉 차면 느린 구독자로 보고 연결 종료)
+     */
+    private void offer(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.queue.offer(event)) {
+            log.debug("댓글 스트림 구독자 전송 지연으로 연결 종료 - 게시글 ID: {}", subscriber.communityId);
+            remove(subscriber);
+            subscriber.emitter.complete();
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * 구독자 큐를 비울 때까지 전송 (구독자당 한 스레드만)
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었거나 이미 끝난 연결
+            remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // 플래그를 내리는 사이에 들어온 이벤트가 있으면 다시 예약
+        if (!subscriber.queue.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.queue.clear();
+        subscribers.computeIfPresent(subscriber.communityId, (id, targets) -> {
+            targets.remove(subscriber);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+
+    private static final class Subscriber {
+        private final Long communityId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+
+        private Subscriber(Long communityId, SseEmitter emitter, BlockingQueue<SseEmitter.SseEventBuilder> queue) {
+            this.communityId = communityId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.doll.gacha.community.comment;
+
+import com.doll.gacha.community.comment.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 댓글 스레드 컬럼(path, root_id, reply_count) 보정 작업
+ * - 스레드 컬럼 추가 전에 작성된 댓글은 path가 비어 있음 → 최상위 댓글로 채움
+ * - 답글 수는 CommentService가 증감으로 맞추지만, SQL 직접 수정 등으로 어긋날 수 있음
+ * - 서버 기동 시 + 매일 새벽(기본 04:40)에 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommentThreadReconciler {
+
+    private final CommentRepository commentRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${community.comment-thread.reconcile-cron:0 40 4 * * *}")
+    @Transactional
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        int filled = commentRepository.backfillRootPaths();
+        int fixed = commentRepository.reconcileReplyCounts();
+
+        log.info("댓글 스레드 보정 완료 - 경로 채운 댓글 수: {}, 답글 수 보정된 스레드 수: {}, 소요: {}ms",
+                filled, fixed, System.currentTimeMillis() - start);
+    }
+}
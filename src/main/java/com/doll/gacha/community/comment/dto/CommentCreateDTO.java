@@ -24,10 +24,14 @@ public class CommentCreateDTO {
     @NotBlank(message = "댓글 내용은 필수입니다")
     private String content;
 
-    public CommentEntity toEntity(CommunityEntity community, UserEntity user) {
+    // 답글이면 부모 댓글 ID (최상위 댓글이면 null)
+    private Long parentId;
+
+    public CommentEntity toEntity(CommunityEntity community, UserEntity user, CommentEntity parent) {
         return CommentEntity.builder()
                 .community(community)
                 .user(user)
+                .parent(parent)
                 .content(this.content)
                 .build();
     }
@@ -8,18 +8,28 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class CommentDTO {
 
+    private static final String DELETED_CONTENT = "삭제된 댓글입니다.";
+
     private Long id;
     private Long communityId;
     private String content;
 
+    // 스레드 정보
+    private Long parentId;
+    private Integer depth;
+    private Long replyCount;   // 최상위 댓글만 의미 있음 (스레드의 답글 수)
+    private Boolean deleted;   // 삭제됐지만 답글이 남아 있어 자리만 표시하는 댓글
+
     // 작성자 정보
     private Long userId;
     private String username;
@@ -28,20 +38,41 @@ public class CommentDTO {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // 답글 (트리 순서)
+    @Builder.Default
+    private List<CommentDTO> replies = new ArrayList<>();
+
     /**
-     * Entity -> DTO 변환
+     * Entity -> DTO 변환 (삭제된 댓글은 내용/작성자 숨김)
      */
     public static CommentDTO from(CommentEntity entity) {
-        return CommentDTO.builder()
+        boolean deleted = Boolean.TRUE.equals(entity.getIsDeleted());
+        CommentDTOBuilder builder = CommentDTO.builder()
                 .id(entity.getId())
                 .communityId(entity.getCommunity().getId())
+                .parentId(entity.getParent() != null ? entity.getParent().getId() : null)
+                .depth(entity.getDepth())
+                .replyCount(entity.getReplyCount())
+                .deleted(deleted)
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt());
+
+        if (deleted) {
+            return builder.content(DELETED_CONTENT).build();
+        }
+        return builder
                 .content(entity.getContent())
                 .userId(entity.getUser().getId())
                 .username(entity.getUser().getUsername())
                 .nickname(entity.getUser().getNickname())
-                .createdAt(entity.getCreatedAt())
-                .updatedAt(entity.getUpdatedAt())
                 .build();
     }
-}
 
+    /**
+     * 삭제된 댓글만 남은 답글 가지 제거 (자기 자신도 지워야 하면 true)
+     */
+    public boolean pruneDeleted() {
+        replies.removeIf(CommentDTO::pruneDeleted);
+        return Boolean.TRUE.equals(deleted) && replies.isEmpty();
+    }
+}
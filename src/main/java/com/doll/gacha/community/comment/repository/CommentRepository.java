@@ -4,51 +4,67 @@ import com.doll.gacha.community.comment.CommentEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Repository
 public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
 
     /**
-     * 특정 게시글의 댓글 목록 조회 (삭제되지 않은 것만, User fetch join으로 N+1 방지, 페이징)
+     * 특정 게시글의 스레드(최상위 댓글) ID 목록 (최신순, 페이징)
+     * - 삭제된 최상위 댓글도 살아있는 답글이 있으면 포함 ("삭제된 댓글입니다"로 표시)
+     * - (community_id, depth, id) 인덱스 사용
      */
-    @Query(value = "SELECT c FROM CommentEntity c " +
-           "JOIN FETCH c.user " +
+    @Query(value = "SELECT c.id FROM CommentEntity c " +
            "WHERE c.community.id = :communityId " +
-           "AND c.isDeleted = false " +
-           "ORDER BY c.createdAt DESC",
-           countQuery = "SELECT count(c) FROM CommentEntity c WHERE c.community.id = :communityId AND c.isDeleted = false")
-    Page<CommentEntity> findByCommunityIdWithUser(@Param("communityId") Long communityId, Pageable pageable);
+           "AND c.depth = 0 " +
+           "AND (c.isDeleted = false OR c.replyCount > 0) " +
+           "ORDER BY c.id DESC",
+           countQuery = "SELECT count(c) FROM CommentEntity c WHERE c.community.id = :communityId " +
+                   "AND c.depth = 0 AND (c.isDeleted = false OR c.replyCount > 0)")
+    Page<Long> findThreadRootIds(@Param("communityId") Long communityId, Pageable pageable);
+
+    /**
+     * 여러 스레드의 댓글 전체 (삭제된 것 포함, User fetch join으로 N+1 방지)
+     * - (root_id, path) 인덱스 범위 조회 한 번, 재귀 쿼리 없음
+     * - 스레드 최신순, 스레드 안은 path 순 (부모 → 자식, 형제는 작성순)
+     */
+    @Query("SELECT c FROM CommentEntity c " +
+           "JOIN FETCH c.user " +
+           "WHERE c.rootId IN :rootIds " +
+           "ORDER BY c.rootId DESC, c.path ASC")
+    List<CommentEntity> findThreadsWithUser(@Param("rootIds") List<Long> rootIds);
 
+    /**
+     * 스레드 답글 수 증감 (DB에서 원자적으로, 0 미만으로는 안 내려감)
+     * 네이티브 쿼리라 실행 전 flush, 실행 후 영속성 컨텍스트 clear
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE comment SET reply_count = GREATEST(reply_count + :delta, 0) WHERE id = :rootId", nativeQuery = true)
+    int addReplyCount(@Param("rootId") Long rootId, @Param("delta") long delta);
 
     /**
-     * 여러 게시글의 댓글 개수를 한 번에 조회 (IN 쿼리로 N+1 방지)
+     * 경로가 비어 있는 최상위 댓글 채우기 (스레드 컬럼 추가 전에 작성된 댓글, 채운 개수 반환)
      */
-    @Query("SELECT c.community.id, COUNT(c) FROM CommentEntity c " +
-           "WHERE c.community.id IN :communityIds " +
-           "AND c.isDeleted = false " +
-           "GROUP BY c.community.id")
-    List<Object[]> countByCommunityIdsGrouped(@Param("communityIds") List<Long> communityIds);
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE comment SET root_id = id, path = LPAD(id, 12, '0'), depth = 0" +
+            " WHERE parent_id IS NULL AND path IS NULL",
+            nativeQuery = true)
+    int backfillRootPaths();
 
     /**
-     * 여러 게시글의 댓글 개수를 Map으로 반환 (편의 메서드)
+     * 답글 기준으로 어긋난 스레드 답글 수 보정 (보정된 스레드 수 반환)
      */
-    default Map<Long, Long> countByCommunityIdsAsMap(List<Long> communityIds) {
-        if (communityIds == null || communityIds.isEmpty()) {
-            return Map.of();
-        }
-
-        return countByCommunityIdsGrouped(communityIds).stream()
-                .collect(Collectors.toMap(
-                        result -> (Long) result[0],  // community.id
-                        result -> (Long) result[1]   // count
-                ));
-    }
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE comment r" +
+            " LEFT JOIN (SELECT m.root_id, COUNT(*) AS cnt FROM comment m" +
+            "            WHERE m.depth > 0 AND m.is_deleted = false GROUP BY m.root_id) t ON t.root_id = r.id" +
+            " SET r.reply_count = COALESCE(t.cnt, 0)" +
+            " WHERE r.depth = 0 AND r.reply_count <> COALESCE(t.cnt, 0)",
+            nativeQuery = true)
+    int reconcileReplyCounts();
 }
-
@@ -22,6 +22,8 @@ public class CommunityDTO {
     private Long commentCount;            // 댓글 수
     private List<String> imageUrls;       // 이미지 URL 리스트
     private List<FileInfoDTO> attachments; // 첨부파일 정보 리스트
+    private String titleHighlight;        // 검색 시 제목 하이라이트 (HTML 이스케이프 + <mark>, 검색이 아니면 null)
+    private String contentHighlight;      // 검색 시 내용 중 일치 부분 미리보기 (HTML 이스케이프 + <mark>)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -41,7 +43,7 @@ public class CommunityDTO {
                 .title(entity.getTitle())
                 .content(entity.getContent())
                 .viewCount(entity.getViewCount())
-                .commentCount(0L)  // 기본값, 실제 값은 Repository에서 설정
+                .commentCount(entity.getCommentCount())
                 .imageUrls(imageUrls)
                 .attachments(attachments)
                 .createdAt(entity.getCreatedAt())
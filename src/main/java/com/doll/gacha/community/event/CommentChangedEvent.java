@@ -0,0 +1,38 @@
+package com.doll.gacha.community.event;
+
+import com.doll.gacha.community.comment.dto.CommentDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 댓글 작성/수정/삭제 이벤트 (CommentService에서 발행)
+ * - 실시간 댓글 스트림(SSE) 구독자에게 커밋 후 전달
+ * - 삭제 시 comment는 내용/작성자가 가려진 상태 (CommentDTO.from 규칙)
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommentChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final CommentDTO comment;
+
+    public Long getCommunityId() {
+        return comment.getCommunityId();
+    }
+
+    public static CommentChangedEvent created(CommentDTO comment) {
+        return new CommentChangedEvent(Type.CREATED, comment);
+    }
+
+    public static CommentChangedEvent updated(CommentDTO comment) {
+        return new CommentChangedEvent(Type.UPDATED, comment);
+    }
+
+    public static CommentChangedEvent deleted(CommentDTO comment) {
+        return new CommentChangedEvent(Type.DELETED, comment);
+    }
+}
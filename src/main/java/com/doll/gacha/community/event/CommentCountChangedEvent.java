@@ -0,0 +1,22 @@
+package com.doll.gacha.community.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 댓글 수 변경 이벤트 (CommentService 댓글 작성 +1 / 삭제 -1)
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommentCountChangedEvent {
+    private final Long communityId;
+    private final long delta;
+
+    public static CommentCountChangedEvent added(Long communityId) {
+        return new CommentCountChangedEvent(communityId, 1);
+    }
+
+    public static CommentCountChangedEvent removed(Long communityId) {
+        return new CommentCountChangedEvent(communityId, -1);
+    }
+}
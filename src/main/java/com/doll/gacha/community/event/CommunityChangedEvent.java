@@ -0,0 +1,23 @@
+package com.doll.gacha.community.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 작성/수정/삭제 이벤트 (CommunityService에서 발행)
+ * - 게시글 정보를 메모리에 들고 있는 구독자(인기글 랭킹 등)가 커밋 후 동기화
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommunityChangedEvent {
+    private final Long communityId;
+    private final boolean deleted;
+
+    public static CommunityChangedEvent upserted(Long communityId) {
+        return new CommunityChangedEvent(communityId, false);
+    }
+
+    public static CommunityChangedEvent deleted(Long communityId) {
+        return new CommunityChangedEvent(communityId, true);
+    }
+}
@@ -0,0 +1,13 @@
+package com.doll.gacha.community.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 조회 이벤트 (상세 조회마다 발행, DB 반영은 CommunityViewCounter가 따로 모아서 처리)
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommunityViewedEvent {
+    private final Long communityId;
+}
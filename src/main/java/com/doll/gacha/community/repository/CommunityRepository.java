@@ -1,11 +1,15 @@
 package com.doll.gacha.community.repository;
 
 import com.doll.gacha.community.CommunityEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,5 +19,41 @@ public interface CommunityRepository extends JpaRepository<CommunityEntity, Long
      * 삭제되지 않은 게시글 조회 (수정/삭제 시 사용)
      */
     Optional<CommunityEntity> findByIdAndIsDeletedFalse(Long id);
-}
 
+    /**
+     * 삭제되지 않은 게시글 + 작성자 조회 (인기글 랭킹 갱신용, 트랜잭션 밖에서도 작성자 접근 가능)
+     */
+    @Query("SELECT c FROM CommunityEntity c JOIN FETCH c.user WHERE c.id = :id AND c.isDeleted = false")
+    Optional<CommunityEntity> findByIdWithUser(@Param("id") Long id);
+
+    /**
+     * ID 순으로 lastId 다음 게시글 + 작성자 (삭제되지 않은 것만, 검색 색인 적재용)
+     */
+    @Query("SELECT c FROM CommunityEntity c JOIN FETCH c.user WHERE c.id > :lastId AND c.isDeleted = false ORDER BY c.id")
+    List<CommunityEntity> findAfterIdWithUser(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 특정 시각 이후 작성된 삭제되지 않은 게시글 + 작성자 (인기글 랭킹 적재용)
+     */
+    @Query("SELECT c FROM CommunityEntity c JOIN FETCH c.user WHERE c.createdAt >= :since AND c.isDeleted = false")
+    List<CommunityEntity> findRecentWithUser(@Param("since") LocalDateTime since);
+
+    /**
+     * 댓글 수 증감 (DB에서 원자적으로 comment_count = comment_count + delta, 0 미만으로는 안 내려감)
+     * 네이티브 쿼리라 실행 전 flush, 실행 후 영속성 컨텍스트 clear
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE community SET comment_count = GREATEST(comment_count + :delta, 0) WHERE id = :id", nativeQuery = true)
+    int addCommentCount(@Param("id") Long id, @Param("delta") long delta);
+
+    /**
+     * comment 테이블 기준으로 어긋난 댓글 수 보정 (보정된 게시글 수 반환)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE community c SET c.comment_count =" +
+            " (SELECT COUNT(*) FROM comment m WHERE m.community_id = c.id AND m.is_deleted = false)" +
+            " WHERE c.comment_count <>" +
+            " (SELECT COUNT(*) FROM comment m WHERE m.community_id = c.id AND m.is_deleted = false)",
+            nativeQuery = true)
+    int reconcileCommentCounts();
+}
@@ -1,18 +1,33 @@
 package com.doll.gacha.community.repository;
 
+import com.doll.gacha.common.dto.CursorResponse;
 import com.doll.gacha.community.dto.CommunityDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface CommunityRepositoryCustom {
 
     /**
      * 커뮤니티 목록 조회 / 검색 (QueryDSL 동적 쿼리)
-     * @param searchType "title" 또는 "nickname" (null 가능)
+     * @param searchType "title", "content", "nickname" 또는 "all" (null이면 all)
      * @param keyword 검색 키워드 (null이면 전체 조회)
-     * @param pageable 페이징 정보
-     * @return 게시글 목록 (최신순 정렬)
+     * @param pageable 페이징 정보 (sort=commentCount 이면 댓글 많은 순)
+     * @return 게시글 목록 (기본 최신순 정렬)
      */
     Page<CommunityDTO> searchCommunity(String searchType, String keyword, Pageable pageable);
-}
 
+    /**
+     * 커뮤니티 목록 조회 / 검색 - 커서 방식 (무한 스크롤, count 쿼리 없음)
+     * @param cursor 이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 게시글 목록 (최신순 정렬)
+     */
+    CursorResponse<CommunityDTO> searchCommunityByCursor(String searchType, String keyword, String cursor, int size);
+
+    /**
+     * ID 목록 조회 (주어진 ID 순서 유지, 검색 색인 결과 페이지용) - 그 사이 삭제된 게시글은 빠짐
+     */
+    List<CommunityDTO> findListByIds(List<Long> ids);
+}
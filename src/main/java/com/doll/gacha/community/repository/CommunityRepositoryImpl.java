@@ -1,11 +1,12 @@
 package com.doll.gacha.community.repository;
 
+import com.doll.gacha.common.dto.Cursor;
+import com.doll.gacha.common.dto.CursorResponse;
 import com.doll.gacha.community.CommunityEntity;
 import com.doll.gacha.community.QCommunityEntity;
-import com.doll.gacha.community.comment.QCommentEntity;
 import com.doll.gacha.community.dto.CommunityDTO;
 import com.doll.gacha.jwt.entity.QUserEntity;
-import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -14,22 +15,25 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
-import java.util.Collections;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class CommunityRepositoryImpl implements CommunityRepositoryCustom {
 
+    // 커서 방식은 최신순 고정
+    private static final String CURSOR_SORT = "createdAt,desc";
+
     private final JPAQueryFactory queryFactory;
 
     @Override
     public Page<CommunityDTO> searchCommunity(String searchType, String keyword, Pageable pageable) {
         QCommunityEntity community = QCommunityEntity.communityEntity;
         QUserEntity user = QUserEntity.userEntity;
-        QCommentEntity comment = QCommentEntity.commentEntity;
 
         // 1. 전체 카운트 조회 (user join 필요 - nickname 검색용)
         Long total = queryFactory
@@ -46,56 +50,97 @@ public class CommunityRepositoryImpl implements CommunityRepositoryCustom {
             total = 0L;
         }
 
-        // 2. 게시글 Entity 목록 조회 (먼저 Entity를 가져와서 ID 추출)
-        List<CommunityEntity> entities = queryFactory
+        // 2. 게시글 목록 조회 (댓글 수는 비정규화 컬럼 - 추가 쿼리 없음)
+        List<CommunityDTO> content = queryFactory
                 .selectFrom(community)
                 .join(community.user, user).fetchJoin() // User Fetch Join 유지
                 .where(
                         community.isDeleted.eq(false),
                         searchCondition(community, user, searchType, keyword)
                 )
-                .orderBy(community.createdAt.desc())
+                .orderBy(orderOf(community, pageable))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
+                .fetch()
+                .stream()
+                .map(CommunityDTO::from)
+                .toList();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public CursorResponse<CommunityDTO> searchCommunityByCursor(String searchType, String keyword, String cursor, int size) {
+        QCommunityEntity community = QCommunityEntity.communityEntity;
+        QUserEntity user = QUserEntity.userEntity;
+        Cursor last = Cursor.decode(cursor, CURSOR_SORT);
+
+        // 1. 커서 다음부터 size + 1 개 조회 (count 쿼리, OFFSET 없음)
+        List<CommunityEntity> entities = queryFactory
+                .selectFrom(community)
+                .join(community.user, user).fetchJoin()
+                .where(
+                        community.isDeleted.eq(false),
+                        searchCondition(community, user, searchType, keyword),
+                        afterCursor(community, last)
+                )
+                .orderBy(community.createdAt.desc(), community.id.desc())
+                .limit(size + 1)
                 .fetch();
 
-        // 3. ID 목록 추출
-        List<Long> communityIds = entities.stream()
-                .map(CommunityEntity::getId)
+        // 2. DTO 변환 (댓글 수는 비정규화 컬럼)
+        List<CommunityDTO> fetched = entities.stream()
+                .map(CommunityDTO::from)
                 .toList();
 
-        // 4. 댓글 수 조회 (IN 쿼리 사용 - 원칙 준수)
-        Map<Long, Long> commentCountMap;
-        if (communityIds.isEmpty()) {
-            commentCountMap = Collections.emptyMap();
-        } else {
-            List<Tuple> counts = queryFactory
-                    .select(comment.community.id, comment.count())
-                    .from(comment)
-                    .where(
-                            comment.community.id.in(communityIds),
-                            comment.isDeleted.isFalse()
-                    )
-                    .groupBy(comment.community.id)
-                    .fetch();
-
-            commentCountMap = counts.stream()
-                    .collect(Collectors.toMap(
-                            tuple -> tuple.get(comment.community.id),
-                            tuple -> tuple.get(comment.count())
-                    ));
+        return CursorResponse.of(fetched, size,
+                dto -> new Cursor(CURSOR_SORT, dto.getCreatedAt().toString(), dto.getId()));
+    }
+
+    @Override
+    public List<CommunityDTO> findListByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
+        QCommunityEntity community = QCommunityEntity.communityEntity;
 
-        // 5. DTO 변환 및 반환
-        List<CommunityDTO> content = entities.stream()
-                .map(entity -> {
-                    CommunityDTO dto = CommunityDTO.from(entity);
-                    dto.setCommentCount(commentCountMap.getOrDefault(entity.getId(), 0L));
-                    return dto;
-                })
+        Map<Long, CommunityDTO> byId = queryFactory
+                .selectFrom(community)
+                .join(community.user).fetchJoin()
+                .where(community.id.in(ids), community.isDeleted.eq(false))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(CommunityEntity::getId, CommunityDTO::from));
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .toList();
+    }
 
-        return new PageImpl<>(content, pageable, total);
+    /**
+     * 정렬 조건 (sort=commentCount 이면 댓글 많은 순, 그 외는 최신순)
+     */
+    private OrderSpecifier<?>[] orderOf(QCommunityEntity community, Pageable pageable) {
+        boolean byCommentCount = pageable.getSort().stream()
+                .anyMatch(order -> "commentCount".equals(order.getProperty()));
+        if (byCommentCount) {
+            return new OrderSpecifier<?>[]{community.commentCount.desc(), community.id.desc()};
+        }
+        return new OrderSpecifier<?>[]{community.createdAt.desc()};
+    }
+
+    /**
+     * 커서 이후 조건: (작성일, ID)가 커서보다 오래된 게시글
+     * 커서가 없으면 null 반환 → 첫 페이지
+     */
+    private BooleanExpression afterCursor(QCommunityEntity community, Cursor last) {
+        if (last == null) {
+            return null;
+        }
+        LocalDateTime createdAt = last.keyAsDateTime();
+        return community.createdAt.lt(createdAt)
+                .or(community.createdAt.eq(createdAt).and(community.id.lt(last.getId())));
     }
 
     /**
@@ -110,10 +155,14 @@ public class CommunityRepositoryImpl implements CommunityRepositoryCustom {
 
         String trimmedKeyword = keyword.trim();
 
-        // 검색 타입에 따라 조건 분기
-        return switch (searchType) {
+        // 검색 타입에 따라 조건 분기 (검색 색인을 못 쓰는 경우 - 한 글자 검색어, 기동 직후, 커서 방식)
+        return switch (searchType == null ? "all" : searchType) {
             case "title" -> community.title.containsIgnoreCase(trimmedKeyword);
+            case "content" -> community.content.containsIgnoreCase(trimmedKeyword);
             case "nickname" -> user.nickname.containsIgnoreCase(trimmedKeyword);
+            case "all" -> community.title.containsIgnoreCase(trimmedKeyword)
+                    .or(community.content.containsIgnoreCase(trimmedKeyword))
+                    .or(user.nickname.containsIgnoreCase(trimmedKeyword));
             default -> null; // 잘못된 타입은 조건 없음
         };
     }
@@ -0,0 +1,46 @@
+package com.doll.gacha.dollshop;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장 변경 이력 (공공데이터 갱신 시 바뀐 매장만 기록)
+ * - id가 단조 증가하므로 클라이언트는 마지막으로 받은 id 이후만 다시 요청 (GET /api/doll-shops/changes?since=)
+ * - 기록은 DollShopDiffSyncService에서 JDBC 배치로 추가
+ */
+@Entity
+@Table(name = "doll_shop_change_log", indexes = {
+        @Index(name = "idx_change_log_doll_shop_id", columnList = "doll_shop_id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DollShopChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long dollShopId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ChangeType changeType;
+
+    // 변경 출처 (동기화한 파일명 등)
+    @Column(length = 100)
+    private String source;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    public enum ChangeType {
+        INSERT,  // 새 매장
+        UPDATE,  // 매장 정보 변경 (이름, 좌표, 기계 수, 재개업 등)
+        CLOSE    // 폐업 (isOperating=false 또는 원본 데이터에서 사라짐)
+    }
+}
@@ -1,15 +1,27 @@
 package com.doll.gacha.dollshop;
 
 import com.doll.gacha.common.dto.ApiResponse;
+import com.doll.gacha.common.dto.CursorResponse;
 import com.doll.gacha.common.dto.PageResponse;
+import com.doll.gacha.dollshop.dto.DollShopClusterDTO;
 import com.doll.gacha.dollshop.dto.DollShopDTO;
+import com.doll.gacha.dollshop.dto.DollShopDeltaDTO;
+import com.doll.gacha.dollshop.dto.DollShopFullDetailDTO;
 import com.doll.gacha.dollshop.dto.DollShopListDTO;
 import com.doll.gacha.dollshop.dto.DollShopMapDTO;
+import com.doll.gacha.dollshop.dto.DollShopNearbyDTO;
+import com.doll.gacha.dollshop.dto.DollShopRegionStatsDTO;
 import com.doll.gacha.dollshop.dto.DollShopSearchDTO;
+import com.doll.gacha.dollshop.dto.DollShopSuggestDTO;
+import com.doll.gacha.dollshop.index.DollShopColumnarCodec;
+import com.doll.gacha.dollshop.index.DollShopMapSnapshot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,6 +32,8 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 public class DollShopController {
+    private static final String DATA_VERSION_HEADER = "X-Data-Version";
+
     private final DollShopService dollShopService;
 
     /**
@@ -29,17 +43,145 @@ public class DollShopController {
      */
     @GetMapping("/map")
     public ResponseEntity<ApiResponse<List<DollShopMapDTO>>> getShopsForMap(
-            @ModelAttribute DollShopSearchDTO searchDTO) {
+            @ModelAttribute DollShopSearchDTO searchDTO,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        // 버전을 조회보다 먼저 읽음 (사이에 바뀌면 다음 변경분 요청에서 한 번 더 받을 뿐 누락은 없음)
+        long version = dollShopService.getDataVersion();
+        String etag = dollShopService.getMapETag();
+        if (matchesETag(ifNoneMatch, etag)) {
+            // 앱이 가진 데이터가 최신 → 본문 없이 304 (DB 조회 없음)
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(DATA_VERSION_HEADER, String.valueOf(version))
+                    .build();
+        }
 
         log.info("지도용 매장 조회 - searchDTO: {}", searchDTO);
 
         List<DollShopMapDTO> list = dollShopService.searchShopsForMap(searchDTO);
-        return ResponseEntity.ok(ApiResponse.success("지도용 매장 목록 조회 성공", list));
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .header(DATA_VERSION_HEADER, String.valueOf(version))
+                .body(ApiResponse.success("지도용 매장 목록 조회 성공", list));
+    }
+
+    /**
+     * 지도용 - 전국 운영중 매장 컬럼형 바이너리 (앱 오프라인 지도용, /map JSON의 약 1/10 크기)
+     * 형식은 DollShopColumnarCodec 참고. ETag/X-Data-Version은 /map과 같음
+     * Accept-Encoding에 gzip이 있으면 미리 압축해둔 본문을 그대로 전송
+     */
+    @GetMapping(value = "/map/compact", produces = DollShopColumnarCodec.MEDIA_TYPE)
+    public ResponseEntity<byte[]> getCompactMap(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        DollShopMapSnapshot.Snapshot snapshot = dollShopService.getCompactMap();
+        String etag = DollShopDataVersion.etagOf(snapshot.getVersion());
+        if (matchesETag(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(DATA_VERSION_HEADER, String.valueOf(snapshot.getVersion()))
+                    .build();
+        }
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .header(DATA_VERSION_HEADER, String.valueOf(snapshot.getVersion()))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzip ? snapshot.getGzipped() : snapshot.getRaw());
+    }
+
+    /**
+     * 지도용 - 화면 영역(bbox) 안의 매장 조회 (지도 이동/확대 시마다 호출)
+     * DB 대신 메모리 공간 인덱스에서 조회
+     * @return 영역 안의 운영중인 매장 목록
+     */
+    @GetMapping("/map/bbox")
+    public ResponseEntity<ApiResponse<List<DollShopMapDTO>>> getShopsInBounds(
+            @RequestParam double minLat,
+            @RequestParam double maxLat,
+            @RequestParam double minLng,
+            @RequestParam double maxLng) {
+
+        List<DollShopMapDTO> list = dollShopService.searchShopsInBounds(minLat, maxLat, minLng, maxLng);
+        return ResponseEntity.ok(ApiResponse.success("영역 내 매장 목록 조회 성공", list));
+    }
+
+    /**
+     * 지도용 - 화면 영역(bbox)의 마커 클러스터 조회
+     * 클라이언트가 직접 클러스터링하지 않도록 서버에서 줌 레벨별로 묶어서 반환
+     * @param zoom 웹 지도 줌 레벨 (0~21, 16 이상이면 개별 매장)
+     * @return 클러스터 목록 (count == 1 이면 shop에 매장 정보 포함)
+     */
+    @GetMapping("/map/clusters")
+    public ResponseEntity<ApiResponse<List<DollShopClusterDTO>>> getClustersInBounds(
+            @RequestParam double minLat,
+            @RequestParam double maxLat,
+            @RequestParam double minLng,
+            @RequestParam double maxLng,
+            @RequestParam int zoom) {
+
+        List<DollShopClusterDTO> list = dollShopService.searchClustersInBounds(minLat, maxLat, minLng, maxLng, zoom);
+        return ResponseEntity.ok(ApiResponse.success("지도 클러스터 조회 성공", list));
+    }
+
+    /**
+     * 내 주변 매장 조회 - 현재 위치에서 가까운 N개
+     * @param lat 현재 위도
+     * @param lng 현재 경도
+     * @param limit 최대 개수 (기본 20, 최대 100)
+     * @param radiusKm 검색 반경 km (기본 5, 최대 50)
+     * @param sort distance(기본, 가까운 순) 또는 averageRating(별점 높은 순)
+     * @return 거리(km)가 포함된 매장 목록
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<DollShopNearbyDTO>>> getNearbyShops(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "5") double radiusKm,
+            @RequestParam(defaultValue = "distance") String sort) {
+
+        List<DollShopNearbyDTO> list = dollShopService.searchNearbyShops(lat, lng, limit, radiusKm, sort);
+        return ResponseEntity.ok(ApiResponse.success("주변 매장 조회 성공", list));
+    }
+
+    /**
+     * 검색창 자동완성 (키 입력마다 호출)
+     * @param q 입력 중인 검색어 (공백 무시, 초성 가능 예: ㅎㅇㅋ)
+     * @return 접두사가 일치하는 지역(시/도, 시/군/구)과 매장 최대 10개 (지역 먼저)
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<DollShopSuggestDTO>>> suggest(@RequestParam(defaultValue = "") String q) {
+        List<DollShopSuggestDTO> list = dollShopService.suggest(q);
+        return ResponseEntity.ok(ApiResponse.success("자동완성 조회 성공", list));
+    }
+
+    /**
+     * 지역별 집계 (지도 단계구분도, 지역 드롭다운 개수 표시)
+     * @param gubun1 시/도 (생략하면 전국)
+     * @return 시/도 합계(gubun2=null)와 시/군/구별 운영중 매장 수, 기계 수, 리뷰 수, 평균 별점
+     */
+    @GetMapping("/regions/stats")
+    public ResponseEntity<ApiResponse<List<DollShopRegionStatsDTO>>> getRegionStats(
+            @RequestParam(required = false) String gubun1) {
+
+        List<DollShopRegionStatsDTO> stats = dollShopService.getRegionStats(gubun1);
+        return ResponseEntity.ok(ApiResponse.success("지역별 집계 조회 성공", stats));
     }
 
     /**
      * 게시판용 - 매장 목록 페이징 조회 (모든 검색 조건 지원)
      * @param searchDTO 검색 조건 (gubun1, gubun2, keyword)
+     *                  - keyword: 매장명/주소 (공백 무시, 초성 검색 가능 예: ㄱㄱㅋㄹㅇ)
+     *                    정렬을 따로 주지 않으면 일치 정도가 높은 순
      * @param pageable 페이징 및 정렬 정보 (스프링이 자동으로 바인딩)
      *                 - page: 페이지 번호 (0부터 시작, 기본값: 0)
      *                 - size: 페이지 크기 (기본값: 10)
@@ -57,9 +199,41 @@ public class DollShopController {
         return ResponseEntity.ok(ApiResponse.success("매장 목록 조회 성공", PageResponse.from(shops)));
     }
 
+    /**
+     * 게시판용 - 매장 목록 커서 조회 (무한 스크롤)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param pageable size와 sort만 사용 (page는 무시, 정렬을 바꾸면 첫 페이지부터 다시 요청)
+     * @return 매장 목록 + 다음 페이지 커서 (전체 개수 없음)
+     */
+    @GetMapping("/search/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<DollShopListDTO>>> searchShopsByCursor(
+            @ModelAttribute DollShopSearchDTO searchDTO,
+            @RequestParam(required = false) String cursor,
+            Pageable pageable) {
+
+        CursorResponse<DollShopListDTO> shops = dollShopService.searchShopsByCursor(searchDTO, cursor, pageable);
+        return ResponseEntity.ok(ApiResponse.success("매장 목록 조회 성공", shops));
+    }
+
+    /**
+     * 지도 데이터 변경분 (앱 오프라인 지도 동기화)
+     * 앱 실행 시 전체 /map 대신 저장해둔 버전 이후 변경만 받음 (변경이 없으면 빈 목록)
+     * @param since 앱이 마지막으로 받은 버전 (/map 응답의 X-Data-Version 또는 이전 응답의 version)
+     * @param size 한 번에 볼 변경 이력 최대 개수 (기본 500, 최대 1000)
+     * @return upserts(추가/변경된 운영중 매장) + tombstones(지도에서 뺄 매장 ID) + 다음 요청용 version
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse<DollShopDeltaDTO>> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "500") int size) {
+
+        DollShopDeltaDTO delta = dollShopService.getChanges(since, size);
+        return ResponseEntity.ok(ApiResponse.success("매장 변경분 조회 성공", delta));
+    }
+
     /**
      * ID로 특정 가게 조회
-     * 이미지는 클라이언트에서 /api/files/thumbnail?refType=DOLL_SHOP&refId={id} 로 별도 요청
+     * 대표 썸네일(imagePath) 포함 - 이미지를 위해 /api/files 를 따로 부를 필요 없음
      */
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<DollShopDTO>> getShopById(@PathVariable Long id) {
@@ -72,4 +246,37 @@ public class DollShopController {
             return ResponseEntity.notFound().build();
         }
     }
+
+    /**
+     * 상세 화면용 한 번에 조회 (매장 + 대표 썸네일 + 리뷰 통계 + 리뷰 첫 페이지)
+     * 상세 화면 진입 시 API 3번 호출하던 것을 1번으로 (모바일 등 지연이 큰 환경)
+     * @param reviewSize 리뷰 첫 페이지 크기 (기본 10, 최대 100)
+     */
+    @GetMapping("/{id}/full")
+    public ResponseEntity<ApiResponse<DollShopFullDetailDTO>> getShopFullDetail(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int reviewSize) {
+        log.info("매장 상세(전체) 조회 - id: {}, reviewSize: {}", id, reviewSize);
+        DollShopFullDetailDTO detail = dollShopService.getFullDetail(id, reviewSize);
+        return ResponseEntity.ok(ApiResponse.success("매장 상세 조회 성공", detail));
+    }
+
+    /**
+     * If-None-Match 비교 (여러 개/약한 ETag(W/)/와일드카드 허용)
+     */
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if ("*".equals(value) || etag.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,115 @@
+package com.doll.gacha.dollshop;
+
+import com.doll.gacha.dollshop.event.DollShopChangedEvent;
+import com.doll.gacha.dollshop.repositroy.DollShopChangeLogRepository;
+import com.doll.gacha.dollshop.repositroy.DollShopRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 매장 데이터 버전 (= 이 서버 메모리에 반영된 doll_shop_change_log의 마지막 id, 변경이 있을 때마다 단조 증가)
+ * - 지도 스냅샷 ETag와 변경분 API(/changes?since=)의 기준값
+ * - 요청마다 DB를 보지 않도록 메모리에 보관
+ * - 매장 변경은 별도 프로세스(import 프로필, 웹 서버 없이 끝나면 종료)에서 일어나므로
+ *   주기적으로(기본 30초) 마지막으로 본 id 이후의 변경 이력 + 해당 매장을 읽어서 DollShopChangedEvent를 이 서버에 발행
+ *   → 메모리 인덱스/캐시(격자, 클러스터, 검색, 자동완성, 지역 집계, 검색 개수, 상세)가 같은 이벤트로 동기화
+ * - 같은 프로세스에서 발행된 변경도 다음 주기에 한 번 더 반영됨 (구독자는 매장 ID 기준 교체라 중복 반영해도 결과 같음)
+ * - 버전은 이벤트를 발행한 뒤에 올림 → ETag가 바뀌었으면 메모리 인덱스도 이미 반영된 상태
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DollShopDataVersion {
+
+    private static final int REPLAY_BATCH_SIZE = 1000;
+
+    private final DollShopChangeLogRepository dollShopChangeLogRepository;
+    private final DollShopRepository dollShopRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile long current;
+
+    /**
+     * 기동 시 기준 버전 (메모리 인덱스 전체 적재보다 먼저 읽음 → 사이에 들어온 변경은 다음 주기에 다시 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public synchronized void init() {
+        current = dollShopChangeLogRepository.findMaxId();
+        log.info("매장 데이터 버전 - {}", current);
+    }
+
+    /**
+     * 마지막으로 본 id 이후의 변경 이력을 REPLAY_BATCH_SIZE개씩 읽어서 이 서버에 변경 이벤트 발행
+     */
+    @Scheduled(fixedDelayString = "${doll-shop.data-version.refresh-ms:30000}",
+            initialDelayString = "${doll-shop.data-version.refresh-ms:30000}")
+    public synchronized void refresh() {
+        long latest = dollShopChangeLogRepository.findMaxId();
+        if (latest == current) {
+            return;
+        }
+        if (latest < current) {
+            // 변경 이력이 비워짐 (DB 초기화 등) → 되돌릴 변경분을 알 수 없으므로 버전만 맞춤
+            log.warn("매장 데이터 버전이 줄어듦 - {} → {}", current, latest);
+            current = latest;
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        long from = current;
+        int replayed = 0;
+        while (true) {
+            List<DollShopChangeLog> logs = dollShopChangeLogRepository
+                    .findByIdGreaterThanOrderByIdAsc(current, PageRequest.of(0, REPLAY_BATCH_SIZE));
+            if (logs.isEmpty()) {
+                break;
+            }
+            publish(logs);
+            replayed += logs.size();
+            current = logs.get(logs.size() - 1).getId();
+        }
+        log.info("매장 데이터 버전 갱신 - {} → {}, 변경 이력: {}건, 소요: {}ms",
+                from, current, replayed, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 변경 이력의 매장을 다시 읽어서 발행 (없어진 매장은 삭제로)
+     */
+    private void publish(List<DollShopChangeLog> logs) {
+        Set<Long> ids = new LinkedHashSet<>();
+        logs.forEach(changeLog -> ids.add(changeLog.getDollShopId()));
+
+        List<DollShop> upserted = dollShopRepository.findAllById(ids);
+        upserted.forEach(shop -> ids.remove(shop.getId()));
+        eventPublisher.publishEvent(new DollShopChangedEvent(upserted, new ArrayList<>(ids)));
+    }
+
+    public long current() {
+        return current;
+    }
+
+    /**
+     * 지도 스냅샷 ETag (따옴표 포함 strong ETag)
+     */
+    public String etag() {
+        return etagOf(current);
+    }
+
+    public static String etagOf(long version) {
+        return "\"shops-v" + version + "\"";
+    }
+}
@@ -1,24 +1,81 @@
 package com.doll.gacha.dollshop;
 
+import com.doll.gacha.common.dto.CursorResponse;
+import com.doll.gacha.common.dto.PageResponse;
+import com.doll.gacha.common.exception.BusinessRuleException;
 import com.doll.gacha.common.exception.EntityNotFoundException;
+import com.doll.gacha.dollshop.cache.DollShopDetailCache;
+import com.doll.gacha.dollshop.dto.DollShopClusterDTO;
 import com.doll.gacha.dollshop.dto.DollShopDTO;
+import com.doll.gacha.dollshop.dto.DollShopDeltaDTO;
+import com.doll.gacha.dollshop.dto.DollShopDetailDTO;
+import com.doll.gacha.dollshop.dto.DollShopFullDetailDTO;
 import com.doll.gacha.dollshop.dto.DollShopListDTO;
 import com.doll.gacha.dollshop.dto.DollShopMapDTO;
+import com.doll.gacha.dollshop.dto.DollShopNearbyDTO;
+import com.doll.gacha.dollshop.dto.DollShopRegionStatsDTO;
 import com.doll.gacha.dollshop.dto.DollShopSearchDTO;
+import com.doll.gacha.dollshop.dto.DollShopSuggestDTO;
+import com.doll.gacha.dollshop.index.DollShopClusterIndex;
+import com.doll.gacha.dollshop.index.DollShopGridIndex;
+import com.doll.gacha.dollshop.index.DollShopMapSnapshot;
+import com.doll.gacha.dollshop.index.DollShopRegionRollup;
+import com.doll.gacha.dollshop.index.DollShopSuggestIndex;
+import com.doll.gacha.dollshop.index.DollShopTextIndex;
+import com.doll.gacha.dollshop.repositroy.DollShopChangeLogRepository;
 import com.doll.gacha.dollshop.repositroy.DollShopRepository;
+import com.doll.gacha.file.service.DollShopThumbnailCache;
+import com.doll.gacha.review.ReviewService;
+import com.doll.gacha.review.ReviewStatsEntity;
+import com.doll.gacha.review.dto.ReviewDTO;
+import com.doll.gacha.review.dto.ReviewStatsDTO;
+import com.doll.gacha.review.repositroy.ReviewStatsRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DollShopService {
+    // 키워드 검색 결과를 리뷰 통계로 정렬하는 기준들 (DollShopRepositoryCustomImpl.getSortOrder와 동일)
+    private static final Set<String> REVIEW_SORT_KEYS = Set.of("averageRating", "reviewCount",
+            "averageMachineStrength", "averageLargeCost", "averageMediumCost", "averageSmallCost");
+
     private final DollShopRepository dollShopRepository;
+    private final DollShopGridIndex dollShopGridIndex;
+    private final DollShopClusterIndex dollShopClusterIndex;
+    private final DollShopTextIndex dollShopTextIndex;
+    private final DollShopSuggestIndex dollShopSuggestIndex;
+    private final ReviewStatsRepository reviewStatsRepository;
+    private final DollShopChangeLogRepository dollShopChangeLogRepository;
+    private final DollShopDataVersion dollShopDataVersion;
+    private final DollShopMapSnapshot dollShopMapSnapshot;
+    private final DollShopRegionRollup dollShopRegionRollup;
+    private final DollShopThumbnailCache dollShopThumbnailCache;
+    private final DollShopDetailCache dollShopDetailCache;
+    private final ReviewService reviewService;
+    private final ThreadPoolTaskExecutor applicationTaskExecutor; // 스프링 부트 기본 작업 스레드 풀 (spring.task.execution.pool.*)
+
     /**
      * 게시판용 - 통합 검색 메서드 (페이징, N+1 방지)
      * Repository에서 이미지까지 함께 세팅
@@ -27,8 +84,33 @@ public class DollShopService {
      * @return 페이징된 매장 목록
      */
     public Page<DollShopListDTO> searchShopsPaged(DollShopSearchDTO searchDTO, Pageable pageable) {
-        // Repository에서 직접 DTO로 조회 (DollShop + 썸네일 이미지 + 리뷰 통계 포함)
-        return dollShopRepository.searchByConditions(searchDTO, pageable);
+        String keyword = searchDTO.getKeyword();
+        if (keyword == null || keyword.isBlank() || !dollShopTextIndex.isReady()) {
+            // Repository에서 직접 DTO로 조회 (DollShop + 썸네일 이미지 + 리뷰 통계 포함)
+            return dollShopRepository.searchByConditions(searchDTO, pageable);
+        }
+
+        // 키워드 검색은 메모리 색인(n-gram + 초성)으로 후보를 찾고 DB는 ID로만 조회
+        List<Long> rankedIds = dollShopTextIndex.search(keyword, searchDTO.getGubun1(), searchDTO.getGubun2());
+        List<Long> orderedIds = isRelevanceOrder(pageable)
+                ? rankedIds
+                : sortCandidates(rankedIds, pageable.getSort().iterator().next());
+
+        // 정렬된 순서대로 이번 페이지 ID만 잘라서 조회 (후보 전체를 IN으로 넘기지 않음)
+        int from = (int) Math.min(pageable.getOffset(), orderedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), orderedIds.size());
+        List<DollShopListDTO> content = dollShopRepository.findListByIds(orderedIds.subList(from, to));
+        return new PageImpl<>(content, pageable, orderedIds.size());
+    }
+
+    /**
+     * 게시판용 - 통합 검색 커서 방식 (무한 스크롤)
+     * OFFSET 없이 마지막 항목 다음부터 조회하므로 몇 번째 페이지든 비용이 같고, count 쿼리도 없음
+     * @param cursor 이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param pageable 페이지 크기와 정렬 (page 번호는 사용 안 함)
+     */
+    public CursorResponse<DollShopListDTO> searchShopsByCursor(DollShopSearchDTO searchDTO, String cursor, Pageable pageable) {
+        return dollShopRepository.searchByCursor(searchDTO, cursor, pageable);
     }
 
     /**
@@ -41,14 +123,294 @@ public class DollShopService {
         return dollShopRepository.searchForMap(searchDTO);
     }
 
+    /**
+     * 지도용 - 화면 영역(bbox) 안의 매장 조회 (메모리 공간 인덱스 사용, DB 조회 없음)
+     * DB를 안 쓰므로 트랜잭션(커넥션)도 열지 않음 (SUPPORTS)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<DollShopMapDTO> searchShopsInBounds(double minLat, double maxLat, double minLng, double maxLng) {
+        validateBounds(minLat, maxLat, minLng, maxLng);
+        return dollShopGridIndex.searchInBounds(minLat, maxLat, minLng, maxLng);
+    }
+
+    /**
+     * 지도용 - 화면 영역(bbox)의 마커 클러스터 조회 (줌 레벨별로 미리 계산된 클러스터, DB 조회 없음)
+     * 많이 확대하면(16레벨 이상) 개별 매장으로 풀어서 반환
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<DollShopClusterDTO> searchClustersInBounds(double minLat, double maxLat, double minLng, double maxLng, int zoom) {
+        validateBounds(minLat, maxLat, minLng, maxLng);
+        if (zoom < 0 || zoom > 21) {
+            throw new BusinessRuleException("줌 레벨은 0~21 사이여야 합니다.");
+        }
+        return dollShopClusterIndex.searchInBounds(minLat, maxLat, minLng, maxLng, zoom);
+    }
+
+
+    /**
+     * 내 주변 매장 조회 - 가까운 순 N개 (메모리 공간 인덱스 k-NN)
+     * 기본(거리순)은 DB 조회 없음, 별점순일 때만 N개 매장의 통계 행을 IN 쿼리 한 번으로 조회
+     * @param sort distance(기본) 또는 averageRating
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<DollShopNearbyDTO> searchNearbyShops(double latitude, double longitude, int limit, double radiusKm, String sort) {
+        if (limit < 1 || limit > 100) {
+            throw new BusinessRuleException("조회 개수는 1~100 사이여야 합니다.");
+        }
+        if (radiusKm <= 0 || radiusKm > 50) {
+            throw new BusinessRuleException("검색 반경은 0km 초과 50km 이하여야 합니다.");
+        }
+
+        List<DollShopNearbyDTO> nearby = dollShopGridIndex.findNearest(latitude, longitude, limit, radiusKm);
+        nearby.forEach(dto -> dto.setImagePath(dollShopThumbnailCache.get(dto.getId())));
+
+        if ("averageRating".equals(sort) && !nearby.isEmpty()) {
+            Map<Long, ReviewStatsEntity> ratings = reviewStatsRepository
+                    .findAllById(nearby.stream().map(DollShopNearbyDTO::getId).toList()).stream()
+                    .collect(Collectors.toMap(ReviewStatsEntity::getDollShopId, Function.identity()));
+            nearby.forEach(dto -> {
+                ReviewStatsEntity stats = ratings.get(dto.getId());
+                dto.setAverageRating(stats != null ? stats.getAverageRating() : 0.0);
+                dto.setReviewCount(stats != null ? stats.getReviewCount() : 0L);
+            });
+            // 별점 높은 순, 같으면 가까운 순
+            nearby.sort(Comparator.comparing(DollShopNearbyDTO::getAverageRating).reversed()
+                    .thenComparing(DollShopNearbyDTO::getDistanceKm));
+        }
+        return nearby;
+    }
+
+    /**
+     * 지역별 집계 (운영중 매장 수, 기계 수, 리뷰 수, 평균 별점) - 메모리에 유지 중인 집계, DB 조회 없음
+     * @param gubun1 시/도 (없으면 전국 모든 지역)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<DollShopRegionStatsDTO> getRegionStats(String gubun1) {
+        return dollShopRegionRollup.getStats(gubun1);
+    }
+
+    /**
+     * 검색창 자동완성 - 입력한 글자로 시작하는 지역/매장 상위 10개 (메모리 트라이, DB 조회 없음)
+     * 키 입력마다 호출되므로 트랜잭션(커넥션)도 열지 않음 (SUPPORTS)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<DollShopSuggestDTO> suggest(String query) {
+        if (query != null && query.length() > 50) {
+            throw new BusinessRuleException("검색어는 50자 이하여야 합니다.");
+        }
+        return dollShopSuggestIndex.suggest(query);
+    }
+
+    /**
+     * 지도 데이터 변경분 - since 버전 이후 바뀐 매장만 (앱이 보관 중인 목록에 덮어쓰기용)
+     * - 변경 이력에서 매장 ID만 모아서 현재 상태를 조회 → 운영중이면 upsert, 아니면 tombstone
+     * - 한 매장이 여러 번 바뀌었어도 최신 상태 한 건만 내려감
+     * @param since 앱이 마지막으로 받은 버전 (보통 /map 스냅샷의 X-Data-Version)
+     * @param size 한 번에 볼 변경 이력 최대 개수
+     */
+    public DollShopDeltaDTO getChanges(long since, int size) {
+        if (since < 0) {
+            throw new BusinessRuleException("since는 0 이상이어야 합니다.");
+        }
+        if (size < 1 || size > 1000) {
+            throw new BusinessRuleException("조회 개수는 1~1000 사이여야 합니다.");
+        }
+
+        long latest = dollShopChangeLogRepository.findMaxId();
+        if (since > latest) {
+            // 서버 데이터가 초기화됨 → 앱이 가진 목록을 믿을 수 없음
+            return DollShopDeltaDTO.builder()
+                    .version(latest)
+                    .upserts(List.of())
+                    .tombstones(List.of())
+                    .fullReload(true)
+                    .build();
+        }
+
+        List<DollShopChangeLog> logs = dollShopChangeLogRepository
+                .findByIdGreaterThanOrderByIdAsc(since, PageRequest.of(0, size + 1));
+        boolean hasMore = logs.size() > size;
+        if (hasMore) {
+            logs = logs.subList(0, size);
+        }
+        long version = logs.isEmpty() ? since : logs.get(logs.size() - 1).getId();
 
+        Set<Long> shopIds = logs.stream().map(DollShopChangeLog::getDollShopId).collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, DollShop> shops = dollShopRepository.findAllById(shopIds).stream()
+                .collect(Collectors.toMap(DollShop::getId, Function.identity()));
+
+        List<DollShopMapDTO> upserts = new ArrayList<>();
+        List<Long> tombstones = new ArrayList<>();
+        for (Long shopId : shopIds) {
+            DollShop shop = shops.get(shopId);
+            if (shop != null && Boolean.TRUE.equals(shop.getIsOperating())) {
+                upserts.add(DollShopMapDTO.from(shop));
+            } else {
+                tombstones.add(shopId);
+            }
+        }
+
+        return DollShopDeltaDTO.builder()
+                .version(version)
+                .upserts(upserts)
+                .tombstones(tombstones)
+                .hasMore(hasMore)
+                .build();
+    }
 
     /**
-     * 특정 가게 조회 (이미지 제외 - 클라이언트에서 별도 요청)
+     * 지도용 - 전국 운영중 매장 컬럼형 스냅샷 (데이터 버전마다 한 번만 만들고 이후는 바이트 배열 그대로)
+     * 버전이 같으면 DB 조회 없음 (SUPPORTS)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public DollShopMapSnapshot.Snapshot getCompactMap() {
+        return dollShopMapSnapshot.get();
+    }
+
+    /**
+     * 현재 지도 데이터 버전 / ETag (메모리 값, DB 조회 없음)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long getDataVersion() {
+        return dollShopDataVersion.current();
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public String getMapETag() {
+        return dollShopDataVersion.etag();
+    }
+
+    /**
+     * 특정 가게 조회 (대표 썸네일, 평균 별점/리뷰 수 포함) - 상세 캐시 사용
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public DollShopDTO getById(Long id) {
-        return dollShopRepository.findById(id)
+        return getDetail(id).getShop();
+    }
+
+    /**
+     * 가게 상세 묶음 조회 (매장 + 썸네일 + 리뷰 통계)
+     * - L1(Caffeine) → L2 → DB 순서, 리뷰/썸네일/매장 변경 시 해당 매장만 무효화 (DollShopDetailCache)
+     * - 캐시에 있는 객체를 그대로 반환하므로 호출하는 쪽에서 수정하지 말 것
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public DollShopDetailDTO getDetail(Long id) {
+        return dollShopDetailCache.get(id, this::loadDetail);
+    }
+
+    /**
+     * 상세 화면 한 번에 조회 (매장 + 썸네일 + 리뷰 통계 + 리뷰 첫 페이지)
+     * - 상세 캐시에 있으면 매장이 있는 것이므로 리뷰 첫 페이지만 이 스레드에서 조회
+     * - 캐시에 없으면 매장 존재를 PK로 먼저 확인(없으면 리뷰 조회 없이 404)한 뒤,
+     *   리뷰 첫 페이지는 작업 스레드 풀에서 따로 조회하고(자기 트랜잭션) 그동안 이 스레드는 상세 묶음 생성
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public DollShopFullDetailDTO getFullDetail(Long id, int reviewSize) {
+        if (reviewSize < 1 || reviewSize > 100) {
+            throw new BusinessRuleException("리뷰 개수는 1 이상 100 이하여야 합니다.");
+        }
+        PageRequest reviewPage = PageRequest.of(0, reviewSize);
+
+        DollShopDetailDTO cached = dollShopDetailCache.getIfPresent(id);
+        if (cached != null) {
+            return toFullDetail(cached, reviewService.getReviewsByDollShopIdPaged(id, reviewPage));
+        }
+        if (!dollShopRepository.existsById(id)) {
+            throw EntityNotFoundException.of("가게", id);
+        }
+
+        CompletableFuture<Page<ReviewDTO>> reviews = CompletableFuture.supplyAsync(
+                () -> reviewService.getReviewsByDollShopIdPaged(id, reviewPage),
+                applicationTaskExecutor);
+        DollShopDetailDTO detail = getDetail(id);
+        try {
+            return toFullDetail(detail, reviews.join());
+        } catch (CompletionException e) {
+            // 작업 스레드에서 난 예외는 원래 예외로 풀어서 전달 (GlobalExceptionHandler 처리 그대로)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static DollShopFullDetailDTO toFullDetail(DollShopDetailDTO detail, Page<ReviewDTO> reviews) {
+        return DollShopFullDetailDTO.builder()
+                .shop(detail.getShop())
+                .stats(detail.getStats())
+                .reviews(PageResponse.from(reviews))
+                .build();
+    }
+
+    /**
+     * 캐시 미스 시 DB에서 상세 묶음 생성 (매장 PK 조회 + 통계 한 행, 썸네일은 썸네일 캐시)
+     */
+    private DollShopDetailDTO loadDetail(Long id) {
+        DollShopDTO shop = dollShopRepository.findById(id)
             .map(DollShopDTO::from)
             .orElseThrow(() -> EntityNotFoundException.of("가게", id));
+        // 업로드된 대표 썸네일 우선 (썸네일 캐시, files 조회 없음)
+        String thumbnail = dollShopThumbnailCache.get(id);
+        if (thumbnail != null) {
+            shop.setImagePath(thumbnail);
+        }
+        // 리뷰가 없는 경우 기본값 (ReviewService.getReviewStats와 동일)
+        ReviewStatsDTO stats = reviewStatsRepository.findById(id)
+                .filter(entity -> entity.getReviewCount() > 0)
+                .map(ReviewStatsDTO::from)
+                .orElseGet(ReviewStatsDTO::empty);
+        shop.setAverageRating(stats.getAvgRating());
+        shop.setReviewCount(stats.getTotalReviews());
+        return DollShopDetailDTO.builder()
+                .shop(shop)
+                .stats(stats)
+                .build();
+    }
+
+    /**
+     * 키워드 검색 결과를 관련도순으로 줄지 (정렬 미지정 또는 sort=relevance)
+     */
+    private boolean isRelevanceOrder(Pageable pageable) {
+        return pageable.getSort().isEmpty()
+                || "relevance".equals(pageable.getSort().iterator().next().getProperty());
+    }
+
+    /**
+     * 키워드 검색 결과를 요청한 기준으로 메모리에서 다시 정렬 (searchByConditions와 같은 기준)
+     * - ID/기계 수는 색인 값, 리뷰 통계는 후보의 통계 행만 조회 (리뷰 없는 가게는 0)
+     * - 같은 값이면 ID 내림차순, 지원하지 않는 기준은 ID 내림차순
+     */
+    private List<Long> sortCandidates(List<Long> ids, Sort.Order order) {
+        String prop = order.getProperty();
+        Comparator<Long> byIdDesc = Comparator.reverseOrder();
+        Comparator<Long> comparator;
+        if ("id".equals(prop)) {
+            comparator = order.isAscending() ? Comparator.naturalOrder() : byIdDesc;
+        } else if ("totalGameMachines".equals(prop)) {
+            comparator = byKey(dollShopTextIndex::machinesOf, order).thenComparing(byIdDesc);
+        } else if (REVIEW_SORT_KEYS.contains(prop)) {
+            Map<Long, Double> keys = dollShopRepository.findReviewSortKeys(ids, prop);
+            comparator = byKey(id -> keys.getOrDefault(id, 0.0), order).thenComparing(byIdDesc);
+        } else {
+            comparator = byIdDesc;
+        }
+
+        List<Long> sorted = new ArrayList<>(ids);
+        sorted.sort(comparator);
+        return sorted;
+    }
+
+    private static Comparator<Long> byKey(ToDoubleFunction<Long> key, Sort.Order order) {
+        Comparator<Long> comparator = Comparator.comparingDouble(key);
+        return order.isAscending() ? comparator : comparator.reversed();
+    }
+
+    /**
+     * 지도 영역 좌표 검증 공통 메서드
+     */
+    private void validateBounds(double minLat, double maxLat, double minLng, double maxLng) {
+        if (minLat > maxLat || minLng > maxLng) {
+            throw new BusinessRuleException("최소 좌표는 최대 좌표보다 클 수 없습니다.");
+        }
     }
 }
@@ -0,0 +1,115 @@
+package com.doll.gacha.dollshop.cache;
+
+import com.doll.gacha.dollshop.DollShop;
+import com.doll.gacha.dollshop.dto.DollShopDetailDTO;
+import com.doll.gacha.dollshop.event.DollShopChangedEvent;
+import com.doll.gacha.file.entity.FileEntity;
+import com.doll.gacha.file.event.FileChangedEvent;
+import com.doll.gacha.review.event.ReviewStatsChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 매장 상세 2단 캐시 (L1: 서버 메모리 Caffeine, L2: DollShopDetailL2Cache)
+ * - 조회: L1 → L2 → DB(loader) 순서, 찾은 값은 위 단계에 다시 채움
+ * - L1은 크기 제한(기본 1만 개, 자주 보는 매장 위주로 남음) + 짧은 TTL (다른 서버 변경 반영 한도)
+ * - 무효화 (커밋 후): 매장 변경(DollShopChangedEvent), 리뷰 통계 변경(ReviewStatsChangedEvent),
+ *   매장 썸네일 저장/삭제(FileChangedEvent) → 해당 매장만 L1/L2에서 제거
+ * - L2 구현 빈이 없으면 L1만 사용
+ */
+@Component
+public class DollShopDetailCache {
+
+    private final Cache<Long, DollShopDetailDTO> l1;
+    private final DollShopDetailL2Cache l2;
+
+    public DollShopDetailCache(
+            ObjectProvider<DollShopDetailL2Cache> l2Provider,
+            @Value("${doll-shop.detail-cache.l1-max-size:10000}") long maxSize,
+            @Value("${doll-shop.detail-cache.l1-ttl-seconds:300}") long ttlSeconds) {
+        this.l1 = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.l2 = l2Provider.getIfAvailable();
+    }
+
+    /**
+     * 캐시 조회 (없으면 loader로 만들어서 L1/L2에 저장, loader 예외는 그대로 전달하고 저장 안 함)
+     * - 쓰기 트랜잭션 안에서 호출되면 캐시를 거치지 않음 (아직 커밋 안 된 변경을 캐시에 넣거나, 방금 바꾼 값 대신 캐시 값을 보지 않도록)
+     */
+    public DollShopDetailDTO get(Long shopId, Function<Long, DollShopDetailDTO> loader) {
+        if (inWriteTransaction()) {
+            return loader.apply(shopId);
+        }
+        return l1.get(shopId, id -> {
+            if (l2 != null) {
+                DollShopDetailDTO cached = l2.get(id).orElse(null);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+            DollShopDetailDTO loaded = loader.apply(id);
+            if (l2 != null) {
+                l2.put(id, loaded);
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * L1에 있을 때만 반환 (L2/DB 조회 없음, 쓰기 트랜잭션 안에서는 항상 null)
+     */
+    public DollShopDetailDTO getIfPresent(Long shopId) {
+        return inWriteTransaction() ? null : l1.getIfPresent(shopId);
+    }
+
+    public void evict(Long shopId) {
+        l1.invalidate(shopId);
+        if (l2 != null) {
+            l2.evict(shopId);
+        }
+    }
+
+    public void clear() {
+        l1.invalidateAll();
+        if (l2 != null) {
+            l2.clear();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShopChanged(DollShopChangedEvent event) {
+        event.getUpserted().stream().map(DollShop::getId).forEach(this::evict);
+        event.getDeletedIds().forEach(this::evict);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewStatsChanged(ReviewStatsChangedEvent event) {
+        if (event.isReconciled()) {
+            clear();
+        } else {
+            evict(event.getDollShopId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFileChanged(FileChangedEvent event) {
+        if (event.getRefType() == FileEntity.RefType.DOLL_SHOP && event.getUsage() == FileEntity.Usage.THUMBNAIL) {
+            evict(event.getRefId());
+        }
+    }
+
+    private static boolean inWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
@@ -0,0 +1,23 @@
+package com.doll.gacha.dollshop.cache;
+
+import com.doll.gacha.dollshop.dto.DollShopDetailDTO;
+
+import java.util.Optional;
+
+/**
+ * 매장 상세 L2 캐시 (서버 여러 대가 공유하는 캐시 자리)
+ * - 기본은 LocalDollShopDetailL2Cache (서버 메모리, 단일 서버용)
+ * - 여러 대로 운영하면 doll-shop.detail-cache.l2=redis 처럼 local 이외 값으로 두고 Redis 등으로 구현한 빈 등록
+ *   이때 evict는 다른 서버의 L1까지 지워지도록 브로드캐스트해야 함 (아니면 L1 TTL만큼 늦게 반영)
+ * - 구현 빈이 하나도 없으면 L1만 사용
+ */
+public interface DollShopDetailL2Cache {
+
+    Optional<DollShopDetailDTO> get(Long shopId);
+
+    void put(Long shopId, DollShopDetailDTO detail);
+
+    void evict(Long shopId);
+
+    void clear();
+}
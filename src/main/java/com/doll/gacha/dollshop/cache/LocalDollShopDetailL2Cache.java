@@ -0,0 +1,52 @@
+package com.doll.gacha.dollshop.cache;
+
+import com.doll.gacha.dollshop.dto.DollShopDetailDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 매장 상세 L2 캐시 - 서버 메모리 구현 (분산 캐시가 없는 단일 서버/로컬 개발용)
+ * - L1보다 크고 오래 보관 (L1에서 밀려난 매장도 DB 없이 응답)
+ * - 다른 구현을 쓰려면 doll-shop.detail-cache.l2 를 local 이외의 값으로 두고 DollShopDetailL2Cache 빈 등록
+ */
+@Component
+@ConditionalOnProperty(name = "doll-shop.detail-cache.l2", havingValue = "local", matchIfMissing = true)
+public class LocalDollShopDetailL2Cache implements DollShopDetailL2Cache {
+
+    private final Cache<Long, DollShopDetailDTO> cache;
+
+    public LocalDollShopDetailL2Cache(
+            @Value("${doll-shop.detail-cache.l2-max-size:50000}") long maxSize,
+            @Value("${doll-shop.detail-cache.l2-ttl-minutes:60}") long ttlMinutes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    @Override
+    public Optional<DollShopDetailDTO> get(Long shopId) {
+        return Optional.ofNullable(cache.getIfPresent(shopId));
+    }
+
+    @Override
+    public void put(Long shopId, DollShopDetailDTO detail) {
+        cache.put(shopId, detail);
+    }
+
+    @Override
+    public void evict(Long shopId) {
+        cache.invalidate(shopId);
+    }
+
+    @Override
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,31 @@
+package com.doll.gacha.dollshop.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+/**
+ * 지도 클러스터 응답 DTO
+ * - count > 1 : 클러스터 중심 좌표 + 매장 수만 전달
+ * - count == 1: 단일 매장이므로 shop에 마커 정보 포함
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DollShopClusterDTO {
+    private Double latitude;        // 클러스터 중심 위도 (매장 평균)
+    private Double longitude;       // 클러스터 중심 경도 (매장 평균)
+    private Integer count;          // 묶인 매장 수
+    private DollShopMapDTO shop;    // 단일 매장일 때만
+
+    public static DollShopClusterDTO single(DollShopMapDTO shop) {
+        return DollShopClusterDTO.builder()
+                .latitude(shop.getLatitude())
+                .longitude(shop.getLongitude())
+                .count(1)
+                .shop(shop)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.doll.gacha.dollshop.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 지도 데이터 변경분 응답 DTO (앱 오프라인 지도 동기화용)
+ * - 앱은 보관 중인 매장 목록에 upserts를 덮어쓰고 tombstones를 지운 뒤 version을 저장
+ * - hasMore면 version을 since로 바로 다시 요청
+ * - fullReload면 since가 너무 오래됐거나 서버 데이터가 초기화된 것 → /map 전체 다시 받기
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DollShopDeltaDTO {
+    private long version;                   // 이번 응답까지 반영된 버전 (다음 요청의 since)
+    private List<DollShopMapDTO> upserts;   // 새로 생기거나 바뀐 운영중 매장
+    private List<Long> tombstones;          // 지도에서 빠진 매장 ID (폐업/삭제)
+    private boolean hasMore;                // 아직 남은 변경이 있음
+    private boolean fullReload;             // 변경분 대신 전체 스냅샷을 다시 받아야 함
+}
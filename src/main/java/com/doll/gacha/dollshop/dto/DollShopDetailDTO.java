@@ -0,0 +1,19 @@
+package com.doll.gacha.dollshop.dto;
+
+import com.doll.gacha.review.dto.ReviewStatsDTO;
+import lombok.*;
+
+/**
+ * 매장 상세 묶음 DTO (매장 정보 + 대표 썸네일 + 리뷰 통계)
+ * - 상세 화면에 필요한 것을 한 번에 캐시하는 단위 (DollShopDetailCache)
+ * - shop.imagePath = 대표 썸네일, shop.averageRating/reviewCount = stats와 동일
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DollShopDetailDTO {
+    private DollShopDTO shop;       // 매장 정보 (썸네일, 평균 별점/리뷰 수 포함)
+    private ReviewStatsDTO stats;   // 리뷰 통계 (리뷰가 없으면 0)
+}
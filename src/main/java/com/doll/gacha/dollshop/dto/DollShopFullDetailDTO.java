@@ -0,0 +1,21 @@
+package com.doll.gacha.dollshop.dto;
+
+import com.doll.gacha.common.dto.PageResponse;
+import com.doll.gacha.review.dto.ReviewDTO;
+import com.doll.gacha.review.dto.ReviewStatsDTO;
+import lombok.*;
+
+/**
+ * 매장 상세 화면 한 번에 조회 응답 (GET /api/doll-shops/{id}/full)
+ * - 기존에 따로 호출하던 매장 상세 / 리뷰 통계 / 리뷰 첫 페이지를 묶음 (대표 썸네일은 shop.imagePath)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DollShopFullDetailDTO {
+    private DollShopDTO shop;                   // 매장 정보 (대표 썸네일 포함)
+    private ReviewStatsDTO stats;               // 리뷰 통계
+    private PageResponse<ReviewDTO> reviews;    // 리뷰 첫 페이지
+}
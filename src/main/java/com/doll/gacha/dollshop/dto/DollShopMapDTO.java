@@ -22,6 +22,8 @@ public class DollShopMapDTO {
     private Integer totalGameMachines;  // 총 기계 수
     private LocalDate approvalDate;        // 승인일
     private Boolean isOperating;        // 운영 여부
+    private String gubun1;              // 시/도
+    private String gubun2;              // 시/군/구
 
     /**
      * DollShop 엔티티를 MapDTO로 변환
@@ -37,6 +39,8 @@ public class DollShopMapDTO {
                 .totalGameMachines(shop.getTotalGameMachines())
                 .approvalDate(shop.getApprovalDate())
                 .isOperating(shop.getIsOperating())
+                .gubun1(shop.getGubun1())
+                .gubun2(shop.getGubun2())
                 .build();
     }
 }
@@ -0,0 +1,45 @@
+package com.doll.gacha.dollshop.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.LocalDate;
+import lombok.*;
+
+/**
+ * 내 주변 매장 응답 DTO - 지도 마커 정보 + 현재 위치와의 거리
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DollShopNearbyDTO {
+    private Long id;                    // 매장 ID
+    private String businessName;        // 매장명
+    private String address;             // 주소
+    private String phone;               // 전화번호
+    private Double longitude;           // 경도 (x)
+    private Double latitude;            // 위도 (y)
+    private Integer totalGameMachines;  // 총 기계 수
+    private LocalDate approvalDate;     // 승인일
+    private Boolean isOperating;        // 운영 여부
+    private Double distanceKm;          // 현재 위치로부터 거리 (하버사인, km)
+    private String imagePath;           // 대표 썸네일 (썸네일 캐시, 없으면 생략)
+    private Double averageRating;       // 평균 별점 (별점순 정렬 요청 시에만)
+    private Long reviewCount;           // 리뷰 수 (별점순 정렬 요청 시에만)
+
+    public static DollShopNearbyDTO of(DollShopMapDTO shop, double distanceKm) {
+        return DollShopNearbyDTO.builder()
+                .id(shop.getId())
+                .businessName(shop.getBusinessName())
+                .address(shop.getAddress())
+                .phone(shop.getPhone())
+                .longitude(shop.getLongitude())
+                .latitude(shop.getLatitude())
+                .totalGameMachines(shop.getTotalGameMachines())
+                .approvalDate(shop.getApprovalDate())
+                .isOperating(shop.getIsOperating())
+                .distanceKm(distanceKm)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.doll.gacha.dollshop.dto;
+
+import lombok.*;
+
+/**
+ * 지역별 집계 응답 DTO (지도 단계구분도/지역 드롭다운 개수 표시용)
+ * - gubun2가 null이면 시/도 전체 합계
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DollShopRegionStatsDTO {
+    private String gubun1;              // 시/도
+    private String gubun2;              // 시/군/구 (null = 시/도 합계)
+    private long shopCount;             // 운영중 매장 수
+    private long totalGameMachines;     // 기계 수 합계
+    private long reviewCount;           // 리뷰 수 합계
+    private Double averageRating;       // 리뷰 가중 평균 별점 (리뷰가 없으면 0.0)
+}
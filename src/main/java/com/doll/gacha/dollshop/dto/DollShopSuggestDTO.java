@@ -0,0 +1,48 @@
+package com.doll.gacha.dollshop.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+/**
+ * 검색창 자동완성 응답 DTO - 지역(시/도, 시/군/구) 또는 매장
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DollShopSuggestDTO {
+    private Type type;          // REGION 또는 SHOP
+    private String text;        // 표시할 문자열 (지역명 또는 매장명)
+    private String gubun1;      // 시/도
+    private String gubun2;      // 시/군/구 (시/도 자체가 후보면 null)
+    private Integer shopCount;  // 지역 후보의 운영중 매장 수
+    private Long shopId;        // 매장 후보의 ID
+    private String address;     // 매장 후보의 주소
+
+    public enum Type {
+        REGION, SHOP
+    }
+
+    public static DollShopSuggestDTO shop(DollShopMapDTO shop) {
+        return DollShopSuggestDTO.builder()
+                .type(Type.SHOP)
+                .text(shop.getBusinessName())
+                .gubun1(shop.getGubun1())
+                .gubun2(shop.getGubun2())
+                .shopId(shop.getId())
+                .address(shop.getAddress())
+                .build();
+    }
+
+    public static DollShopSuggestDTO region(String gubun1, String gubun2, int shopCount) {
+        return DollShopSuggestDTO.builder()
+                .type(Type.REGION)
+                .text(gubun2 != null ? gubun1 + " " + gubun2 : gubun1)
+                .gubun1(gubun1)
+                .gubun2(gubun2)
+                .shopCount(shopCount)
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.doll.gacha.dollshop.event;
+
+import com.doll.gacha.dollshop.DollShop;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 매장 데이터 변경 이벤트
+ * - 매장 등록/수정/폐업 처리 후 발행 → 메모리 인덱스들이 구독해서 동기화
+ * - upserted: 새로 생기거나 값이 바뀐 매장 (isOperating=false면 인덱스에서 제거)
+ * - deletedIds: DB에서 완전히 삭제된 매장 ID
+ */
+@Getter
+@RequiredArgsConstructor
+public class DollShopChangedEvent {
+    private final List<DollShop> upserted;
+    private final List<Long> deletedIds;
+
+    public static DollShopChangedEvent upserted(List<DollShop> shops) {
+        return new DollShopChangedEvent(shops, List.of());
+    }
+
+    public static DollShopChangedEvent deleted(List<Long> ids) {
+        return new DollShopChangedEvent(List.of(), ids);
+    }
+}
@@ -0,0 +1,42 @@
+package com.doll.gacha.dollshop.importer;
+
+/**
+ * 주소에서 시/도(gubun1), 시/군/구(gubun2) 추출
+ * - "서울특별시 마포구 포은로 88" → 서울특별시 / 마포구
+ * - "경기도 수원시 팔달구 ..." → 경기도 / 수원시 (검색 필터의 시/군/구 목록과 동일하게 '구'는 버림)
+ * - 세종특별자치시는 시/군/구가 없으므로 "세종시"
+ */
+public final class AddressRegionParser {
+
+    private static final String SEJONG = "세종특별자치시";
+
+    private AddressRegionParser() {
+    }
+
+    public static String gubun1Of(String address) {
+        String[] tokens = tokensOf(address);
+        return tokens.length > 0 ? tokens[0] : null;
+    }
+
+    public static String gubun2Of(String address) {
+        String[] tokens = tokensOf(address);
+        if (tokens.length == 0) {
+            return null;
+        }
+        if (SEJONG.equals(tokens[0])) {
+            return "세종시";
+        }
+        if (tokens.length < 2) {
+            return null;
+        }
+        String candidate = tokens[1];
+        return candidate.endsWith("시") || candidate.endsWith("군") || candidate.endsWith("구") ? candidate : null;
+    }
+
+    private static String[] tokensOf(String address) {
+        if (address == null || address.isBlank()) {
+            return new String[0];
+        }
+        return address.trim().split("\\s+");
+    }
+}
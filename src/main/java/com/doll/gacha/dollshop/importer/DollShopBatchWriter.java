@@ -0,0 +1,102 @@
+package com.doll.gacha.dollshop.importer;
+
+import com.doll.gacha.dollshop.DollShop;
+import com.doll.gacha.dollshop.DollShopChangeLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 매장 JDBC 배치 쓰기 (일괄 적재 / 변경분 동기화 공용)
+ * - JPA save를 한 건씩 부르지 않고 배치로 전송 (영속성 컨텍스트/dirty checking 없음)
+ * - 이미 있는 매장(id 기준)은 값만 갱신, image_path 등 파일에 없는 컬럼은 유지
+ */
+@Component
+@RequiredArgsConstructor
+public class DollShopBatchWriter {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO doll_shop (id, business_name, longitude, latitude, address, total_game_machines," +
+            " phone, is_operating, approval_date, gubun1, gubun2)" +
+            " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)" +
+            " ON DUPLICATE KEY UPDATE" +
+            " business_name = VALUES(business_name), longitude = VALUES(longitude), latitude = VALUES(latitude)," +
+            " address = VALUES(address), total_game_machines = VALUES(total_game_machines), phone = VALUES(phone)," +
+            " is_operating = VALUES(is_operating), approval_date = VALUES(approval_date)," +
+            " gubun1 = VALUES(gubun1), gubun2 = VALUES(gubun2)";
+
+    private static final String CLOSE_SQL = "UPDATE doll_shop SET is_operating = false WHERE id = ?";
+
+    private static final String CHANGE_LOG_SQL =
+            "INSERT INTO doll_shop_change_log (doll_shop_id, change_type, source, changed_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 매장 추가/갱신
+     */
+    public void upsert(List<DollShop> shops, int batchSize) {
+        if (shops.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, shops, batchSize, (ps, shop) -> {
+            ps.setLong(1, shop.getId());
+            ps.setString(2, shop.getBusinessName());
+            ps.setDouble(3, shop.getLongitude());
+            ps.setDouble(4, shop.getLatitude());
+            ps.setString(5, shop.getAddress());
+            ps.setInt(6, shop.getTotalGameMachines());
+            ps.setString(7, shop.getPhone());
+            ps.setBoolean(8, shop.getIsOperating());
+            ps.setDate(9, Date.valueOf(shop.getApprovalDate()));
+            ps.setString(10, shop.getGubun1());
+            ps.setString(11, shop.getGubun2());
+        });
+    }
+
+    /**
+     * 폐업 처리 (is_operating만 false로, 나머지 컬럼은 그대로)
+     */
+    public void close(List<Long> shopIds, int batchSize) {
+        if (shopIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(CLOSE_SQL, shopIds, batchSize, (ps, id) -> ps.setLong(1, id));
+    }
+
+    /**
+     * 변경 이력 기록 (doll_shop_change_log)
+     */
+    public void appendChangeLog(List<DollShopChangeLog> logs, int batchSize) {
+        if (logs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(CHANGE_LOG_SQL, logs, batchSize, (ps, log) -> {
+            ps.setLong(1, log.getDollShopId());
+            ps.setString(2, log.getChangeType().name());
+            ps.setString(3, log.getSource());
+            ps.setTimestamp(4, Timestamp.valueOf(log.getChangedAt()));
+        });
+    }
+
+    /**
+     * doll_shop의 NOT NULL 컬럼이 모두 있는지 (gubun2는 주소에서 시/군/구를 못 찾으면 null)
+     */
+    public static boolean isComplete(DollShop shop) {
+        return shop.getId() != null
+                && shop.getBusinessName() != null
+                && shop.getLongitude() != null
+                && shop.getLatitude() != null
+                && shop.getAddress() != null
+                && shop.getTotalGameMachines() != null
+                && shop.getIsOperating() != null
+                && shop.getApprovalDate() != null
+                && shop.getGubun1() != null
+                && shop.getGubun2() != null;
+    }
+
+}
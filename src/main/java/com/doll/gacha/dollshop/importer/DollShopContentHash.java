@@ -0,0 +1,40 @@
+package com.doll.gacha.dollshop.importer;
+
+import com.doll.gacha.dollshop.DollShop;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 매장 한 건의 내용 해시 (변경분 동기화용)
+ * - 원본 파일에서 오는 컬럼만 포함 (image_path처럼 앱에서 관리하는 컬럼은 제외)
+ * - SHA-256 앞 8바이트만 사용 (지역당 수천 건 비교용이라 충돌 가능성 무시 가능)
+ */
+public final class DollShopContentHash {
+
+    private static final char SEPARATOR = '\u001f';
+
+    private DollShopContentHash() {
+    }
+
+    public static long of(DollShop shop) {
+        String content = String.valueOf(shop.getBusinessName()) + SEPARATOR
+                + shop.getLongitude() + SEPARATOR
+                + shop.getLatitude() + SEPARATOR
+                + shop.getAddress() + SEPARATOR
+                + shop.getTotalGameMachines() + SEPARATOR
+                + shop.getPhone() + SEPARATOR
+                + shop.getIsOperating() + SEPARATOR
+                + shop.getApprovalDate() + SEPARATOR
+                + shop.getGubun1() + SEPARATOR
+                + shop.getGubun2();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.doll.gacha.dollshop.importer;
+
+import com.doll.gacha.dollshop.DollShop;
+import com.doll.gacha.dollshop.DollShopChangeLog;
+import com.doll.gacha.dollshop.DollShopChangeLog.ChangeType;
+import com.doll.gacha.dollshop.event.DollShopChangedEvent;
+import com.doll.gacha.dollshop.repositroy.DollShopRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 공공데이터 갱신분만 반영하는 변경분 동기화 (지역 JSON 파일 하나 단위)
+ * - 파일의 매장과 DB의 같은 시/도(gubun1) 매장을 내용 해시(DollShopContentHash)로 비교
+ * - 새 매장 → INSERT, 해시가 다르면 → UPDATE (운영→폐업이면 CLOSE), 파일에서 사라진 운영중 매장 → CLOSE
+ * - 해시가 같은 매장은 DB에 쓰지 않음 → 전체 재적재 대비 쓰기량이 변경 건수에 비례
+ * - 바뀐 매장만 doll_shop_change_log에 기록하고 DollShopChangedEvent 발행 (커밋 후 인덱스가 해당 매장만 갱신)
+ *   이벤트는 이 프로세스 안에서만 전달되므로 웹 서버는 DollShopDataVersion이 변경 이력을 읽어서 같은 이벤트로 반영
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DollShopDiffSyncService {
+
+    private final DollShopRepository dollShopRepository;
+    private final DollShopJsonReader dollShopJsonReader;
+    private final DollShopBatchWriter dollShopBatchWriter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${doll-shop.import.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * 파일 하나 동기화 (한 트랜잭션 - 실패하면 이 파일의 변경은 전부 롤백)
+     */
+    @Transactional
+    public DollShopSyncResult sync(Path file) throws IOException {
+        long start = System.currentTimeMillis();
+        String source = file.getFileName().toString();
+
+        // 1. 파일 읽기 (id → 매장)
+        Map<Long, DollShop> incoming = new LinkedHashMap<>();
+        int[] skipped = new int[1];
+        dollShopJsonReader.read(file, shop -> {
+            if (DollShopBatchWriter.isComplete(shop)) {
+                incoming.put(shop.getId(), shop);
+            } else {
+                skipped[0]++;
+                log.warn("필수값 누락으로 건너뜀 - 파일: {}, id: {}", source, shop.getId());
+            }
+        });
+
+        // 2. 같은 시/도의 현재 매장 해시
+        Set<String> regions = new TreeSet<>();
+        incoming.values().forEach(shop -> regions.add(shop.getGubun1()));
+        Map<Long, DollShop> current = new HashMap<>();
+        if (!regions.isEmpty()) {
+            dollShopRepository.findByGubun1In(regions).forEach(shop -> current.put(shop.getId(), shop));
+        }
+
+        // 3. 비교
+        List<DollShop> upserts = new ArrayList<>();
+        List<Long> closedIds = new ArrayList<>();
+        List<DollShop> changed = new ArrayList<>();
+        List<DollShopChangeLog> changeLogs = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        int inserted = 0;
+        int updated = 0;
+        int closed = 0;
+
+        for (DollShop shop : incoming.values()) {
+            DollShop before = current.get(shop.getId());
+            if (before == null) {
+                inserted++;
+                changeLogs.add(changeLogOf(shop.getId(), ChangeType.INSERT, source, now));
+            } else if (DollShopContentHash.of(before) == DollShopContentHash.of(shop)) {
+                continue;
+            } else if (Boolean.TRUE.equals(before.getIsOperating()) && !shop.getIsOperating()) {
+                closed++;
+                changeLogs.add(changeLogOf(shop.getId(), ChangeType.CLOSE, source, now));
+            } else {
+                updated++;
+                changeLogs.add(changeLogOf(shop.getId(), ChangeType.UPDATE, source, now));
+            }
+            upserts.add(shop);
+            changed.add(shop);
+        }
+
+        // 파일에서 사라진 운영중 매장은 폐업 처리 (행은 남겨둠 - 리뷰/이미지가 매장을 참조)
+        for (DollShop before : current.values()) {
+            if (!incoming.containsKey(before.getId()) && Boolean.TRUE.equals(before.getIsOperating())) {
+                closed++;
+                closedIds.add(before.getId());
+                changed.add(closedCopyOf(before));
+                changeLogs.add(changeLogOf(before.getId(), ChangeType.CLOSE, source, now));
+            }
+        }
+
+        // 4. 바뀐 것만 쓰기
+        dollShopBatchWriter.upsert(upserts, batchSize);
+        dollShopBatchWriter.close(closedIds, batchSize);
+        dollShopBatchWriter.appendChangeLog(changeLogs, batchSize);
+
+        if (!changed.isEmpty()) {
+            eventPublisher.publishEvent(DollShopChangedEvent.upserted(changed));
+        }
+
+        DollShopSyncResult result = DollShopSyncResult.builder()
+                .fileName(source)
+                .regions(regions)
+                .inserted(inserted)
+                .updated(updated)
+                .closed(closed)
+                .unchanged(incoming.size() - upserts.size())
+                .skipped(skipped[0])
+                .elapsedMillis(System.currentTimeMillis() - start)
+                .build();
+
+        log.info("매장 변경분 동기화 - {} {}: 추가 {}건, 변경 {}건, 폐업 {}건, 동일 {}건, 건너뜀 {}건, {}ms",
+                source, regions, inserted, updated, closed, result.getUnchanged(), result.getSkipped(),
+                result.getElapsedMillis());
+        return result;
+    }
+
+    private static DollShopChangeLog changeLogOf(Long shopId, ChangeType type, String source, LocalDateTime at) {
+        return DollShopChangeLog.builder()
+                .dollShopId(shopId)
+                .changeType(type)
+                .source(source)
+                .changedAt(at)
+                .build();
+    }
+
+    // 이벤트용 폐업 상태 사본 (엔티티는 setter가 없고, DB는 CLOSE_SQL로 이미 갱신)
+    private static DollShop closedCopyOf(DollShop shop) {
+        return DollShop.builder()
+                .id(shop.getId())
+                .businessName(shop.getBusinessName())
+                .longitude(shop.getLongitude())
+                .latitude(shop.getLatitude())
+                .address(shop.getAddress())
+                .totalGameMachines(shop.getTotalGameMachines())
+                .phone(shop.getPhone())
+                .isOperating(false)
+                .approvalDate(shop.getApprovalDate())
+                .gubun1(shop.getGubun1())
+                .gubun2(shop.getGubun2())
+                .imagePath(shop.getImagePath())
+                .build();
+    }
+}
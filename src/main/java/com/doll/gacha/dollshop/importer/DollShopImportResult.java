@@ -0,0 +1,33 @@
+package com.doll.gacha.dollshop.importer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 매장 일괄 적재 결과 (처리량 보고용)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class DollShopImportResult {
+    private List<FileResult> files;     // 파일별 결과
+    private long totalRows;             // 저장한 매장 수 (전체)
+    private long skippedRows;           // 필수값이 없어서 건너뛴 매장 수
+    private long elapsedMillis;         // 전체 소요 시간
+
+    public double rowsPerSecond() {
+        return elapsedMillis > 0 ? totalRows * 1000.0 / elapsedMillis : totalRows;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class FileResult {
+        private String fileName;
+        private long rows;
+        private long skipped;
+        private long elapsedMillis;
+    }
+}
@@ -0,0 +1,78 @@
+package com.doll.gacha.dollshop.importer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 매장 일괄 적재 실행기 (import 프로필에서만 동작)
+ * 실행 예: ./gradlew bootRun --args='--spring.profiles.active=import --doll-shop.import.dir=가게데이터'
+ *         운영 DB: --spring.profiles.active=prod,import
+ * doll-shop.import.mode=diff 면 파일별 변경분 동기화 (DollShopDiffSyncService, 바뀐 매장만 쓰고 변경 이력 기록)
+ * 적재가 끝나면 프로세스 종료 (doll-shop.import.exit-on-finish=false 면 서버 계속 실행)
+ */
+@Component
+@Profile("import")
+@RequiredArgsConstructor
+@Slf4j
+public class DollShopImportRunner implements ApplicationRunner {
+
+    private final DollShopImportService dollShopImportService;
+    private final DollShopDiffSyncService dollShopDiffSyncService;
+    private final DollShopJsonReader dollShopJsonReader;
+    private final ApplicationContext applicationContext;
+
+    @Value("${doll-shop.import.dir:가게데이터}")
+    private String importDir;
+
+    @Value("${doll-shop.import.mode:full}")
+    private String mode;
+
+    @Value("${doll-shop.import.exit-on-finish:true}")
+    private boolean exitOnFinish;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path dir = Paths.get(importDir);
+        log.info("매장 일괄 적재 시작 - 경로: {}, 방식: {}", dir.toAbsolutePath(), mode);
+
+        int exitCode = 0;
+        try {
+            if ("diff".equals(mode)) {
+                syncDirectory(dir);
+            } else {
+                dollShopImportService.importDirectory(dir);
+            }
+        } catch (Exception e) {
+            log.error("매장 일괄 적재 실패", e);
+            exitCode = 1;
+        }
+
+        if (exitOnFinish) {
+            int code = exitCode;
+            System.exit(SpringApplication.exit(applicationContext, () -> code));
+        }
+    }
+
+    /**
+     * 파일마다 따로 동기화 (파일 단위 트랜잭션 - 한 지역이 실패해도 나머지는 반영)
+     */
+    private void syncDirectory(Path dir) throws IOException {
+        long start = System.currentTimeMillis();
+        int changed = 0;
+        for (Path file : dollShopJsonReader.listFiles(dir)) {
+            changed += dollShopDiffSyncService.sync(file).changedCount();
+        }
+        log.info("매장 변경분 동기화 완료 - 변경: {}건, 소요: {}ms", changed, System.currentTimeMillis() - start);
+    }
+}
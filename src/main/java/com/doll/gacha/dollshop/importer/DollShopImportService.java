@@ -0,0 +1,129 @@
+package com.doll.gacha.dollshop.importer;
+
+import com.doll.gacha.dollshop.DollShop;
+import com.doll.gacha.dollshop.DollShopChangeLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 가게데이터/*.json 일괄 적재
+ * - 파일마다 스레드 하나 (파일별 병렬), 각 파일은 스트리밍으로 읽으면서 batchSize개씩 JDBC 배치 upsert
+ * - 배치는 드라이버가 multi-row INSERT로 묶어서 보냄 (application-import.yml의 rewriteBatchedStatements/useBulkStmts)
+ * - 이미 있는 매장(id 기준)은 값만 갱신 (DollShopBatchWriter), 저장한 매장은 변경 이력에도 기록
+ * - 메모리 인덱스 반영은 변경 이력으로만 (DollShopDataVersion이 주기적으로 읽어서 반영, 이 프로세스도 동일)
+ *   → 저장한 매장을 모아두지 않으므로 파일 크기와 상관없이 메모리에는 스레드별 배치 하나만
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DollShopImportService {
+
+    private final DollShopBatchWriter dollShopBatchWriter;
+    private final DollShopJsonReader dollShopJsonReader;
+
+    @Value("${doll-shop.import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${doll-shop.import.threads:4}")
+    private int threads;
+
+    /**
+     * 디렉터리 안의 *.json 전부 적재
+     */
+    public DollShopImportResult importDirectory(Path dir) throws IOException {
+        List<Path> files = dollShopJsonReader.listFiles(dir);
+
+        long start = System.currentTimeMillis();
+        List<DollShopImportResult.FileResult> fileResults = new ArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, files.size())));
+        try {
+            List<Future<DollShopImportResult.FileResult>> futures = new ArrayList<>();
+            for (Path file : files) {
+                futures.add(executor.submit(() -> importFile(file)));
+            }
+            for (Future<DollShopImportResult.FileResult> future : futures) {
+                fileResults.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("매장 적재가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IOException("매장 적재 실패: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        DollShopImportResult result = DollShopImportResult.builder()
+                .files(fileResults)
+                .totalRows(fileResults.stream().mapToLong(DollShopImportResult.FileResult::getRows).sum())
+                .skippedRows(fileResults.stream().mapToLong(DollShopImportResult.FileResult::getSkipped).sum())
+                .elapsedMillis(System.currentTimeMillis() - start)
+                .build();
+
+        fileResults.forEach(file -> log.info("매장 적재 - {}: {}건 (건너뜀 {}건), {}ms",
+                file.getFileName(), file.getRows(), file.getSkipped(), file.getElapsedMillis()));
+        log.info("매장 적재 완료 - 파일: {}개, 저장: {}건, 건너뜀: {}건, 소요: {}ms, 처리량: {}건/초",
+                fileResults.size(), result.getTotalRows(), result.getSkippedRows(),
+                result.getElapsedMillis(), String.format("%.0f", result.rowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * 파일 하나 적재 (읽으면서 batchSize개 모이면 바로 저장 → 메모리에는 배치 하나만)
+     */
+    private DollShopImportResult.FileResult importFile(Path file) throws IOException {
+        long start = System.currentTimeMillis();
+        List<DollShop> batch = new ArrayList<>(batchSize);
+        long[] counts = new long[2];  // [저장, 건너뜀]
+        String source = file.getFileName().toString();
+
+        dollShopJsonReader.read(file, shop -> {
+            if (!DollShopBatchWriter.isComplete(shop)) {
+                counts[1]++;
+                log.warn("필수값 누락으로 건너뜀 - 파일: {}, id: {}", file.getFileName(), shop.getId());
+                return;
+            }
+            batch.add(shop);
+            if (batch.size() >= batchSize) {
+                counts[0] += flush(batch, source);
+            }
+        });
+        counts[0] += flush(batch, source);
+
+        return new DollShopImportResult.FileResult(
+                source, counts[0], counts[1], System.currentTimeMillis() - start);
+    }
+
+    private int flush(List<DollShop> batch, String source) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        dollShopBatchWriter.upsert(batch, batch.size());
+        // 전체 적재는 비교를 안 하므로 전부 UPDATE로 기록 (앱은 변경분 API에서 최신 상태로 다시 받음)
+        LocalDateTime now = LocalDateTime.now();
+        dollShopBatchWriter.appendChangeLog(batch.stream()
+                .map(shop -> DollShopChangeLog.builder()
+                        .dollShopId(shop.getId())
+                        .changeType(DollShopChangeLog.ChangeType.UPDATE)
+                        .source(source)
+                        .changedAt(now)
+                        .build())
+                .toList(), batch.size());
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+}
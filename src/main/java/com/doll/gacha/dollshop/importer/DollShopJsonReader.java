@@ -0,0 +1,94 @@
+package com.doll.gacha.dollshop.importer;
+
+import com.doll.gacha.dollshop.DollShop;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 가게데이터 JSON 파일 스트리밍 파서
+ * - 파일 전체를 List로 올리지 않고 토큰 단위로 읽으면서 매장 하나씩 consumer에 넘김
+ * - 형식: [ { "id": 855, "businessName": "...", "longitude": .., "latitude": .., "address": "...",
+ *            "totalGameMachines": 43, "phone": null, "isOperating": true, "approvalDate": "2025-08-28" }, ... ]
+ * - gubun1/gubun2는 파일에 없으므로 주소에서 추출
+ * - 모르는 필드는 건너뜀
+ */
+@Component
+public class DollShopJsonReader {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    /**
+     * 디렉터리 안의 *.json 파일 (이름순)
+     */
+    public List<Path> listFiles(Path dir) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*.json")) {
+            stream.forEach(files::add);
+        }
+        if (files.isEmpty()) {
+            throw new IOException("적재할 JSON 파일이 없습니다: " + dir.toAbsolutePath());
+        }
+        Collections.sort(files);
+        return files;
+    }
+
+    /**
+     * @return 읽은 매장 수
+     */
+    public int read(Path file, Consumer<DollShop> consumer) throws IOException {
+        int count = 0;
+        try (JsonParser parser = jsonFactory.createParser(file.toFile())) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("매장 배열(JSON array)이 아닙니다: " + file);
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                consumer.accept(readShop(parser));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private DollShop readShop(JsonParser parser) throws IOException {
+        DollShop.DollShopBuilder builder = DollShop.builder();
+        String address = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "id" -> builder.id(parser.getLongValue());
+                case "businessName" -> builder.businessName(parser.getText());
+                case "longitude" -> builder.longitude(parser.getDoubleValue());
+                case "latitude" -> builder.latitude(parser.getDoubleValue());
+                case "address" -> address = parser.getText();
+                case "totalGameMachines" -> builder.totalGameMachines(parser.getIntValue());
+                case "phone" -> builder.phone(parser.getText());
+                case "isOperating" -> builder.isOperating(parser.getBooleanValue());
+                case "approvalDate" -> builder.approvalDate(LocalDate.parse(parser.getText()));
+                default -> parser.skipChildren();
+            }
+        }
+
+        return builder
+                .address(address)
+                .gubun1(AddressRegionParser.gubun1Of(address))
+                .gubun2(AddressRegionParser.gubun2Of(address))
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.doll.gacha.dollshop.importer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 변경분 동기화 결과 (파일 하나)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class DollShopSyncResult {
+    private String fileName;
+    private Set<String> regions;    // 비교한 시/도 (gubun1)
+    private int inserted;           // 새 매장
+    private int updated;            // 정보 변경
+    private int closed;             // 폐업 (파일에서 isOperating=false 또는 파일에서 사라짐)
+    private int unchanged;          // 해시가 같아서 건너뜀
+    private int skipped;            // 필수값 누락
+    private long elapsedMillis;
+
+    public int changedCount() {
+        return inserted + updated + closed;
+    }
+}
@@ -0,0 +1,210 @@
+package com.doll.gacha.dollshop.index;
+
+import com.doll.gacha.dollshop.DollShop;
+import com.doll.gacha.dollshop.dto.DollShopClusterDTO;
+import com.doll.gacha.dollshop.dto.DollShopMapDTO;
+import com.doll.gacha.dollshop.dto.DollShopSearchDTO;
+import com.doll.gacha.dollshop.event.DollShopChangedEvent;
+import com.doll.gacha.dollshop.repositroy.DollShopRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지도 마커 클러스터 인덱스 (줌 레벨별 격자 클러스터 미리 계산)
+ * - 줌(웹 지도 표준 0~21)마다 화면상 약 CLUSTER_PIXELS 픽셀 크기의 격자로 매장을 묶음
+ * - MAX_CLUSTER_ZOOM 보다 확대하면 클러스터 없이 개별 매장 반환 (DollShopGridIndex 사용)
+ * - 응답 크기는 화면에 보이는 셀 수에만 비례 (전국 매장 수와 무관)
+ * - 매장 변경 시 바뀐 셀만 다시 계산
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DollShopClusterIndex {
+
+    static final int MIN_ZOOM = 5;           // 이보다 축소해도 5레벨 클러스터 사용 (전국이 한 화면)
+    static final int MAX_CLUSTER_ZOOM = 15;  // 16레벨부터는 개별 매장
+    private static final int CLUSTER_PIXELS = 60;
+
+    private final DollShopRepository dollShopRepository;
+    private final DollShopGridIndex dollShopGridIndex;
+
+    // [쓰기용] 줌 → 셀 키 → 셀에 속한 매장들 (synchronized 안에서만 접근)
+    private final Map<Integer, Map<Long, Map<Long, DollShopMapDTO>>> members = new HashMap<>();
+
+    // [쓰기용] 매장 ID → 매장 (이동/삭제 시 기존 셀 계산용)
+    private final Map<Long, DollShopMapDTO> shops = new HashMap<>();
+
+    // [읽기용] 줌 → 셀 키 → 계산된 클러스터 (락 없이 조회)
+    private final Map<Integer, Map<Long, DollShopClusterDTO>> clusters = new ConcurrentHashMap<>();
+
+    /**
+     * 전체 재계산 (서버 기동 시)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        List<DollShopMapDTO> all = dollShopRepository.searchForMap(new DollShopSearchDTO());
+
+        members.clear();
+        shops.clear();
+        for (DollShopMapDTO shop : all) {
+            shops.put(shop.getId(), shop);
+            for (int zoom = MIN_ZOOM; zoom <= MAX_CLUSTER_ZOOM; zoom++) {
+                members.computeIfAbsent(zoom, z -> new HashMap<>())
+                        .computeIfAbsent(cellKeyOf(shop, zoom), key -> new HashMap<>())
+                        .put(shop.getId(), shop);
+            }
+        }
+
+        for (int zoom = MIN_ZOOM; zoom <= MAX_CLUSTER_ZOOM; zoom++) {
+            Map<Long, DollShopClusterDTO> level = new ConcurrentHashMap<>();
+            members.getOrDefault(zoom, Map.of()).forEach((key, cell) -> level.put(key, summarize(cell)));
+            clusters.put(zoom, level);
+        }
+
+        log.info("매장 클러스터 인덱스 적재 완료 - 매장 수: {}, 줌 {}~{}, 소요: {}ms",
+                shops.size(), MIN_ZOOM, MAX_CLUSTER_ZOOM, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 매장 변경 반영 (트랜잭션 커밋 후 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onShopChanged(DollShopChangedEvent event) {
+        for (DollShop shop : event.getUpserted()) {
+            remove(shop.getId());
+            if (Boolean.TRUE.equals(shop.getIsOperating())) {
+                add(DollShopMapDTO.from(shop));
+            }
+        }
+        event.getDeletedIds().forEach(this::remove);
+    }
+
+    /**
+     * 화면 영역의 클러스터 조회
+     * - 셀이 영역에 걸쳐 있어도 클러스터 중심이 영역 밖이면 제외 (셀 순회/클러스터 순회 결과가 같도록)
+     * @param zoom 웹 지도 줌 레벨 (클수록 확대)
+     */
+    public List<DollShopClusterDTO> searchInBounds(double minLat, double maxLat, double minLng, double maxLng, int zoom) {
+        if (zoom > MAX_CLUSTER_ZOOM) {
+            return dollShopGridIndex.searchInBounds(minLat, maxLat, minLng, maxLng).stream()
+                    .map(DollShopClusterDTO::single)
+                    .toList();
+        }
+
+        int level = Math.max(zoom, MIN_ZOOM);
+        double cellSize = cellSizeOf(level);
+        Map<Long, DollShopClusterDTO> cells = clusters.getOrDefault(level, Map.of());
+        List<DollShopClusterDTO> result = new ArrayList<>();
+
+        int minRow = (int) Math.floor(minLat / cellSize);
+        int maxRow = (int) Math.floor(maxLat / cellSize);
+        int minCol = (int) Math.floor(minLng / cellSize);
+        int maxCol = (int) Math.floor(maxLng / cellSize);
+
+        // 요청 영역이 셀 개수보다 넓으면 있는 셀만 순회
+        long cellCount = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+        if (cellCount > cells.size()) {
+            for (DollShopClusterDTO cluster : cells.values()) {
+                if (isCenterInBounds(cluster, minLat, maxLat, minLng, maxLng)) {
+                    result.add(cluster);
+                }
+            }
+            return result;
+        }
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                DollShopClusterDTO cluster = cells.get(DollShopGridIndex.cellKey(row, col));
+                if (cluster != null && isCenterInBounds(cluster, minLat, maxLat, minLng, maxLng)) {
+                    result.add(cluster);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean isCenterInBounds(DollShopClusterDTO cluster,
+                                            double minLat, double maxLat, double minLng, double maxLng) {
+        return cluster.getLatitude() >= minLat && cluster.getLatitude() <= maxLat
+                && cluster.getLongitude() >= minLng && cluster.getLongitude() <= maxLng;
+    }
+
+    private void add(DollShopMapDTO shop) {
+        shops.put(shop.getId(), shop);
+        for (int zoom = MIN_ZOOM; zoom <= MAX_CLUSTER_ZOOM; zoom++) {
+            long key = cellKeyOf(shop, zoom);
+            Map<Long, DollShopMapDTO> cell = members.computeIfAbsent(zoom, z -> new HashMap<>())
+                    .computeIfAbsent(key, k -> new HashMap<>());
+            cell.put(shop.getId(), shop);
+            clusters.computeIfAbsent(zoom, z -> new ConcurrentHashMap<>()).put(key, summarize(cell));
+        }
+    }
+
+    private void remove(Long shopId) {
+        DollShopMapDTO previous = shops.remove(shopId);
+        if (previous == null) {
+            return;
+        }
+        for (int zoom = MIN_ZOOM; zoom <= MAX_CLUSTER_ZOOM; zoom++) {
+            long key = cellKeyOf(previous, zoom);
+            Map<Long, Map<Long, DollShopMapDTO>> levelMembers = members.getOrDefault(zoom, Map.of());
+            Map<Long, DollShopMapDTO> cell = levelMembers.get(key);
+            if (cell == null) {
+                continue;
+            }
+            cell.remove(shopId);
+            Map<Long, DollShopClusterDTO> level = clusters.get(zoom);
+            if (cell.isEmpty()) {
+                levelMembers.remove(key);
+                level.remove(key);
+            } else {
+                level.put(key, summarize(cell));
+            }
+        }
+    }
+
+    /**
+     * 셀에 속한 매장들로 클러스터 계산 (중심 = 좌표 평균)
+     */
+    private static DollShopClusterDTO summarize(Map<Long, DollShopMapDTO> cell) {
+        if (cell.size() == 1) {
+            return DollShopClusterDTO.single(cell.values().iterator().next());
+        }
+        double sumLat = 0;
+        double sumLng = 0;
+        for (DollShopMapDTO shop : cell.values()) {
+            sumLat += shop.getLatitude();
+            sumLng += shop.getLongitude();
+        }
+        return DollShopClusterDTO.builder()
+                .latitude(sumLat / cell.size())
+                .longitude(sumLng / cell.size())
+                .count(cell.size())
+                .build();
+    }
+
+    /**
+     * 줌 레벨별 셀 크기(도) - 256px 타일 기준 CLUSTER_PIXELS 픽셀이 차지하는 경도
+     */
+    static double cellSizeOf(int zoom) {
+        return CLUSTER_PIXELS * 360.0 / (256.0 * (1L << zoom));
+    }
+
+    private static long cellKeyOf(DollShopMapDTO shop, int zoom) {
+        double cellSize = cellSizeOf(zoom);
+        return DollShopGridIndex.cellKey(
+                (int) Math.floor(shop.getLatitude() / cellSize),
+                (int) Math.floor(shop.getLongitude() / cellSize));
+    }
+}
@@ -0,0 +1,389 @@
+package com.doll.gacha.dollshop.index;
+
+import com.doll.gacha.dollshop.dto.DollShopMapDTO;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지도 매장 목록 컬럼형 바이너리 인코딩 (application/x-doll-shop-columnar)
+ * - JSON은 매장마다 필드명/전체 주소/날짜 문자열이 반복됨 → 같은 필드끼리 모아서(컬럼) 작게 저장
+ * - 정수는 모두 varint (작은 값은 1바이트), 부호가 있는 차이값은 zigzag
+ *
+ * 형식 (순서대로):
+ *   "DSMC" (4바이트), 형식 버전 (1바이트 = 3), 데이터 버전 (8바이트, big-endian), 매장 수 n (varint)
+ *   gubun1 사전: 개수 + 문자열들 / gubun2 사전: 개수 + 문자열들   (문자열 = varint 길이 + UTF-8)
+ *   id            n개: 직전 id와의 차이 (id 오름차순이라 양수)
+ *   latitude      자릿수 d (1바이트, 6~9) + n개: 10^-d도 고정소수점, 직전 값과의 차이 (zigzag)
+ *                 + 예외 개수 (varint) + 예외마다 (직전 예외와의 위치 차이 varint, double 8바이트 big-endian)
+ *                 예외 = 고정소수점으로 정확히 돌아오지 않는 좌표, 복원 시 double 값으로 덮어씀
+ *   longitude     위와 동일
+ *   gubun1        n개: 사전 인덱스 + 1 (0 = null)
+ *   gubun2        n개: 사전 인덱스 + 1 (0 = null)
+ *   totalGameMachines n개: 값 + 1 (0 = null)
+ *   approvalDate  n개: 0 = null, 그 외 (epochDay 직전 값과의 차이, zigzag) + 1
+ *                 직전 값은 null이 아닌 마지막 날짜 기준
+ *   businessName  n개: varint (길이 + 1, 0 = null) + UTF-8
+ *   address       n개: 0 = null, 그 외 varint ((길이 << 1 | 생략여부) + 1) + UTF-8
+ *                 생략여부=1 이면 "gubun1 gubun2 " 접두어를 뺀 나머지만 저장 (복원 시 다시 붙임)
+ *   phone         n개: varint (길이 + 1, 0 = null) + UTF-8
+ * - isOperating은 운영중 매장만 담으므로 생략
+ * - 좌표는 손실 없음: 자릿수는 컬럼마다 6~9 중 결과가 가장 작은 값으로 고르고, 맞지 않는 값만 double로 따로 담음
+ *   (번들 가게데이터는 대부분 소수점 7자리라 d = 7, 소수점 10자리인 좌표 12개만 예외)
+ * - 크기: 번들 가게데이터(운영중 5,182개) 기준 JSON 1.57MB → 컬럼형 398KB(약 4배), gzip까지 하면 154KB(약 10배)
+ *   (형식 버전 2에서 잰 값, 버전 3은 좌표 자릿수가 늘어 약 6KB 더 큼) - 10배 감소는 gzip을 같이 쓸 때 기준
+ * - 형식 버전 1은 null 값을 0/1970-01-01로 바꿔 담거나 인코딩 중 실패했으므로 2로 올림
+ * - 형식 버전 2는 좌표를 항상 1e-6도로 반올림했으므로(소수점 7자리 좌표 손실) 3으로 올림
+ */
+public final class DollShopColumnarCodec {
+
+    public static final String MEDIA_TYPE = "application/x-doll-shop-columnar";
+
+    private static final byte[] MAGIC = {'D', 'S', 'M', 'C'};
+    private static final int FORMAT_VERSION = 3;
+    private static final int MIN_COORD_DIGITS = 6;
+    private static final int MAX_COORD_DIGITS = 9;
+
+    private DollShopColumnarCodec() {
+    }
+
+    public static byte[] encode(List<DollShopMapDTO> shops, long dataVersion) {
+        List<DollShopMapDTO> sorted = new ArrayList<>(shops);
+        sorted.sort(Comparator.comparing(DollShopMapDTO::getId));
+
+        Map<String, Integer> gubun1Dict = new HashMap<>();
+        Map<String, Integer> gubun2Dict = new HashMap<>();
+        List<String> gubun1Values = new ArrayList<>();
+        List<String> gubun2Values = new ArrayList<>();
+        for (DollShopMapDTO shop : sorted) {
+            if (shop.getGubun1() != null) {
+                gubun1Dict.computeIfAbsent(shop.getGubun1(), key -> { gubun1Values.add(key); return gubun1Values.size() - 1; });
+            }
+            if (shop.getGubun2() != null) {
+                gubun2Dict.computeIfAbsent(shop.getGubun2(), key -> { gubun2Values.add(key); return gubun2Values.size() - 1; });
+            }
+        }
+
+        Writer out = new Writer(sorted.size() * 48);
+        out.bytes(MAGIC);
+        out.raw(FORMAT_VERSION);
+        out.int64(dataVersion);
+        out.varint(sorted.size());
+        out.varint(gubun1Values.size());
+        gubun1Values.forEach(out::string);
+        out.varint(gubun2Values.size());
+        gubun2Values.forEach(out::string);
+
+        long prev = 0;
+        for (DollShopMapDTO shop : sorted) {
+            out.varint(shop.getId() - prev);
+            prev = shop.getId();
+        }
+        writeCoords(out, sorted.stream().mapToDouble(DollShopMapDTO::getLatitude).toArray());
+        writeCoords(out, sorted.stream().mapToDouble(DollShopMapDTO::getLongitude).toArray());
+        for (DollShopMapDTO shop : sorted) {
+            out.varint(shop.getGubun1() == null ? 0 : gubun1Dict.get(shop.getGubun1()) + 1);
+        }
+        for (DollShopMapDTO shop : sorted) {
+            out.varint(shop.getGubun2() == null ? 0 : gubun2Dict.get(shop.getGubun2()) + 1);
+        }
+        for (DollShopMapDTO shop : sorted) {
+            out.varint(shop.getTotalGameMachines() == null ? 0 : shop.getTotalGameMachines() + 1L);
+        }
+        prev = 0;
+        for (DollShopMapDTO shop : sorted) {
+            if (shop.getApprovalDate() == null) {
+                out.varint(0);
+                continue;
+            }
+            long value = shop.getApprovalDate().toEpochDay();
+            out.varint(zigzag(value - prev) + 1);
+            prev = value;
+        }
+        for (DollShopMapDTO shop : sorted) {
+            out.nullableString(shop.getBusinessName());
+        }
+        for (DollShopMapDTO shop : sorted) {
+            String address = shop.getAddress();
+            if (address == null) {
+                out.varint(0);
+                continue;
+            }
+            String prefix = regionPrefix(shop);
+            boolean omitted = prefix != null && address.startsWith(prefix);
+            byte[] bytes = (omitted ? address.substring(prefix.length()) : address).getBytes(StandardCharsets.UTF_8);
+            out.varint((((long) bytes.length << 1) | (omitted ? 1 : 0)) + 1);
+            out.bytes(bytes);
+        }
+        for (DollShopMapDTO shop : sorted) {
+            out.nullableString(shop.getPhone());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 복원 (앱 구현 참고용 + 벤치마크/검증용)
+     */
+    public static List<DollShopMapDTO> decode(byte[] data) {
+        ByteBuffer in = ByteBuffer.wrap(data);
+        for (byte b : MAGIC) {
+            if (in.get() != b) {
+                throw new IllegalArgumentException("컬럼형 매장 데이터가 아닙니다.");
+            }
+        }
+        if (in.get() != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 형식 버전입니다.");
+        }
+        in.getLong();  // 데이터 버전
+        int n = (int) readVarint(in);
+        String[] gubun1Values = new String[(int) readVarint(in)];
+        for (int i = 0; i < gubun1Values.length; i++) {
+            gubun1Values[i] = readString(in, (int) readVarint(in));
+        }
+        String[] gubun2Values = new String[(int) readVarint(in)];
+        for (int i = 0; i < gubun2Values.length; i++) {
+            gubun2Values[i] = readString(in, (int) readVarint(in));
+        }
+
+        List<DollShopMapDTO> shops = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            shops.add(DollShopMapDTO.builder().isOperating(true).build());
+        }
+        long prev = 0;
+        for (DollShopMapDTO shop : shops) {
+            prev += readVarint(in);
+            shop.setId(prev);
+        }
+        double[] latitudes = readCoords(in, n);
+        double[] longitudes = readCoords(in, n);
+        for (int i = 0; i < n; i++) {
+            shops.get(i).setLatitude(latitudes[i]);
+            shops.get(i).setLongitude(longitudes[i]);
+        }
+        for (DollShopMapDTO shop : shops) {
+            int index = (int) readVarint(in);
+            shop.setGubun1(index == 0 ? null : gubun1Values[index - 1]);
+        }
+        for (DollShopMapDTO shop : shops) {
+            int index = (int) readVarint(in);
+            shop.setGubun2(index == 0 ? null : gubun2Values[index - 1]);
+        }
+        for (DollShopMapDTO shop : shops) {
+            long value = readVarint(in);
+            shop.setTotalGameMachines(value == 0 ? null : (int) (value - 1));
+        }
+        prev = 0;
+        for (DollShopMapDTO shop : shops) {
+            long value = readVarint(in);
+            if (value == 0) {
+                continue;
+            }
+            prev += unzigzag(value - 1);
+            shop.setApprovalDate(LocalDate.ofEpochDay(prev));
+        }
+        for (DollShopMapDTO shop : shops) {
+            shop.setBusinessName(readNullableString(in));
+        }
+        for (DollShopMapDTO shop : shops) {
+            long header = readVarint(in);
+            if (header == 0) {
+                continue;
+            }
+            header--;
+            String rest = readString(in, (int) (header >>> 1));
+            shop.setAddress((header & 1) == 1 ? regionPrefix(shop) + rest : rest);
+        }
+        for (DollShopMapDTO shop : shops) {
+            shop.setPhone(readNullableString(in));
+        }
+        return shops;
+    }
+
+    /**
+     * 좌표 컬럼 쓰기 - 자릿수 후보마다 크기를 계산해 가장 작은 것으로
+     */
+    private static void writeCoords(Writer out, double[] values) {
+        int digits = MIN_COORD_DIGITS;
+        long smallest = Long.MAX_VALUE;
+        for (int candidate = MIN_COORD_DIGITS; candidate <= MAX_COORD_DIGITS; candidate++) {
+            long size = coordsSize(values, scaleOf(candidate));
+            if (size < smallest) {
+                smallest = size;
+                digits = candidate;
+            }
+        }
+
+        double scale = scaleOf(digits);
+        out.raw(digits);
+        List<Integer> exceptions = new ArrayList<>();
+        long prev = 0;
+        for (int i = 0; i < values.length; i++) {
+            long fixed = Math.round(values[i] * scale);
+            out.zigzag(fixed - prev);
+            prev = fixed;
+            if (fixed / scale != values[i]) {
+                exceptions.add(i);
+            }
+        }
+        out.varint(exceptions.size());
+        int prevIndex = 0;
+        for (int index : exceptions) {
+            out.varint(index - prevIndex);
+            out.int64(Double.doubleToLongBits(values[index]));
+            prevIndex = index;
+        }
+    }
+
+    // writeCoords로 쓸 때의 바이트 수 (자릿수 고르기용)
+    private static long coordsSize(double[] values, double scale) {
+        long size = 0;
+        long prev = 0;
+        for (double value : values) {
+            long fixed = Math.round(value * scale);
+            size += varintSize(zigzag(fixed - prev));
+            prev = fixed;
+            if (fixed / scale != value) {
+                size += 1 + Long.BYTES;  // 위치 차이는 대부분 1~2바이트
+            }
+        }
+        return size;
+    }
+
+    private static double[] readCoords(ByteBuffer in, int n) {
+        double scale = scaleOf(in.get());
+        double[] values = new double[n];
+        long prev = 0;
+        for (int i = 0; i < n; i++) {
+            prev += readZigzag(in);
+            values[i] = prev / scale;
+        }
+        int exceptions = (int) readVarint(in);
+        int index = 0;
+        for (int i = 0; i < exceptions; i++) {
+            index += (int) readVarint(in);
+            values[index] = Double.longBitsToDouble(in.getLong());
+        }
+        return values;
+    }
+
+    // 10^digits (10을 곱해 나가면 중간값까지 모두 double로 정확히 표현됨)
+    private static double scaleOf(int digits) {
+        double scale = 1;
+        for (int i = 0; i < digits; i++) {
+            scale *= 10;
+        }
+        return scale;
+    }
+
+    private static int varintSize(long value) {
+        int size = 1;
+        while ((value & ~0x7fL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    // 주소 앞부분 "서울특별시 마포구 " (세종처럼 주소에 gubun2가 그대로 없으면 생략 안 함)
+    private static String regionPrefix(DollShopMapDTO shop) {
+        if (shop.getGubun1() == null || shop.getGubun2() == null) {
+            return null;
+        }
+        return shop.getGubun1() + " " + shop.getGubun2() + " ";
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7f) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static long readZigzag(ByteBuffer in) {
+        return unzigzag(readVarint(in));
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static String readString(ByteBuffer in, int length) {
+        String value = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static String readNullableString(ByteBuffer in) {
+        int length = (int) readVarint(in);
+        return length == 0 ? null : readString(in, length - 1);
+    }
+
+    /**
+     * varint/zigzag 쓰기용 버퍼
+     */
+    private static final class Writer extends ByteArrayOutputStream {
+
+        Writer(int initialSize) {
+            super(initialSize);
+        }
+
+        void raw(int b) {
+            write(b);
+        }
+
+        void bytes(byte[] bytes) {
+            write(bytes, 0, bytes.length);
+        }
+
+        void int64(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                write((int) (value >>> shift));
+            }
+        }
+
+        void varint(long value) {
+            while ((value & ~0x7fL) != 0) {
+                write((int) ((value & 0x7f) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void zigzag(long value) {
+            varint(DollShopColumnarCodec.zigzag(value));
+        }
+
+        void string(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            varint(bytes.length);
+            bytes(bytes);
+        }
+
+        // 길이 + 1 (0 = null)
+        void nullableString(String value) {
+            if (value == null) {
+                varint(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            varint(bytes.length + 1L);
+            bytes(bytes);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.doll.gacha.dollshop.index;
+
+import com.doll.gacha.common.util.GeoUtil;
+import com.doll.gacha.dollshop.DollShop;
+import com.doll.gacha.dollshop.dto.DollShopMapDTO;
+import com.doll.gacha.dollshop.dto.DollShopNearbyDTO;
+import com.doll.gacha.dollshop.dto.DollShopSearchDTO;
+import com.doll.gacha.dollshop.event.DollShopChangedEvent;
+import com.doll.gacha.dollshop.repositroy.DollShopRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지도용 매장 공간 인덱스 (균일 격자)
+ * - 위경도를 CELL_SIZE 단위 격자로 나눠서 셀별로 매장을 보관
+ * - 뷰포트(bbox) 조회 시 겹치는 셀만 훑으므로 DB 조회 없이 처리
+ * - 최근접 N개(k-NN) 조회는 내 셀부터 바깥 고리(ring)로 넓혀가며 탐색
+ * - 운영중인 매장만 보관 (searchForMap과 동일 조건)
+ * - 서버 기동 시 전체 적재, 이후 DollShopChangedEvent로 변경분만 반영
+ * - 쓰기(적재/추가/제거)는 synchronized, 읽기는 락 없이 ConcurrentHashMap만 사용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DollShopGridIndex {
+
+    // 격자 한 칸 크기 (0.05도 ≈ 위도 5.5km, 경도 4.4km)
+    static final double CELL_SIZE = 0.05;
+
+    private final DollShopRepository dollShopRepository;
+
+    // 매장 ID → 매장 (이동/삭제 시 기존 셀을 찾기 위함)
+    private volatile Map<Long, DollShopMapDTO> shops = new ConcurrentHashMap<>();
+
+    // 셀 키 → (매장 ID → 매장)
+    private volatile Map<Long, Map<Long, DollShopMapDTO>> cells = new ConcurrentHashMap<>();
+
+    /**
+     * 전체 재적재 (서버 기동 시)
+     * 새 맵을 다 채운 뒤 교체하므로 적재 중에도 기존 인덱스로 조회 가능
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        List<DollShopMapDTO> all = dollShopRepository.searchForMap(new DollShopSearchDTO());
+
+        Map<Long, DollShopMapDTO> newShops = new ConcurrentHashMap<>();
+        Map<Long, Map<Long, DollShopMapDTO>> newCells = new ConcurrentHashMap<>();
+        for (DollShopMapDTO shop : all) {
+            newShops.put(shop.getId(), shop);
+            newCells.computeIfAbsent(cellKeyOf(shop), key -> new ConcurrentHashMap<>()).put(shop.getId(), shop);
+        }
+        this.shops = newShops;
+        this.cells = newCells;
+
+        log.info("매장 공간 인덱스 적재 완료 - 매장 수: {}, 셀 수: {}, 소요: {}ms",
+                newShops.size(), newCells.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 매장 변경 반영 (트랜잭션 커밋 후 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShopChanged(DollShopChangedEvent event) {
+        for (DollShop shop : event.getUpserted()) {
+            if (Boolean.TRUE.equals(shop.getIsOperating())) {
+                upsert(DollShopMapDTO.from(shop));
+            } else {
+                remove(shop.getId());
+            }
+        }
+        event.getDeletedIds().forEach(this::remove);
+    }
+
+    /**
+     * 매장 추가/수정 (좌표가 바뀌었으면 기존 셀에서 빼고 새 셀에 넣음)
+     */
+    public synchronized void upsert(DollShopMapDTO shop) {
+        DollShopMapDTO previous = shops.put(shop.getId(), shop);
+        if (previous != null) {
+            removeFromCell(previous);
+        }
+        cells.computeIfAbsent(cellKeyOf(shop), key -> new ConcurrentHashMap<>()).put(shop.getId(), shop);
+    }
+
+    /**
+     * 매장 제거
+     */
+    public synchronized void remove(Long shopId) {
+        DollShopMapDTO previous = shops.remove(shopId);
+        if (previous != null) {
+            removeFromCell(previous);
+        }
+    }
+
+    /**
+     * 영역(bbox) 안의 매장 조회 (ID 내림차순 - 기존 지도 API와 동일)
+     */
+    public List<DollShopMapDTO> searchInBounds(double minLat, double maxLat, double minLng, double maxLng) {
+        List<DollShopMapDTO> result = new ArrayList<>();
+        Map<Long, Map<Long, DollShopMapDTO>> currentCells = this.cells;
+
+        int minRow = rowOf(minLat);
+        int maxRow = rowOf(maxLat);
+        int minCol = colOf(minLng);
+        int maxCol = colOf(maxLng);
+
+        // 영역이 너무 넓으면(전국 이상) 빈 셀까지 훑지 말고 있는 셀만 순회
+        long cellCount = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+        if (cellCount > currentCells.size()) {
+            for (Map<Long, DollShopMapDTO> cell : currentCells.values()) {
+                for (DollShopMapDTO shop : cell.values()) {
+                    if (contains(shop, minLat, maxLat, minLng, maxLng)) {
+                        result.add(shop);
+                    }
+                }
+            }
+        } else {
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int col = minCol; col <= maxCol; col++) {
+                    Map<Long, DollShopMapDTO> cell = currentCells.get(cellKey(row, col));
+                    if (cell == null) {
+                        continue;
+                    }
+                    boolean inside = row > minRow && row < maxRow && col > minCol && col < maxCol;
+                    for (DollShopMapDTO shop : cell.values()) {
+                        // 가장자리 셀만 좌표 비교, 안쪽 셀은 통째로 포함
+                        if (inside || contains(shop, minLat, maxLat, minLng, maxLng)) {
+                            result.add(shop);
+                        }
+                    }
+                }
+            }
+        }
+
+        result.sort(Comparator.comparing(DollShopMapDTO::getId).reversed());
+        return result;
+    }
+
+    /**
+     * 기준 좌표에서 가까운 매장 N개 조회 (가까운 순)
+     * - 내 셀(고리 0)부터 한 칸씩 바깥 고리를 훑음
+     * - N개를 채웠고 다음 고리까지의 최소 거리가 현재 N번째 거리보다 멀면 중단
+     * - radiusKm 밖의 매장은 제외
+     */
+    public List<DollShopNearbyDTO> findNearest(double latitude, double longitude, int limit, double radiusKm) {
+        Map<Long, Map<Long, DollShopMapDTO>> currentCells = this.cells;
+
+        // 거리 내림차순 힙 (맨 위 = 현재 후보 중 가장 먼 매장)
+        PriorityQueue<DollShopNearbyDTO> heap = new PriorityQueue<>(
+                Comparator.comparing(DollShopNearbyDTO::getDistanceKm).reversed());
+
+        int centerRow = rowOf(latitude);
+        int centerCol = colOf(longitude);
+
+        // 고리 한 칸의 최소 폭 (km) - 경도 방향이 더 좁으므로 고위도 쪽 기준
+        double cellKm = CELL_SIZE * GeoUtil.kmPerDegreeLng(Math.min(Math.abs(latitude) + 1.0, 89.0));
+        int maxRing = (int) Math.ceil(radiusKm / cellKm) + 1;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // 고리 ring에 있는 매장은 최소 (ring - 1) 칸 이상 떨어져 있음
+            double ringMinKm = Math.max(0, ring - 1) * cellKm;
+            if (ringMinKm > radiusKm) {
+                break;
+            }
+            if (heap.size() >= limit && ringMinKm > heap.peek().getDistanceKm()) {
+                break;
+            }
+
+            for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+                // 고리의 테두리 셀만 (맨 위/아래 줄은 전체, 나머지 줄은 양 끝)
+                boolean edgeRow = row == centerRow - ring || row == centerRow + ring;
+                int step = edgeRow || ring == 0 ? 1 : ring * 2;
+                for (int col = centerCol - ring; col <= centerCol + ring; col += step) {
+                    Map<Long, DollShopMapDTO> cell = currentCells.get(cellKey(row, col));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (DollShopMapDTO shop : cell.values()) {
+                        double distance = GeoUtil.haversineKm(latitude, longitude, shop.getLatitude(), shop.getLongitude());
+                        if (distance > radiusKm) {
+                            continue;
+                        }
+                        if (heap.size() < limit) {
+                            heap.add(DollShopNearbyDTO.of(shop, distance));
+                        } else if (distance < heap.peek().getDistanceKm()) {
+                            heap.poll();
+                            heap.add(DollShopNearbyDTO.of(shop, distance));
+                        }
+                    }
+                }
+            }
+        }
+
+        List<DollShopNearbyDTO> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparing(DollShopNearbyDTO::getDistanceKm));
+        return result;
+    }
+
+    /**
+     * 인덱스에 들어있는 전체 매장 (읽기 전용 뷰)
+     */
+    public Collection<DollShopMapDTO> getAll() {
+        return Collections.unmodifiableCollection(shops.values());
+    }
+
+    public int size() {
+        return shops.size();
+    }
+
+    private void removeFromCell(DollShopMapDTO shop) {
+        long key = cellKeyOf(shop);
+        Map<Long, DollShopMapDTO> cell = cells.get(key);
+        if (cell != null) {
+            cell.remove(shop.getId());
+            if (cell.isEmpty()) {
+                cells.remove(key, cell);
+            }
+        }
+    }
+
+    private static boolean contains(DollShopMapDTO shop, double minLat, double maxLat, double minLng, double maxLng) {
+        double lat = shop.getLatitude();
+        double lng = shop.getLongitude();
+        return lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng;
+    }
+
+    static int rowOf(double latitude) {
+        return (int) Math.floor(latitude / CELL_SIZE);
+    }
+
+    static int colOf(double longitude) {
+        return (int) Math.floor(longitude / CELL_SIZE);
+    }
+
+    static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    private static long cellKeyOf(DollShopMapDTO shop) {
+        return cellKey(rowOf(shop.getLatitude()), colOf(shop.getLongitude()));
+    }
+}
@@ -0,0 +1,80 @@
+package com.doll.gacha.dollshop.index;
+
+import com.doll.gacha.dollshop.DollShopDataVersion;
+import com.doll.gacha.dollshop.dto.DollShopMapDTO;
+import com.doll.gacha.dollshop.dto.DollShopSearchDTO;
+import com.doll.gacha.dollshop.repositroy.DollShopRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 전국 지도 매장 컬럼형 스냅샷 (데이터 버전마다 한 번만 인코딩)
+ * - 요청 시 버전이 같으면 만들어둔 바이트 배열을 그대로 응답 (요청마다 직렬화 없음)
+ * - 버전이 바뀐 뒤 첫 요청에서 다시 만듦 (동시에 여러 요청이 와도 한 번만)
+ * - gzip 본도 같이 만들어서 보관 (Accept-Encoding: gzip 이면 그대로 전송)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DollShopMapSnapshot {
+
+    private final DollShopRepository dollShopRepository;
+    private final DollShopDataVersion dollShopDataVersion;
+
+    private volatile Snapshot current;
+
+    public Snapshot get() {
+        Snapshot snapshot = current;
+        if (snapshot != null && snapshot.getVersion() == dollShopDataVersion.current()) {
+            return snapshot;
+        }
+        return rebuild();
+    }
+
+    private synchronized Snapshot rebuild() {
+        // 버전을 조회보다 먼저 읽음 (사이에 바뀌면 다음 요청에서 한 번 더 만들 뿐)
+        long version = dollShopDataVersion.current();
+        Snapshot snapshot = current;
+        if (snapshot != null && snapshot.getVersion() == version) {
+            return snapshot;
+        }
+
+        long start = System.currentTimeMillis();
+        List<DollShopMapDTO> shops = dollShopRepository.searchForMap(new DollShopSearchDTO());
+        byte[] raw = DollShopColumnarCodec.encode(shops, version);
+        snapshot = new Snapshot(version, raw, gzip(raw), shops.size());
+        current = snapshot;
+
+        log.info("지도 컬럼형 스냅샷 생성 - 버전: {}, 매장 수: {}, 크기: {}B (gzip {}B), 소요: {}ms",
+                version, shops.size(), raw.length, snapshot.getGzipped().length, System.currentTimeMillis() - start);
+        return snapshot;
+    }
+
+    private static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final long version;
+        private final byte[] raw;
+        private final byte[] gzipped;
+        private final int shopCount;
+    }
+}
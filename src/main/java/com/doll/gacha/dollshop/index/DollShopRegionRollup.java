@@ -0,0 +1,219 @@
+package com.doll.gacha.dollshop.index;
+
+import com.doll.gacha.dollshop.DollShop;
+import com.doll.gacha.dollshop.dto.DollShopMapDTO;
+import com.doll.gacha.dollshop.dto.DollShopRegionStatsDTO;
+import com.doll.gacha.dollshop.dto.DollShopSearchDTO;
+import com.doll.gacha.dollshop.event.DollShopChangedEvent;
+import com.doll.gacha.dollshop.repositroy.DollShopRepository;
+import com.doll.gacha.review.ReviewStatsEntity;
+import com.doll.gacha.review.event.ReviewStatsChangedEvent;
+import com.doll.gacha.review.repositroy.ReviewStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 지역(시/도, 시/군/구)별 집계 - 운영중 매장 수, 기계 수, 리뷰 수, 평균 별점
+ * - 서버 기동 시 한 번 적재, 이후 매장 변경(DollShopChangedEvent)/리뷰 통계 변경(ReviewStatsChangedEvent)의 증감분만 반영
+ * - 조회는 미리 만들어둔 결과 목록을 그대로 반환 (요청 시 집계 쿼리 없음)
+ * - 평균 별점은 리뷰 수 가중 (지역 별점 합 / 지역 리뷰 수), 폐업 매장의 리뷰는 제외
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DollShopRegionRollup {
+
+    private final DollShopRepository dollShopRepository;
+    private final ReviewStatsRepository reviewStatsRepository;
+
+    // [쓰기용] 운영중 매장 ID → 집계에 들어간 값 (synchronized 안에서만 접근)
+    private final Map<Long, ShopEntry> shops = new HashMap<>();
+
+    // [쓰기용] 매장 ID → 리뷰 수/별점 합 (폐업 매장 포함, 다시 운영하면 바로 반영)
+    private final Map<Long, long[]> reviews = new HashMap<>();
+
+    // [쓰기용] 지역 키 → 집계
+    private final Map<String, RegionTotals> regions = new HashMap<>();
+
+    // [읽기용] 정렬된 결과 (변경 시마다 통째로 교체, 락 없이 조회)
+    private volatile List<DollShopRegionStatsDTO> snapshot = List.of();
+
+    /**
+     * 전체 재적재 (서버 기동 시)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+
+        reviews.clear();
+        for (ReviewStatsEntity stats : reviewStatsRepository.findAll()) {
+            reviews.put(stats.getDollShopId(), new long[]{stats.getReviewCount(), stats.getRatingSum()});
+        }
+
+        shops.clear();
+        regions.clear();
+        for (DollShopMapDTO shop : dollShopRepository.searchForMap(new DollShopSearchDTO())) {
+            add(new ShopEntry(shop.getId(), shop.getGubun1(), shop.getGubun2(), machinesOf(shop.getTotalGameMachines())));
+        }
+        publish();
+
+        log.info("지역 집계 적재 완료 - 매장 수: {}, 지역 수: {}, 소요: {}ms",
+                shops.size(), regions.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 매장 변경 반영 (트랜잭션 커밋 후 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onShopChanged(DollShopChangedEvent event) {
+        for (DollShop shop : event.getUpserted()) {
+            remove(shop.getId());
+            if (Boolean.TRUE.equals(shop.getIsOperating())) {
+                add(new ShopEntry(shop.getId(), shop.getGubun1(), shop.getGubun2(), machinesOf(shop.getTotalGameMachines())));
+            }
+        }
+        event.getDeletedIds().forEach(this::remove);
+        publish();
+    }
+
+    /**
+     * 리뷰 통계 변경 반영 (트랜잭션 커밋 후 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewStatsChanged(ReviewStatsChangedEvent event) {
+        if (event.isReconciled()) {
+            rebuild();
+            return;
+        }
+        synchronized (this) {
+            long countDelta = event.getDelta().getReviewCount();
+            long ratingDelta = event.getDelta().getRatingSum();
+            long[] sums = reviews.computeIfAbsent(event.getDollShopId(), id -> new long[2]);
+            sums[0] += countDelta;
+            sums[1] += ratingDelta;
+
+            ShopEntry shop = shops.get(event.getDollShopId());
+            if (shop != null) {
+                for (String key : keysOf(shop)) {
+                    RegionTotals totals = regions.get(key);
+                    totals.reviewCount += countDelta;
+                    totals.ratingSum += ratingDelta;
+                }
+                publish();
+            }
+        }
+    }
+
+    /**
+     * 지역별 집계 (시/도 합계 다음에 소속 시/군/구, 이름순)
+     * @param gubun1 시/도 (null이면 전국)
+     */
+    public List<DollShopRegionStatsDTO> getStats(String gubun1) {
+        List<DollShopRegionStatsDTO> all = snapshot;
+        if (gubun1 == null || gubun1.isBlank()) {
+            return all;
+        }
+        return all.stream().filter(stats -> gubun1.equals(stats.getGubun1())).toList();
+    }
+
+    private void add(ShopEntry shop) {
+        shops.put(shop.id, shop);
+        long[] sums = reviews.getOrDefault(shop.id, new long[2]);
+        for (String key : keysOf(shop)) {
+            RegionTotals totals = regions.computeIfAbsent(key, k -> new RegionTotals(shop.gubun1, k.endsWith("|") ? null : shop.gubun2));
+            totals.shopCount++;
+            totals.machines += shop.machines;
+            totals.reviewCount += sums[0];
+            totals.ratingSum += sums[1];
+        }
+    }
+
+    private void remove(Long shopId) {
+        ShopEntry shop = shops.remove(shopId);
+        if (shop == null) {
+            return;
+        }
+        long[] sums = reviews.getOrDefault(shopId, new long[2]);
+        for (String key : keysOf(shop)) {
+            RegionTotals totals = regions.get(key);
+            totals.shopCount--;
+            totals.machines -= shop.machines;
+            totals.reviewCount -= sums[0];
+            totals.ratingSum -= sums[1];
+            if (totals.shopCount == 0) {
+                regions.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 읽기용 결과 교체
+     */
+    private void publish() {
+        List<DollShopRegionStatsDTO> result = new ArrayList<>(regions.size());
+        for (RegionTotals totals : regions.values()) {
+            result.add(DollShopRegionStatsDTO.builder()
+                    .gubun1(totals.gubun1)
+                    .gubun2(totals.gubun2)
+                    .shopCount(totals.shopCount)
+                    .totalGameMachines(totals.machines)
+                    .reviewCount(totals.reviewCount)
+                    .averageRating(totals.reviewCount > 0
+                            ? Math.round(totals.ratingSum * 100.0 / totals.reviewCount) / 100.0
+                            : 0.0)
+                    .build());
+        }
+        result.sort(Comparator.comparing(DollShopRegionStatsDTO::getGubun1)
+                .thenComparing(DollShopRegionStatsDTO::getGubun2, Comparator.nullsFirst(Comparator.naturalOrder())));
+        snapshot = List.copyOf(result);
+    }
+
+    // 시/도 합계 키 + (있으면) 시/군/구 키
+    private static List<String> keysOf(ShopEntry shop) {
+        String province = shop.gubun1 + "|";
+        return shop.gubun2 == null ? List.of(province) : List.of(province, province + shop.gubun2);
+    }
+
+    private static long machinesOf(Integer totalGameMachines) {
+        return Objects.requireNonNullElse(totalGameMachines, 0);
+    }
+
+    private static class ShopEntry {
+        private final Long id;
+        private final String gubun1;
+        private final String gubun2;
+        private final long machines;
+
+        ShopEntry(Long id, String gubun1, String gubun2, long machines) {
+            this.id = id;
+            this.gubun1 = gubun1;
+            this.gubun2 = gubun2;
+            this.machines = machines;
+        }
+    }
+
+    private static class RegionTotals {
+        private final String gubun1;
+        private final String gubun2;
+        private long shopCount;
+        private long machines;
+        private long reviewCount;
+        private long ratingSum;
+
+        RegionTotals(String gubun1, String gubun2) {
+            this.gubun1 = gubun1;
+            this.gubun2 = gubun2;
+        }
+    }
+}
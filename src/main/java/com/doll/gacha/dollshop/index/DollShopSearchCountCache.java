@@ -0,0 +1,96 @@
+package com.doll.gacha.dollshop.index;
+
+import com.doll.gacha.dollshop.dto.DollShopSearchDTO;
+import com.doll.gacha.dollshop.event.DollShopChangedEvent;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 게시판 매장 검색 전체 개수 캐시 (짧은 TTL)
+ * - 같은 조건으로 페이지만 넘길 때 COUNT 쿼리를 다시 실행하지 않도록 조건별 개수를 보관
+ * - 키: gubun1 | gubun2 | keyword (빈 값은 null과 같게, 키워드는 LIKE가 대소문자 무시라 소문자로)
+ * - 매장이 바뀌면(DollShopChangedEvent) 전부 비움, 그 외에는 TTL(기본 60초) 후 다시 계산
+ * - 비우기 전에 시작한 COUNT가 비운 뒤에 옛 개수를 다시 채우지 않도록 세대 번호로 확인
+ * - 항목 수가 MAX_ENTRIES를 넘으면 만료된 것부터 정리, 그래도 넘으면 전부 비움
+ */
+@Component
+public class DollShopSearchCountCache {
+
+    static final int MAX_ENTRIES = 1000;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // clear()마다 증가 - 계산을 시작한 세대와 다르면 저장하지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${doll-shop.count-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    /**
+     * 캐시된 개수 (없거나 만료됐으면 counter로 계산해서 저장)
+     */
+    public long get(DollShopSearchDTO searchDTO, LongSupplier counter) {
+        String key = keyOf(searchDTO);
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.total;
+        }
+
+        long startGeneration = generation.get();
+        long total = counter.getAsLong();
+        if (generation.get() != startGeneration) {
+            return total;
+        }
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.values().removeIf(e -> e.expiresAt <= now);
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+        }
+        Entry created = new Entry(total, now + ttlSeconds * 1000);
+        entries.put(key, created);
+        // 확인과 저장 사이에 비워졌으면 방금 넣은 값도 제거
+        if (generation.get() != startGeneration) {
+            entries.remove(key, created);
+        }
+        return total;
+    }
+
+    /**
+     * 전부 비움 (세대를 먼저 올려서 진행 중인 계산이 저장하지 못하게 함)
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShopChanged(DollShopChangedEvent event) {
+        clear();
+    }
+
+    static String keyOf(DollShopSearchDTO searchDTO) {
+        String keyword = searchDTO.getKeyword();
+        return nullToEmpty(searchDTO.getGubun1()) + "|" + nullToEmpty(searchDTO.getGubun2()) + "|"
+                + (keyword == null ? "" : keyword.toLowerCase(Locale.ROOT));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final long total;
+        private final long expiresAt;
+    }
+}
@@ -0,0 +1,320 @@
+package com.doll.gacha.dollshop.index;
+
+import com.doll.gacha.common.util.HangulUtil;
+import com.doll.gacha.dollshop.DollShop;
+import com.doll.gacha.dollshop.dto.DollShopMapDTO;
+import com.doll.gacha.dollshop.dto.DollShopSearchDTO;
+import com.doll.gacha.dollshop.dto.DollShopSuggestDTO;
+import com.doll.gacha.dollshop.event.DollShopChangedEvent;
+import com.doll.gacha.dollshop.repositroy.DollShopRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검색창 자동완성 인덱스 (접두사 트라이)
+ * - 매장명, 시/도, 시/군/구를 공백 제거한 문자열로 트라이에 넣음 + 초성 문자열로 만든 트라이 하나 더
+ * - 노드마다 "이 접두사로 시작하는 상위 LIMIT개"를 미리 계산해 둠 → 조회는 접두사 길이만큼 내려가면 끝
+ * - 입력 중인 마지막 글자가 자음만 있는 경우("고고 ㅋ")는 그 자음으로 시작하는 음절 자식들을 합쳐서 반환
+ * - 매장 변경 시 바뀐 단어의 경로에 있는 노드만 다시 계산
+ * - 순서: 지역 먼저(매장 많은 순) → 짧은 이름 → 가나다순
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DollShopSuggestIndex {
+
+    static final int LIMIT = 10;
+
+    private static final Comparator<DollShopSuggestDTO> ORDER = Comparator
+            .comparingInt(DollShopSuggestIndex::typeRank)
+            .thenComparing(Comparator.comparingInt(DollShopSuggestIndex::shopCountOf).reversed())
+            .thenComparingInt(suggestion -> suggestion.getText().length())
+            .thenComparing(DollShopSuggestDTO::getText)
+            .thenComparingLong(suggestion -> suggestion.getShopId() != null ? suggestion.getShopId() : 0L);
+
+    private final DollShopRepository dollShopRepository;
+
+    // [쓰기용] 매장 ID → 매장 후보 (synchronized 안에서만 접근)
+    private final Map<Long, DollShopSuggestDTO> shopTerms = new HashMap<>();
+
+    // [쓰기용] "시/도|시/군/구" → 지역 후보 (시/도 자체는 "시/도|")
+    private final Map<String, DollShopSuggestDTO> regionTerms = new HashMap<>();
+
+    // [읽기용] 트라이 루트 (글자 그대로 / 초성)
+    private volatile Node root = new Node();
+    private volatile Node chosungRoot = new Node();
+
+    /**
+     * 전체 재구성 (서버 기동 시) - 새 트라이를 다 만든 뒤 교체
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        List<DollShopMapDTO> all = dollShopRepository.searchForMap(new DollShopSearchDTO());
+
+        shopTerms.clear();
+        regionTerms.clear();
+        Map<String, Integer> regionCounts = new HashMap<>();
+        for (DollShopMapDTO shop : all) {
+            shopTerms.put(shop.getId(), DollShopSuggestDTO.shop(shop));
+            for (String regionKey : regionKeysOf(shop.getGubun1(), shop.getGubun2())) {
+                regionCounts.merge(regionKey, 1, Integer::sum);
+            }
+        }
+        regionCounts.forEach((regionKey, count) -> regionTerms.put(regionKey, regionTerm(regionKey, count)));
+
+        Node newRoot = new Node();
+        Node newChosungRoot = new Node();
+        for (DollShopSuggestDTO term : shopTerms.values()) {
+            insert(newRoot, newChosungRoot, term, false);
+        }
+        for (DollShopSuggestDTO term : regionTerms.values()) {
+            insert(newRoot, newChosungRoot, term, false);
+        }
+        newRoot.refreshAll();
+        newChosungRoot.refreshAll();
+        this.root = newRoot;
+        this.chosungRoot = newChosungRoot;
+
+        log.info("매장 자동완성 인덱스 적재 완료 - 매장: {}, 지역: {}, 소요: {}ms",
+                shopTerms.size(), regionTerms.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 매장 변경 반영 (트랜잭션 커밋 후 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onShopChanged(DollShopChangedEvent event) {
+        for (DollShop shop : event.getUpserted()) {
+            removeShop(shop.getId());
+            if (Boolean.TRUE.equals(shop.getIsOperating())) {
+                addShop(DollShopMapDTO.from(shop));
+            }
+        }
+        event.getDeletedIds().forEach(this::removeShop);
+    }
+
+    /**
+     * 접두사로 시작하는 후보 상위 LIMIT개
+     * @param prefix 입력 중인 검색어 (공백 무시, 초성만 입력 가능)
+     */
+    public List<DollShopSuggestDTO> suggest(String prefix) {
+        String query = HangulUtil.normalize(prefix);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        // 전부 초성이면 초성 트라이에서 조회 ("ㄱㄱㅋ")
+        if (isAllChosung(query)) {
+            Node node = chosungRoot.find(query);
+            return node != null ? node.top : List.of();
+        }
+
+        Node node = root.find(query);
+        if (node != null) {
+            return node.top;
+        }
+
+        // 마지막 글자만 자음인 경우 (IME 입력 중 "고고ㅋ") → 그 자음으로 시작하는 음절 자식들을 합침
+        char last = query.charAt(query.length() - 1);
+        if (!HangulUtil.isChosung(last)) {
+            return List.of();
+        }
+        Node parent = root.find(query.substring(0, query.length() - 1));
+        if (parent == null) {
+            return List.of();
+        }
+        List<DollShopSuggestDTO> merged = new ArrayList<>();
+        parent.children.forEach((c, child) -> {
+            if (HangulUtil.chosungOf(c) == last) {
+                merged.addAll(child.top);
+            }
+        });
+        return merged.stream().distinct().sorted(ORDER).limit(LIMIT).toList();
+    }
+
+    private void addShop(DollShopMapDTO shop) {
+        DollShopSuggestDTO term = DollShopSuggestDTO.shop(shop);
+        shopTerms.put(shop.getId(), term);
+        insert(root, chosungRoot, term, true);
+        for (String regionKey : regionKeysOf(shop.getGubun1(), shop.getGubun2())) {
+            changeRegionCount(regionKey, 1);
+        }
+    }
+
+    private void removeShop(Long shopId) {
+        DollShopSuggestDTO term = shopTerms.remove(shopId);
+        if (term == null) {
+            return;
+        }
+        delete(term);
+        for (String regionKey : regionKeysOf(term.getGubun1(), term.getGubun2())) {
+            changeRegionCount(regionKey, -1);
+        }
+    }
+
+    // 지역 매장 수 변경 → 기존 후보를 빼고 새 개수로 다시 넣음 (0이 되면 제거)
+    private void changeRegionCount(String regionKey, int delta) {
+        DollShopSuggestDTO previous = regionTerms.remove(regionKey);
+        int count = (previous != null ? previous.getShopCount() : 0) + delta;
+        if (previous != null) {
+            delete(previous);
+        }
+        if (count > 0) {
+            DollShopSuggestDTO term = regionTerm(regionKey, count);
+            regionTerms.put(regionKey, term);
+            insert(root, chosungRoot, term, true);
+        }
+    }
+
+    private static void insert(Node root, Node chosungRoot, DollShopSuggestDTO term, boolean refresh) {
+        for (String key : keysOf(term)) {
+            root.add(key, term, refresh);
+            chosungRoot.add(HangulUtil.chosungOf(key), term, refresh);
+        }
+    }
+
+    private void delete(DollShopSuggestDTO term) {
+        for (String key : keysOf(term)) {
+            root.remove(key, term);
+            chosungRoot.remove(HangulUtil.chosungOf(key), term);
+        }
+    }
+
+    /**
+     * 후보가 트라이에 들어가는 키들
+     * - 매장: 매장명
+     * - 시/도: "서울특별시"
+     * - 시/군/구: "마포구" 와 "서울특별시마포구" (시/도부터 입력해도 찾도록)
+     */
+    private static List<String> keysOf(DollShopSuggestDTO term) {
+        if (term.getType() == DollShopSuggestDTO.Type.SHOP) {
+            return nonEmpty(HangulUtil.normalize(term.getText()));
+        }
+        if (term.getGubun2() == null) {
+            return nonEmpty(HangulUtil.normalize(term.getGubun1()));
+        }
+        List<String> keys = new ArrayList<>(nonEmpty(HangulUtil.normalize(term.getGubun2())));
+        keys.addAll(nonEmpty(HangulUtil.normalize(term.getGubun1() + term.getGubun2())));
+        return keys;
+    }
+
+    private static List<String> nonEmpty(String key) {
+        return key.isEmpty() ? List.of() : List.of(key);
+    }
+
+    private static List<String> regionKeysOf(String gubun1, String gubun2) {
+        if (gubun1 == null || gubun1.isBlank()) {
+            return List.of();
+        }
+        if (gubun2 == null || gubun2.isBlank()) {
+            return List.of(gubun1 + "|");
+        }
+        return List.of(gubun1 + "|", gubun1 + "|" + gubun2);
+    }
+
+    private static DollShopSuggestDTO regionTerm(String regionKey, int count) {
+        int separator = regionKey.indexOf('|');
+        String gubun1 = regionKey.substring(0, separator);
+        String gubun2 = separator + 1 < regionKey.length() ? regionKey.substring(separator + 1) : null;
+        return DollShopSuggestDTO.region(gubun1, gubun2, count);
+    }
+
+    private static boolean isAllChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!HangulUtil.isChosung(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int typeRank(DollShopSuggestDTO suggestion) {
+        return suggestion.getType() == DollShopSuggestDTO.Type.REGION ? 0 : 1;
+    }
+
+    private static int shopCountOf(DollShopSuggestDTO suggestion) {
+        return suggestion.getShopCount() != null ? suggestion.getShopCount() : 0;
+    }
+
+    /**
+     * 트라이 노드
+     * - terms: 이 노드에서 끝나는 후보 (쓰기 전용, synchronized 안에서만 접근)
+     * - top: 이 노드 아래 전체에서 상위 LIMIT개 (불변 리스트를 통째로 교체 → 락 없이 읽기)
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new ConcurrentHashMap<>();
+        private final List<DollShopSuggestDTO> terms = new ArrayList<>();
+        private volatile List<DollShopSuggestDTO> top = List.of();
+
+        Node find(String key) {
+            Node node = this;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            return node;
+        }
+
+        void add(String key, DollShopSuggestDTO term, boolean refresh) {
+            Deque<Node> path = new ArrayDeque<>();
+            Node node = this;
+            path.push(node);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                path.push(node);
+            }
+            node.terms.add(term);
+            if (refresh) {
+                path.forEach(Node::refresh);  // 깊은 노드부터
+            }
+        }
+
+        void remove(String key, DollShopSuggestDTO term) {
+            Deque<Node> path = new ArrayDeque<>();
+            Node node = this;
+            path.push(node);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.get(key.charAt(i));
+                if (node == null) {
+                    return;
+                }
+                path.push(node);
+            }
+            node.terms.removeIf(existing -> existing == term);
+
+            // 깊은 노드부터 다시 계산, 빈 노드는 부모에서 떼어냄
+            for (int i = key.length(); i >= 0; i--) {
+                Node current = path.pop();
+                current.refresh();
+                if (i > 0 && current.terms.isEmpty() && current.children.isEmpty()) {
+                    path.peek().children.remove(key.charAt(i - 1), current);
+                }
+            }
+        }
+
+        // 자식들의 top을 먼저 계산 (후위 순회, 적재 시 한 번)
+        void refreshAll() {
+            children.values().forEach(Node::refreshAll);
+            refresh();
+        }
+
+        void refresh() {
+            List<DollShopSuggestDTO> candidates = new ArrayList<>(terms);
+            children.values().forEach(child -> candidates.addAll(child.top));
+            top = candidates.stream().distinct().sorted(ORDER).limit(LIMIT).toList();
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.doll.gacha.dollshop.index;
+
+import com.doll.gacha.common.util.HangulUtil;
+import com.doll.gacha.dollshop.DollShop;
+import com.doll.gacha.dollshop.dto.DollShopMapDTO;
+import com.doll.gacha.dollshop.dto.DollShopSearchDTO;
+import com.doll.gacha.dollshop.event.DollShopChangedEvent;
+import com.doll.gacha.dollshop.repositroy.DollShopRepository;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장명/주소 검색용 역색인 (한글 n-gram + 초성)
+ * - 매장명: 1~2글자 n-gram + 초성 1~2글자 n-gram ("ㄱㄱㅋㄹㅇ" → "고고 크레인")
+ * - 주소: 2글자 n-gram만 (한 글자 주소 검색은 의미가 없어서 제외)
+ * - 검색어의 n-gram 후보 집합을 교집합한 뒤 실제 포함 여부를 다시 확인 → LIKE '%kw%' 전체 스캔 없음
+ * - 일치 정도로 점수 매김: 매장명 일치 > 매장명 시작 > 매장명 포함 > 초성 일치 > 주소 포함
+ * - 운영중인 매장만 보관 (searchByConditions와 동일 조건), DollShopChangedEvent로 동기화
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DollShopTextIndex {
+
+    private static final int SCORE_NAME_EXACT = 100;
+    private static final int SCORE_NAME_PREFIX = 80;
+    private static final int SCORE_NAME_CONTAINS = 60;
+    private static final int SCORE_CHOSUNG_PREFIX = 50;
+    private static final int SCORE_CHOSUNG_CONTAINS = 40;
+    private static final int SCORE_ADDRESS = 20;
+
+    private final DollShopRepository dollShopRepository;
+
+    // 매장 ID → 검색용 항목 (정규화된 매장명/주소, 지역)
+    private volatile Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    // 문자 n-gram → 매장 ID들
+    private volatile Map<String, Set<Long>> textGrams = new ConcurrentHashMap<>();
+
+    // 초성 n-gram → 매장 ID들
+    private volatile Map<String, Set<Long>> chosungGrams = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    /**
+     * 전체 재적재 (서버 기동 시) - 새 맵을 다 채운 뒤 교체
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        List<DollShopMapDTO> all = dollShopRepository.searchForMap(new DollShopSearchDTO());
+
+        Map<Long, Entry> newEntries = new ConcurrentHashMap<>();
+        Map<String, Set<Long>> newTextGrams = new ConcurrentHashMap<>();
+        Map<String, Set<Long>> newChosungGrams = new ConcurrentHashMap<>();
+        for (DollShopMapDTO shop : all) {
+            Entry entry = Entry.of(shop);
+            newEntries.put(entry.id, entry);
+            addGrams(entry, newTextGrams, newChosungGrams);
+        }
+        this.entries = newEntries;
+        this.textGrams = newTextGrams;
+        this.chosungGrams = newChosungGrams;
+        this.ready = true;
+
+        log.info("매장 검색 색인 적재 완료 - 매장 수: {}, n-gram 수: {}, 초성 n-gram 수: {}, 소요: {}ms",
+                newEntries.size(), newTextGrams.size(), newChosungGrams.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 매장 변경 반영 (트랜잭션 커밋 후 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onShopChanged(DollShopChangedEvent event) {
+        for (DollShop shop : event.getUpserted()) {
+            remove(shop.getId());
+            if (Boolean.TRUE.equals(shop.getIsOperating())) {
+                Entry entry = Entry.of(DollShopMapDTO.from(shop));
+                entries.put(entry.id, entry);
+                addGrams(entry, textGrams, chosungGrams);
+            }
+        }
+        event.getDeletedIds().forEach(this::remove);
+    }
+
+    /**
+     * 키워드 검색 (일치 정도 높은 순, 같으면 ID 내림차순)
+     * @param keyword 검색어 (공백 무시, 초성/초성 섞인 검색어 가능)
+     * @param gubun1 시/도 (null이면 전체)
+     * @param gubun2 시/군/구 (null이면 전체)
+     * @return 매장 ID 목록
+     */
+    public List<Long> search(String keyword, String gubun1, String gubun2) {
+        String query = HangulUtil.normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        boolean chosungQuery = HangulUtil.containsChosung(query);
+        Map<Long, Entry> currentEntries = this.entries;
+
+        List<long[]> scored = new ArrayList<>();  // [점수, ID]
+        for (Long id : candidatesOf(query, chosungQuery)) {
+            Entry entry = currentEntries.get(id);
+            if (entry == null || !entry.isIn(gubun1, gubun2)) {
+                continue;
+            }
+            int score = scoreOf(entry, query, chosungQuery);
+            if (score > 0) {
+                scored.add(new long[]{score, id});
+            }
+        }
+
+        scored.sort(Comparator.<long[]>comparingLong(item -> item[0]).reversed()
+                .thenComparing(Comparator.<long[]>comparingLong(item -> item[1]).reversed()));
+        return scored.stream().map(item -> item[1]).toList();
+    }
+
+    /**
+     * 검색 결과를 기계 수로 정렬할 때 쓰는 값 (DB 조회 없음, 기계 수가 없거나 색인에 없으면 0)
+     */
+    public int machinesOf(Long shopId) {
+        Entry entry = entries.get(shopId);
+        return entry != null ? entry.machines : 0;
+    }
+
+    /**
+     * 기동 직후 적재 전에는 false (이때는 DB LIKE 검색 사용)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void remove(Long shopId) {
+        Entry previous = entries.remove(shopId);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : textGramsOf(previous)) {
+            removePosting(textGrams, gram, shopId);
+        }
+        for (String gram : chosungGramsOf(previous)) {
+            removePosting(chosungGrams, gram, shopId);
+        }
+    }
+
+    /**
+     * 검색어 n-gram들의 후보 집합 교집합 (가장 작은 집합부터 확인)
+     */
+    private Set<Long> candidatesOf(String query, boolean chosungQuery) {
+        Map<String, Set<Long>> grams = chosungQuery ? chosungGrams : textGrams;
+        String key = chosungQuery ? HangulUtil.chosungOf(query) : query;
+
+        List<Set<Long>> postings = new ArrayList<>();
+        for (String gram : queryGramsOf(key)) {
+            Set<Long> posting = grams.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            postings.add(posting);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>();
+        for (Long id : postings.get(0)) {
+            boolean inAll = true;
+            for (int i = 1; i < postings.size(); i++) {
+                if (!postings.get(i).contains(id)) {
+                    inAll = false;
+                    break;
+                }
+            }
+            if (inAll) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private static int scoreOf(Entry entry, String query, boolean chosungQuery) {
+        if (chosungQuery) {
+            int position = HangulUtil.indexOfWithChosung(entry.name, query);
+            if (position < 0) {
+                return 0;
+            }
+            return position == 0 ? SCORE_CHOSUNG_PREFIX : SCORE_CHOSUNG_CONTAINS;
+        }
+        if (entry.name.equals(query)) {
+            return SCORE_NAME_EXACT;
+        }
+        int position = entry.name.indexOf(query);
+        if (position == 0) {
+            return SCORE_NAME_PREFIX;
+        }
+        if (position > 0) {
+            return SCORE_NAME_CONTAINS;
+        }
+        return entry.address.contains(query) ? SCORE_ADDRESS : 0;
+    }
+
+    private static void addGrams(Entry entry, Map<String, Set<Long>> textGrams, Map<String, Set<Long>> chosungGrams) {
+        for (String gram : textGramsOf(entry)) {
+            textGrams.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(entry.id);
+        }
+        for (String gram : chosungGramsOf(entry)) {
+            chosungGrams.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(entry.id);
+        }
+    }
+
+    private static void removePosting(Map<String, Set<Long>> grams, String gram, Long shopId) {
+        Set<Long> posting = grams.get(gram);
+        if (posting != null) {
+            posting.remove(shopId);
+            if (posting.isEmpty()) {
+                grams.remove(gram, posting);
+            }
+        }
+    }
+
+    // 매장명 1~2글자 + 주소 2글자
+    private static Set<String> textGramsOf(Entry entry) {
+        Set<String> grams = new LinkedHashSet<>();
+        addUnigrams(entry.name, grams);
+        addBigrams(entry.name, grams);
+        addBigrams(entry.address, grams);
+        return grams;
+    }
+
+    // 매장명 초성 1~2글자
+    private static Set<String> chosungGramsOf(Entry entry) {
+        Set<String> grams = new LinkedHashSet<>();
+        addUnigrams(entry.nameChosung, grams);
+        addBigrams(entry.nameChosung, grams);
+        return grams;
+    }
+
+    // 검색어는 한 글자면 그대로, 두 글자 이상이면 2글자 n-gram들
+    private static Set<String> queryGramsOf(String query) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (query.length() == 1) {
+            grams.add(query);
+        } else {
+            addBigrams(query, grams);
+        }
+        return grams;
+    }
+
+    private static void addUnigrams(String text, Set<String> grams) {
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+        }
+    }
+
+    private static void addBigrams(String text, Set<String> grams) {
+        for (int i = 0; i + 1 < text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+    }
+
+    /**
+     * 색인 항목 (정규화: 공백 제거 + 소문자, 기계 수는 검색 결과 정렬용)
+     */
+    @AllArgsConstructor
+    private static class Entry {
+        private final Long id;
+        private final String name;
+        private final String nameChosung;
+        private final String address;
+        private final String gubun1;
+        private final String gubun2;
+        private final int machines;
+
+        static Entry of(DollShopMapDTO shop) {
+            String name = HangulUtil.normalize(shop.getBusinessName());
+            return new Entry(shop.getId(), name, HangulUtil.chosungOf(name),
+                    HangulUtil.normalize(shop.getAddress()), shop.getGubun1(), shop.getGubun2(),
+                    Objects.requireNonNullElse(shop.getTotalGameMachines(), 0));
+        }
+
+        boolean isIn(String gubun1, String gubun2) {
+            return (gubun1 == null || gubun1.isEmpty() || gubun1.equals(this.gubun1))
+                    && (gubun2 == null || gubun2.isEmpty() || gubun2.equals(this.gubun2));
+        }
+    }
+}
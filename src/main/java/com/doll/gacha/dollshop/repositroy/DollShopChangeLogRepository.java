@@ -0,0 +1,20 @@
+package com.doll.gacha.dollshop.repositroy;
+
+import com.doll.gacha.dollshop.DollShopChangeLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DollShopChangeLogRepository extends JpaRepository<DollShopChangeLog, Long> {
+
+    // since 이후 변경 이력 (오래된 순, 개수는 pageable의 size)
+    List<DollShopChangeLog> findByIdGreaterThanOrderByIdAsc(Long since, Pageable pageable);
+
+    // 현재 데이터 버전 (이력이 없으면 0)
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM DollShopChangeLog c")
+    long findMaxId();
+}
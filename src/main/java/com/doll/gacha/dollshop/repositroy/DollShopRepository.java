@@ -6,6 +6,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface DollShopRepository extends JpaRepository<DollShop, Long> ,
     DollShopRepositoryCustom {
@@ -13,5 +16,8 @@ public interface DollShopRepository extends JpaRepository<DollShop, Long> ,
     // 전체 매장 목록 페이징 조회
     Page<DollShop> findAll(Pageable pageable);
 
+    // 변경분 동기화 - 지역(시/도) 파일과 비교할 현재 매장
+    List<DollShop> findByGubun1In(Collection<String> gubun1s);
+
 }
 
@@ -1,5 +1,6 @@
 package com.doll.gacha.dollshop.repositroy;
 
+import com.doll.gacha.common.dto.CursorResponse;
 import com.doll.gacha.dollshop.dto.DollShopListDTO;
 import com.doll.gacha.dollshop.dto.DollShopMapDTO;
 import com.doll.gacha.dollshop.dto.DollShopSearchDTO;
@@ -7,12 +8,22 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 
 public interface DollShopRepositoryCustom {
 
     // QueryDSL 동적 쿼리로 검색 (페이징) - 썸네일 이미지 포함
     Page<DollShopListDTO> searchByConditions(DollShopSearchDTO searchDTO, Pageable pageable);
 
+    // 키워드 색인으로 거른 후보의 리뷰 통계 정렬 값 (통계 행이 있는 가게만, 지원하지 않는 정렬 기준이면 빈 맵)
+    Map<Long, Double> findReviewSortKeys(List<Long> ids, String property);
+
+    // ID 목록 순서 그대로 목록 DTO 조회 - 썸네일 이미지, 리뷰 통계 포함
+    List<DollShopListDTO> findListByIds(List<Long> ids);
+
+    // 커서(keyset) 방식 검색 - 무한 스크롤용, OFFSET/count 쿼리 없음
+    CursorResponse<DollShopListDTO> searchByCursor(DollShopSearchDTO searchDTO, String cursor, Pageable pageable);
+
     // 지도용 - 이미지 제외, 페이징 없음, DTO 직접 반환
     List<DollShopMapDTO> searchForMap(DollShopSearchDTO searchDTO);
 }
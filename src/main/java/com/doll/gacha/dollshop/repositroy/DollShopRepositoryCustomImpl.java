@@ -1,29 +1,37 @@
 package com.doll.gacha.dollshop.repositroy;
 
 import static com.doll.gacha.dollshop.QDollShop.dollShop;
-import static com.doll.gacha.file.entity.QFileEntity.fileEntity;
-import static com.doll.gacha.review.QReviewEntity.reviewEntity;
+import static com.doll.gacha.review.QReviewStatsEntity.reviewStatsEntity;
 
-import com.doll.gacha.file.entity.FileEntity;
+import com.doll.gacha.common.dto.Cursor;
+import com.doll.gacha.common.dto.CursorResponse;
+import com.doll.gacha.file.service.DollShopThumbnailCache;
 import com.doll.gacha.dollshop.dto.DollShopListDTO;
 import com.doll.gacha.dollshop.dto.DollShopMapDTO;
 import com.doll.gacha.dollshop.dto.DollShopSearchDTO;
+import com.doll.gacha.dollshop.index.DollShopSearchCountCache;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 public class DollShopRepositoryCustomImpl implements DollShopRepositoryCustom {
     private final JPAQueryFactory queryFactory;
+    private final DollShopSearchCountCache searchCountCache;
+    private final DollShopThumbnailCache thumbnailCache;
 
 
     @Override
@@ -34,49 +42,47 @@ public class DollShopRepositoryCustomImpl implements DollShopRepositoryCustom {
 
         // 1. 데이터 조회 (정렬과 통계 포함)
         List<DollShopListDTO> content = queryFactory
-            .select(Projections.fields(DollShopListDTO.class,
-                dollShop.id,
-                dollShop.businessName,
-                dollShop.longitude,
-                dollShop.latitude,
-                dollShop.address,
-                dollShop.totalGameMachines,
-                dollShop.phone,
-                dollShop.isOperating,
-                dollShop.approvalDate,
-                dollShop.gubun1,
-                dollShop.gubun2,
-                // 리뷰 통계 바로 계산 (LEFT JOIN 필요)
-                reviewEntity.rating.avg().coalesce(0.0).as("averageRating"),
-                reviewEntity.count().as("reviewCount"),
-                reviewEntity.machineStrength.avg().coalesce(0.0).as("averageMachineStrength"),
-                reviewEntity.largeDollCost.avg().coalesce(0.0).as("averageLargeCost"),
-                reviewEntity.mediumDollCost.avg().coalesce(0.0).as("averageMediumCost"),
-                reviewEntity.smallDollCost.avg().coalesce(0.0).as("averageSmallCost")
-            ))
+            .select(listProjection())
             .from(dollShop)
-            .leftJoin(reviewEntity).on(reviewEntity.dollShop.eq(dollShop).and(reviewEntity.isDeleted.isFalse()))
+            .leftJoin(reviewStatsEntity).on(reviewStatsEntity.dollShopId.eq(dollShop.id))
             .where(
                 eqGubun1(searchDTO.getGubun1()),
                 eqGubun2(searchDTO.getGubun2()),
                 eqIsOperating(),
                 containsKeyword(searchDTO.getKeyword())
             )
-            .groupBy(dollShop.id)
-            .orderBy(getSortOrder(pageable)) // 정렬 동적 처리
+            .orderBy(getSortOrder(pageable), dollShop.id.desc()) // 정렬 동적 처리 (같은 값이면 ID 내림차순)
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
             .fetch();
 
-        if (content.isEmpty()) {
+        if (content.isEmpty() && pageable.getOffset() == 0) {
             return new PageImpl<>(List.of(), pageable, 0);
         }
 
         // 2. 썸네일 이미지 매핑 (별도 조회로 N+1 방지)
-        List<Long> shopIds = content.stream().map(DollShopListDTO::getId).toList();
-        mapThumbnails(content, shopIds);
+        if (!content.isEmpty()) {
+            List<Long> shopIds = content.stream().map(DollShopListDTO::getId).toList();
+            mapThumbnails(content, shopIds);
+        }
+
+        // 3. 전체 개수 - 첫 페이지가 덜 찼으면 개수가 곧 전체라 COUNT 생략
+        if (pageable.getOffset() == 0 && content.size() < pageable.getPageSize()) {
+            return new PageImpl<>(content, pageable, content.size());
+        }
+        // 그 외에는 조건별 캐시 (페이지만 넘길 때는 COUNT 쿼리 없음)
+        long total = searchCountCache.get(searchDTO, () -> countByConditions(searchDTO));
+        return new PageImpl<>(content, pageable, total);
+
+
+    }
+
 
-        // 3. 전체 개수 조회
+    /**
+     * 검색 조건 전체 개수
+     * 키워드 검색은 평소 메모리 색인(DollShopTextIndex)이 개수를 내므로, 여기서 LIKE로 세는 것은 색인 적재 전(서버 기동 직후)뿐
+     */
+    private long countByConditions(DollShopSearchDTO searchDTO) {
         Long total = queryFactory
             .select(dollShop.count())
             .from(dollShop)
@@ -87,58 +93,198 @@ public class DollShopRepositoryCustomImpl implements DollShopRepositoryCustom {
                 containsKeyword(searchDTO.getKeyword())
             )
             .fetchOne();
+        return total != null ? total : 0L;
+    }
+
+    @Override
+    public Map<Long, Double> findReviewSortKeys(List<Long> ids, String property) {
+        NumberExpression<Double> sortKey = reviewSortKey(property);
+        if (ids.isEmpty() || sortKey == null) {
+            return Map.of();
+        }
+
+        // 통계 테이블만 PK로 조회 (doll_shop 조인/정렬/OFFSET 없음)
+        return queryFactory
+            .select(reviewStatsEntity.dollShopId, sortKey)
+            .from(reviewStatsEntity)
+            .where(reviewStatsEntity.dollShopId.in(ids))
+            .fetch()
+            .stream()
+            .collect(Collectors.toMap(
+                tuple -> tuple.get(reviewStatsEntity.dollShopId),
+                tuple -> Objects.requireNonNullElse(tuple.get(sortKey), 0.0)));
+    }
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    @Override
+    public List<DollShopListDTO> findListByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
 
+        Map<Long, DollShopListDTO> byId = queryFactory
+            .select(listProjection())
+            .from(dollShop)
+            .leftJoin(reviewStatsEntity).on(reviewStatsEntity.dollShopId.eq(dollShop.id))
+            .where(dollShop.id.in(ids))
+            .fetch()
+            .stream()
+            .collect(Collectors.toMap(DollShopListDTO::getId, dto -> dto));
 
+        // 요청한 ID 순서 유지 (검색 관련도순)
+        List<DollShopListDTO> content = ids.stream()
+            .map(byId::get)
+            .filter(Objects::nonNull)
+            .toList();
+        if (!content.isEmpty()) {
+            mapThumbnails(content, content.stream().map(DollShopListDTO::getId).toList());
+        }
+        return content;
     }
 
+    @Override
+    public CursorResponse<DollShopListDTO> searchByCursor(DollShopSearchDTO searchDTO, String cursor, Pageable pageable) {
+        Sort.Order order = pageable.getSort().isEmpty() ? Sort.Order.desc("id") : pageable.getSort().iterator().next();
+        boolean isAsc = order.isAscending();
+        NumberExpression<Double> sortKey = sortKeyOf(order.getProperty());
+        // 지원하지 않는 정렬 기준은 ID순 (getSortOrder와 동일)
+        String prop = sortKey != null ? order.getProperty() : "id";
+        String sort = prop + "," + (isAsc ? "asc" : "desc");
+        Cursor last = Cursor.decode(cursor, sort);
+        int size = pageable.getPageSize();
+
+        // 1. 커서 다음부터 size + 1 개 조회 (OFFSET, count 쿼리 없음)
+        List<DollShopListDTO> fetched = queryFactory
+            .select(listProjection())
+            .from(dollShop)
+            .leftJoin(reviewStatsEntity).on(reviewStatsEntity.dollShopId.eq(dollShop.id))
+            .where(
+                eqGubun1(searchDTO.getGubun1()),
+                eqGubun2(searchDTO.getGubun2()),
+                eqIsOperating(),
+                containsKeyword(searchDTO.getKeyword()),
+                afterCursor(sortKey, isAsc, last)
+            )
+            .orderBy(cursorOrder(sortKey, isAsc))
+            .limit(size + 1)
+            .fetch();
+
+        CursorResponse<DollShopListDTO> response = CursorResponse.of(fetched, size,
+            dto -> new Cursor(sort, String.valueOf(cursorKeyOf(dto, prop)), dto.getId()));
+
+        // 2. 썸네일 이미지 매핑
+        if (!response.getContent().isEmpty()) {
+            mapThumbnails(response.getContent(), response.getContent().stream().map(DollShopListDTO::getId).toList());
+        }
+        return response;
+    }
+
+    // 목록 조회용 컬럼 (페이지/커서 방식 공통)
+    private QBean<DollShopListDTO> listProjection() {
+        return Projections.fields(DollShopListDTO.class,
+            dollShop.id,
+            dollShop.businessName,
+            dollShop.longitude,
+            dollShop.latitude,
+            dollShop.address,
+            dollShop.totalGameMachines,
+            dollShop.phone,
+            dollShop.isOperating,
+            dollShop.approvalDate,
+            dollShop.gubun1,
+            dollShop.gubun2,
+            // 리뷰 통계는 미리 집계된 테이블에서 (리뷰 없는 가게는 행이 없으므로 LEFT JOIN + 0 처리)
+            reviewStatsEntity.averageRating.coalesce(0.0).as("averageRating"),
+            reviewStatsEntity.reviewCount.coalesce(0L).as("reviewCount"),
+            reviewStatsEntity.averageMachineStrength.coalesce(0.0).as("averageMachineStrength"),
+            reviewStatsEntity.averageLargeCost.coalesce(0.0).as("averageLargeCost"),
+            reviewStatsEntity.averageMediumCost.coalesce(0.0).as("averageMediumCost"),
+            reviewStatsEntity.averageSmallCost.coalesce(0.0).as("averageSmallCost")
+        );
+    }
+
+    // 정렬 값 (페이지/커서 방식 공통, 리뷰 없는 가게는 0으로 비교) - null이면 ID만으로 정렬
+    private NumberExpression<Double> sortKeyOf(String prop) {
+        return switch (prop) {
+            case "averageRating" -> reviewStatsEntity.averageRating.coalesce(0.0);
+            case "reviewCount" -> reviewStatsEntity.reviewCount.coalesce(0L).doubleValue();
+            case "totalGameMachines" -> dollShop.totalGameMachines.coalesce(0).doubleValue();
+            case "averageMachineStrength" -> reviewStatsEntity.averageMachineStrength.coalesce(0.0);
+            case "averageLargeCost" -> reviewStatsEntity.averageLargeCost.coalesce(0.0);
+            case "averageMediumCost" -> reviewStatsEntity.averageMediumCost.coalesce(0.0);
+            case "averageSmallCost" -> reviewStatsEntity.averageSmallCost.coalesce(0.0);
+            default -> null;
+        };
+    }
+
+    // 통계 테이블만 조회할 때의 정렬 값 (행이 있으면 NULL이 없으므로 coalesce 불필요)
+    private NumberExpression<Double> reviewSortKey(String prop) {
+        return switch (prop) {
+            case "averageRating" -> reviewStatsEntity.averageRating;
+            case "reviewCount" -> reviewStatsEntity.reviewCount.doubleValue();
+            case "averageMachineStrength" -> reviewStatsEntity.averageMachineStrength;
+            case "averageLargeCost" -> reviewStatsEntity.averageLargeCost;
+            case "averageMediumCost" -> reviewStatsEntity.averageMediumCost;
+            case "averageSmallCost" -> reviewStatsEntity.averageSmallCost;
+            default -> null;
+        };
+    }
+
+    // 응답 DTO에서 커서에 담을 정렬 값 (sortKeyOf와 같은 값)
+    private static double cursorKeyOf(DollShopListDTO dto, String prop) {
+        Number value = switch (prop) {
+            case "averageRating" -> dto.getAverageRating();
+            case "reviewCount" -> dto.getReviewCount();
+            case "totalGameMachines" -> dto.getTotalGameMachines();
+            case "averageMachineStrength" -> dto.getAverageMachineStrength();
+            case "averageLargeCost" -> dto.getAverageLargeCost();
+            case "averageMediumCost" -> dto.getAverageMediumCost();
+            case "averageSmallCost" -> dto.getAverageSmallCost();
+            default -> dto.getId();
+        };
+        return value != null ? value.doubleValue() : 0.0;
+    }
+
+    // 커서 이후 조건: (정렬 값, ID) 튜플이 커서보다 뒤인 행
+    private BooleanExpression afterCursor(NumberExpression<Double> sortKey, boolean isAsc, Cursor last) {
+        if (last == null) {
+            return null;
+        }
+        BooleanExpression afterId = isAsc ? dollShop.id.gt(last.getId()) : dollShop.id.lt(last.getId());
+        if (sortKey == null) {
+            return afterId;
+        }
+        double key = last.keyAsDouble();
+        return (isAsc ? sortKey.gt(key) : sortKey.lt(key)).or(sortKey.eq(key).and(afterId));
+    }
+
+    private OrderSpecifier<?>[] cursorOrder(NumberExpression<Double> sortKey, boolean isAsc) {
+        OrderSpecifier<Long> byId = isAsc ? dollShop.id.asc() : dollShop.id.desc();
+        if (sortKey == null) {
+            return new OrderSpecifier<?>[]{byId};
+        }
+        return new OrderSpecifier<?>[]{isAsc ? sortKey.asc() : sortKey.desc(), byId};
+    }
 
     // 정렬 조건 처리 메서드 수정
     private OrderSpecifier<?> getSortOrder(Pageable pageable) {
         if (pageable.getSort().isEmpty()) return dollShop.id.desc();
 
         var sort = pageable.getSort().iterator().next();
-        String prop = sort.getProperty();
         boolean isAsc = !sort.isDescending();
 
-        if ("averageRating".equals(prop)) {
-            return isAsc ? reviewEntity.rating.avg().asc() : reviewEntity.rating.avg().desc();
-        } else if ("reviewCount".equals(prop)) {
-            return isAsc ? reviewEntity.count().asc() : reviewEntity.count().desc();
-        } else if ("totalGameMachines".equals(prop)) {
-            return isAsc ? dollShop.totalGameMachines.asc() : dollShop.totalGameMachines.desc();
-        } else if ("averageMachineStrength".equals(prop)) {
-            return isAsc ? reviewEntity.machineStrength.avg().asc() : reviewEntity.machineStrength.avg().desc();
-        } else if ("averageLargeCost".equals(prop)) {
-            return isAsc ? reviewEntity.largeDollCost.avg().asc() : reviewEntity.largeDollCost.avg().desc();
-        } else if ("averageMediumCost".equals(prop)) {
-            return isAsc ? reviewEntity.mediumDollCost.avg().asc() : reviewEntity.mediumDollCost.avg().desc();
-        } else if ("averageSmallCost".equals(prop)) {
-            return isAsc ? reviewEntity.smallDollCost.avg().asc() : reviewEntity.smallDollCost.avg().desc();
+        // 커서 방식과 같은 정렬 값 (리뷰 없는 가게는 통계 행이 없어 NULL → coalesce로 0과 같은 위치)
+        // 지원하지 않는 정렬 기준은 ID순
+        NumberExpression<Double> sortKey = sortKeyOf(sort.getProperty());
+        if (sortKey == null) {
+            return dollShop.id.desc();
         }
-
-        return dollShop.id.desc();
+        return isAsc ? sortKey.asc() : sortKey.desc();
     }
 
     // 이미지 매핑 로직 분리
     private void mapThumbnails(List<DollShopListDTO> content, List<Long> shopIds) {
-        Map<Long, String> imageMap = queryFactory
-            .select(fileEntity.refId, fileEntity.storedFileName)
-            .from(fileEntity)
-            .where(
-                fileEntity.refId.in(shopIds),
-                fileEntity.refType.eq(FileEntity.RefType.DOLL_SHOP),
-                fileEntity.fileUsage.eq(FileEntity.Usage.THUMBNAIL)
-            )
-            .fetch()
-            .stream()
-            .collect(Collectors.toMap(
-                tuple -> tuple.get(fileEntity.refId),
-                tuple -> "/uploads/" + tuple.get(fileEntity.storedFileName),
-                (existing, replacement) -> existing
-            ));
-
+        // 썸네일 캐시에서 조회 (files 테이블 조회 없음, filePath = CDN URL 또는 /uploads/xxx)
+        Map<Long, String> imageMap = thumbnailCache.getAll(shopIds);
         content.forEach(dto -> dto.setImagePath(imageMap.getOrDefault(dto.getId(), "/images/default.png")));
     }
 
@@ -155,7 +301,9 @@ public class DollShopRepositoryCustomImpl implements DollShopRepositoryCustom {
                 dollShop.latitude,
                 dollShop.totalGameMachines,
                 dollShop.approvalDate,
-                dollShop.isOperating
+                dollShop.isOperating,
+                dollShop.gubun1,
+                dollShop.gubun2
             ))
             .from(dollShop)
             .where(
@@ -182,6 +330,7 @@ public class DollShopRepositoryCustomImpl implements DollShopRepositoryCustom {
         return dollShop.isOperating.eq(true);
     }
 
+    // LIKE 검색 - 게시판 키워드 검색은 DollShopTextIndex를 쓰고, 색인 적재 전/커서 방식에서만 사용
     private BooleanExpression containsKeyword(String keyword) {
         return keyword != null && !keyword.isEmpty() ?
             dollShop.businessName.containsIgnoreCase(keyword)
@@ -0,0 +1,28 @@
+package com.doll.gacha.file.event;
+
+import com.doll.gacha.file.entity.FileEntity;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 파일 저장/삭제 이벤트 (FileService에서 발행)
+ * - 썸네일 캐시 등 파일 정보를 메모리에 들고 있는 구독자가 커밋 후 동기화
+ */
+@Getter
+@RequiredArgsConstructor
+public class FileChangedEvent {
+    private final Long fileId;
+    private final Long refId;
+    private final FileEntity.RefType refType;
+    private final FileEntity.Usage usage;
+    private final String filePath;
+    private final boolean deleted;
+
+    public static FileChangedEvent saved(FileEntity file) {
+        return new FileChangedEvent(file.getId(), file.getRefId(), file.getRefType(), file.getFileUsage(), file.getFilePath(), false);
+    }
+
+    public static FileChangedEvent deleted(FileEntity file) {
+        return new FileChangedEvent(file.getId(), file.getRefId(), file.getRefType(), file.getFileUsage(), file.getFilePath(), true);
+    }
+}
@@ -0,0 +1,104 @@
+package com.doll.gacha.file.service;
+
+import com.doll.gacha.file.entity.FileEntity;
+import com.doll.gacha.file.event.FileChangedEvent;
+import com.doll.gacha.file.repository.FileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 매장 썸네일 URL 캐시 (매장 ID → 대표 이미지 filePath)
+ * - 서버 기동 시 DOLL_SHOP/THUMBNAIL 파일 전체 적재, 이후 FileService 저장/삭제 이벤트(커밋 후)로 갱신
+ * - 매장 목록/상세/주변 매장이 같이 사용 → 목록을 그려도 files 테이블 조회 없음
+ * - 한 매장에 썸네일이 여러 개면 가장 먼저 올린 것(파일 ID 최소)을 대표로 사용 (기존 목록 조회와 동일)
+ * - filePath는 저장 시 완성된 웹 경로 (Supabase CDN URL 또는 /uploads/xxx)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DollShopThumbnailCache {
+
+    private final FileRepository fileRepository;
+
+    // 매장 ID → (파일 ID → filePath)
+    private volatile Map<Long, NavigableMap<Long, String>> thumbnails = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        Map<Long, NavigableMap<Long, String>> loaded = new ConcurrentHashMap<>();
+        for (FileEntity file : fileRepository.searchFiles(null, FileEntity.RefType.DOLL_SHOP, FileEntity.Usage.THUMBNAIL)) {
+            if (file.getRefId() != null) {
+                loaded.computeIfAbsent(file.getRefId(), id -> new ConcurrentSkipListMap<>()).put(file.getId(), file.getFilePath());
+            }
+        }
+        this.thumbnails = loaded;
+
+        log.info("매장 썸네일 캐시 적재 완료 - 매장 수: {}, 소요: {}ms", loaded.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 파일 저장/삭제 반영 (트랜잭션 커밋 후 실행)
+     * - 매장 상세 캐시 무효화보다 먼저 실행 (무효화 직후 다시 채울 때 새 썸네일이 보이도록)
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onFileChanged(FileChangedEvent event) {
+        if (event.getRefType() != FileEntity.RefType.DOLL_SHOP
+                || event.getUsage() != FileEntity.Usage.THUMBNAIL
+                || event.getRefId() == null) {
+            return;
+        }
+        if (event.isDeleted()) {
+            NavigableMap<Long, String> files = thumbnails.get(event.getRefId());
+            if (files != null) {
+                files.remove(event.getFileId());
+                if (files.isEmpty()) {
+                    thumbnails.remove(event.getRefId(), files);
+                }
+            }
+        } else {
+            thumbnails.computeIfAbsent(event.getRefId(), id -> new ConcurrentSkipListMap<>())
+                    .put(event.getFileId(), event.getFilePath());
+        }
+    }
+
+    /**
+     * 매장 대표 썸네일 (없으면 null)
+     */
+    public String get(Long shopId) {
+        NavigableMap<Long, String> files = thumbnails.get(shopId);
+        if (files == null) {
+            return null;
+        }
+        Map.Entry<Long, String> first = files.firstEntry();
+        return first != null ? first.getValue() : null;
+    }
+
+    /**
+     * 여러 매장의 대표 썸네일 (썸네일이 없는 매장은 빠짐)
+     */
+    public Map<Long, String> getAll(Collection<Long> shopIds) {
+        Map<Long, String> result = new HashMap<>();
+        for (Long shopId : shopIds) {
+            String path = get(shopId);
+            if (path != null) {
+                result.put(shopId, path);
+            }
+        }
+        return result;
+    }
+}
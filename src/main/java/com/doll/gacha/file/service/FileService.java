@@ -2,10 +2,12 @@ package com.doll.gacha.file.service;
 
 import com.doll.gacha.file.dto.FileDetailDTO;
 import com.doll.gacha.file.entity.FileEntity;
+import com.doll.gacha.file.event.FileChangedEvent;
 import com.doll.gacha.file.repository.FileRepository;
 import com.doll.gacha.file.strategy.FileStorageStrategy.FileUploadResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,7 @@ import java.util.List;
 public class FileService {
 
     private final FileRepository fileRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 파일 경로 조회 (통합 검색 - QueryDSL 동적 쿼리)
@@ -70,6 +73,7 @@ public class FileService {
                             .build();
 
                     fileRepository.save(fileEntity);
+                    eventPublisher.publishEvent(FileChangedEvent.saved(fileEntity));
 
                     log.info("파일 정보 DB 저장 완료 - refId: {}, refType: {}, 파일명: {}, 경로: {}",
                             refId, refType, result.getStoredFilename(), result.getWebPath());
@@ -98,6 +102,7 @@ public class FileService {
                 .orElseThrow(() -> new IllegalArgumentException("파일을 찾을 수 없습니다: " + fileId));
 
         fileRepository.delete(fileEntity);
+        eventPublisher.publishEvent(FileChangedEvent.deleted(fileEntity));
         log.info("파일 삭제 완료 - fileId: {}, 파일명: {}", fileId, fileEntity.getOriginalFileName());
     }
 
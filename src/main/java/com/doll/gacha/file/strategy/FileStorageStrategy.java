@@ -2,19 +2,42 @@ package com.doll.gacha.file.strategy;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 /**
  * 파일 저장 전략 인터페이스
  * - 구현체: LocalFileStorage (로컬), SupabaseFileStorage (Supabase)
  * - 환경에 따라 스프링이 자동으로 적절한 구현체 주입
+ * - 파일 내용은 InputStream으로 흘려보냄 (파일 크기와 상관없이 고정 크기 버퍼만 사용, 힙에 통째로 올리지 않음)
  */
 public interface FileStorageStrategy {
 
     /**
-     * 파일 업로드
+     * 파일 업로드 (스트리밍)
+     * @param content 파일 내용 (호출한 쪽에서 닫음)
+     * @param size 파일 크기 (바이트)
+     * @param originalFilename 원본 파일명
+     * @param contentType MIME 타입 (null 가능)
+     * @return 저장 결과 (경로, 파일명 등)
+     */
+    FileUploadResult uploadFile(InputStream content, long size, String originalFilename, String contentType);
+
+    /**
+     * 파일 업로드 (멀티파트 파일 - 임시 파일에서 바로 흘려보냄)
      * @param file 업로드할 파일
      * @return 저장 결과 (경로, 파일명 등)
      */
-    FileUploadResult uploadFile(MultipartFile file);
+    default FileUploadResult uploadFile(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("파일이 비어있습니다");
+        }
+        try (InputStream content = file.getInputStream()) {
+            return uploadFile(content, file.getSize(), file.getOriginalFilename(), file.getContentType());
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 파일 읽기 실패: " + file.getOriginalFilename(), e);
+        }
+    }
 
     /**
      * 파일 삭제
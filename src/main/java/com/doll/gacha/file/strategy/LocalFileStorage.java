@@ -4,9 +4,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -25,36 +25,36 @@ public class LocalFileStorage implements FileStorageStrategy {
     @Value("${file.upload-dir:./uploads/}")
     private String uploadDir;
 
+    /**
+     * 스트림을 그대로 파일로 복사 (Files.copy - 8KB 버퍼로 흘려씀)
+     * 복사 중 실패하면 쓰다 만 파일은 지움
+     */
     @Override
-    public FileUploadResult uploadFile(MultipartFile file) {
-        if (file == null || file.isEmpty()) {
-            throw new IllegalArgumentException("파일이 비어있습니다");
-        }
-
+    public FileUploadResult uploadFile(InputStream content, long size, String originalFilename, String contentType) {
         ensureUploadDirectoryExists();
 
-        try {
-            String originalFilename = file.getOriginalFilename();
-            String extension = extractExtension(originalFilename);
-            String storedFilename = generateUniqueFilename(extension);
+        String extension = extractExtension(originalFilename);
+        String storedFilename = generateUniqueFilename(extension);
 
-            Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
-            Path filePath = uploadPath.resolve(storedFilename);
-            Files.write(filePath, file.getBytes());
+        Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path filePath = uploadPath.resolve(storedFilename);
+        try {
+            long written = Files.copy(content, filePath);
 
-            log.info("로컬 파일 저장 완료 - 원본: {}, 저장: {}, 경로: {}", originalFilename, storedFilename, filePath);
+            log.info("로컬 파일 저장 완료 - 원본: {}, 저장: {}, 경로: {}, 크기: {}", originalFilename, storedFilename, filePath, written);
 
             return FileUploadResult.builder()
                     .originalFilename(originalFilename)
                     .storedFilename(storedFilename)
                     .filePath(filePath.toString())
-                    .fileSize(file.getSize())
-                    .contentType(file.getContentType())
+                    .fileSize(written)
+                    .contentType(contentType)
                     .build();
 
         } catch (IOException e) {
             log.error("파일 저장 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("파일 저장 실패: " + file.getOriginalFilename(), e);
+            deleteFile(filePath.toString());
+            throw new RuntimeException("파일 저장 실패: " + originalFilename, e);
         }
     }
 
@@ -3,11 +3,13 @@ package com.doll.gacha.file.strategy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.*;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.util.UUID;
 
 /**
@@ -29,16 +31,15 @@ public class SupabaseFileStorage implements FileStorageStrategy {
     @Value("${supabase.bucket:uploads}")
     private String bucket;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    // 요청 본문을 버퍼링하지 않는 팩토리 (Content-Length를 주면 고정 길이 스트리밍으로 바로 전송)
+    private final RestTemplate restTemplate = new RestTemplate(new SimpleClientHttpRequestFactory());
 
+    /**
+     * 스트림을 요청 본문으로 그대로 전송 (InputStreamResource - 힙에 파일 전체를 올리지 않음)
+     */
     @Override
-    public FileUploadResult uploadFile(MultipartFile file) {
-        if (file == null || file.isEmpty()) {
-            throw new IllegalArgumentException("파일이 비어있습니다");
-        }
-
+    public FileUploadResult uploadFile(InputStream content, long size, String originalFilename, String contentType) {
         try {
-            String originalFilename = file.getOriginalFilename();
             String extension = extractExtension(originalFilename);
             String storedFilename = UUID.randomUUID() + extension;
 
@@ -50,9 +51,10 @@ public class SupabaseFileStorage implements FileStorageStrategy {
             headers.set("Authorization", "Bearer " + supabaseKey);
             headers.set("apikey", supabaseKey);
             headers.setContentType(MediaType.parseMediaType(
-                    file.getContentType() != null ? file.getContentType() : "application/octet-stream"));
+                    contentType != null ? contentType : "application/octet-stream"));
+            headers.setContentLength(size);
 
-            HttpEntity<byte[]> requestEntity = new HttpEntity<>(file.getBytes(), headers);
+            HttpEntity<InputStreamResource> requestEntity = new HttpEntity<>(new InputStreamResource(content), headers);
 
             ResponseEntity<String> response = restTemplate.exchange(
                     uploadUrl, HttpMethod.POST, requestEntity, String.class);
@@ -68,8 +70,8 @@ public class SupabaseFileStorage implements FileStorageStrategy {
                         .originalFilename(originalFilename)
                         .storedFilename(storedFilename)
                         .filePath(publicUrl)  // CDN URL 저장
-                        .fileSize(file.getSize())
-                        .contentType(file.getContentType())
+                        .fileSize(size)
+                        .contentType(contentType)
                         .build();
             } else {
                 throw new RuntimeException("Supabase 업로드 실패: " + response.getStatusCode());
@@ -77,7 +79,7 @@ public class SupabaseFileStorage implements FileStorageStrategy {
 
         } catch (Exception e) {
             log.error("Supabase 업로드 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("파일 업로드 실패: " + file.getOriginalFilename(), e);
+            throw new RuntimeException("파일 업로드 실패: " + originalFilename, e);
         }
     }
 
@@ -1,6 +1,7 @@
 package com.doll.gacha.review;
 
 import com.doll.gacha.common.dto.ApiResponse;
+import com.doll.gacha.common.dto.CursorResponse;
 import com.doll.gacha.common.dto.PageResponse;
 import com.doll.gacha.jwt.model.CustomUserAccount;
 import com.doll.gacha.review.dto.ReviewCreateDTO;
@@ -42,6 +43,23 @@ public class ReviewController {
         return ResponseEntity.ok(ApiResponse.success("리뷰 목록 조회 성공", PageResponse.from(reviews)));
     }
 
+    /**
+     * 특정 가게의 리뷰 목록 조회 - 커서 방식 (무한 스크롤, 최신순)
+     *
+     * @param dollShopId 가게 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param pageable size만 사용 (기본값: 10, 최대 100)
+     * @return 리뷰 목록 + 다음 페이지 커서
+     */
+    @GetMapping("/doll-shop/{dollShopId}/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<ReviewDTO>>> getShopReviewsByCursor(
+            @PathVariable Long dollShopId,
+            @RequestParam(required = false) String cursor,
+            Pageable pageable) {
+        CursorResponse<ReviewDTO> reviews = reviewService.getReviewsByDollShopIdCursor(dollShopId, cursor, pageable.getPageSize());
+        return ResponseEntity.ok(ApiResponse.success("리뷰 목록 조회 성공", reviews));
+    }
+
     /**
      * 특정 가게의 리뷰 통계 조회
      * @param dollShopId 가게 ID
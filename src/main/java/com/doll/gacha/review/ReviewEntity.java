@@ -8,7 +8,12 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        // 매장별 리뷰 목록/커서 (is_deleted = false, 최신순) + 매장별 통계
+        @Index(name = "idx_reviews_shop_deleted_created", columnList = "doll_shop_id, is_deleted, created_at, id"),
+        // 보관 대상 (오래전에 삭제된 리뷰) 조회
+        @Index(name = "idx_reviews_deleted_updated", columnList = "is_deleted, updated_at")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,5 +1,6 @@
 package com.doll.gacha.review;
 
+import com.doll.gacha.common.dto.CursorResponse;
 import com.doll.gacha.common.exception.AccessDeniedException;
 import com.doll.gacha.common.exception.BusinessRuleException;
 import com.doll.gacha.common.exception.EntityNotFoundException;
@@ -10,9 +11,13 @@ import com.doll.gacha.jwt.repository.UserRepository;
 import com.doll.gacha.review.dto.ReviewCreateDTO;
 import com.doll.gacha.review.dto.ReviewDTO;
 import com.doll.gacha.review.dto.ReviewStatsDTO;
+import com.doll.gacha.review.dto.ReviewStatsDelta;
 import com.doll.gacha.review.dto.ReviewUpdateDTO;
+import com.doll.gacha.review.event.ReviewStatsChangedEvent;
 import com.doll.gacha.review.repositroy.ReviewRepository;
+import com.doll.gacha.review.repositroy.ReviewStatsRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,8 +31,10 @@ import java.time.LocalDateTime;
 public class ReviewService {
 
     private final ReviewRepository reviewRepository;
+    private final ReviewStatsRepository reviewStatsRepository;
     private final DollShopRepository dollShopRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 특정 가게의 리뷰 목록 조회 - 페이징 (N+1 해결)
@@ -37,17 +44,22 @@ public class ReviewService {
         return reviewRepository.findReviewsWithFilesByDollShopId(dollShopId, pageable);
     }
 
+    /**
+     * 특정 가게의 리뷰 목록 조회 - 커서 방식 (무한 스크롤, count 쿼리 없음)
+     */
+    public CursorResponse<ReviewDTO> getReviewsByDollShopIdCursor(Long dollShopId, String cursor, int size) {
+        return reviewRepository.findReviewsWithFilesByCursor(dollShopId, cursor, size);
+    }
 
     /**
-     * 특정 가게의 리뷰 통계 조회
+     * 특정 가게의 리뷰 통계 조회 (비정규화된 통계 테이블에서 한 행만 조회)
      */
     public ReviewStatsDTO getReviewStats(Long dollShopId) {
-        ReviewStatsDTO stats = reviewRepository.findStatsByDollShopId(dollShopId);
         // 리뷰가 없는 경우 기본값 반환
-        if (stats == null || stats.getTotalReviews() == null || stats.getTotalReviews() == 0) {
-            return ReviewStatsDTO.empty();
-        }
-        return stats;
+        return reviewStatsRepository.findById(dollShopId)
+                .filter(stats -> stats.getReviewCount() > 0)
+                .map(ReviewStatsDTO::from)
+                .orElseGet(ReviewStatsDTO::empty);
     }
 
     /**
@@ -75,6 +87,9 @@ public class ReviewService {
         // DTO -> Entity 변환 및 저장 (시간 주입)
         ReviewEntity savedReview = reviewRepository.save(createDTO.toEntity(user, dollShop, now));
 
+        // 가게 리뷰 통계 증가 (같은 트랜잭션)
+        applyStatsDelta(dollShop.getId(), ReviewStatsDelta.added(savedReview));
+
         return ReviewDTO.from(savedReview);
     }
 
@@ -89,7 +104,11 @@ public class ReviewService {
             throw new BusinessRuleException("삭제된 리뷰는 수정할 수 없습니다.");
         }
 
+        // 수정 전 값을 빼고 수정 후 값을 더함
+        ReviewStatsDelta before = ReviewStatsDelta.removed(review);
         updateDTO.updateEntity(review);
+        applyStatsDelta(review.getDollShop().getId(), before.plus(ReviewStatsDelta.added(review)));
+
         return ReviewDTO.from(review);
     }
 
@@ -100,6 +119,17 @@ public class ReviewService {
     public void deleteReview(Long reviewId, String username) {
         ReviewEntity review = findReviewByIdAndValidateUser(reviewId, username);
         review.softDelete();
+
+        // 가게 리뷰 통계 감소
+        applyStatsDelta(review.getDollShop().getId(), ReviewStatsDelta.removed(review));
+    }
+
+    /**
+     * 가게 리뷰 통계 증감 + 이벤트 발행 (커밋 후 지역 집계 등 메모리 구독자가 반영)
+     */
+    private void applyStatsDelta(Long dollShopId, ReviewStatsDelta delta) {
+        reviewStatsRepository.applyDelta(dollShopId, delta);
+        eventPublisher.publishEvent(ReviewStatsChangedEvent.of(dollShopId, delta));
     }
 
     /**
@@ -0,0 +1,71 @@
+package com.doll.gacha.review;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 가게별 리뷰 통계 (비정규화)
+ * - 리뷰 작성/수정/삭제 시 ReviewService에서 같은 트랜잭션으로 증감 (ReviewStatsRepository.applyDelta)
+ * - 목록 조회/정렬 시 reviews GROUP BY 대신 이 테이블을 조인
+ * - 어긋남(drift)은 ReviewStatsReconciler가 주기적으로 reviews에서 다시 계산해서 맞춤
+ * - 비용은 입력한 리뷰만 평균을 내므로 합계와 개수를 따로 보관
+ */
+@Entity
+@Table(name = "doll_shop_review_stats", indexes = {
+        @Index(name = "idx_review_stats_average_rating", columnList = "average_rating"),
+        @Index(name = "idx_review_stats_review_count", columnList = "review_count")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReviewStatsEntity {
+
+    // 가게 ID (doll_shop.id와 1:1)
+    @Id
+    private Long dollShopId;
+
+    @Column(nullable = false)
+    private Long reviewCount;
+
+    // ===== 누적 합계 (증감 대상) =====
+    @Column(nullable = false)
+    private Long ratingSum;
+
+    @Column(nullable = false)
+    private Long machineStrengthSum;
+
+    @Column(nullable = false)
+    private Long largeDollCostSum;
+
+    @Column(nullable = false)
+    private Long largeDollCostCount;
+
+    @Column(nullable = false)
+    private Long mediumDollCostSum;
+
+    @Column(nullable = false)
+    private Long mediumDollCostCount;
+
+    @Column(nullable = false)
+    private Long smallDollCostSum;
+
+    @Column(nullable = false)
+    private Long smallDollCostCount;
+
+    // ===== 평균 (정렬용, 합계가 바뀔 때마다 다시 계산) =====
+    @Column(nullable = false)
+    private Double averageRating;
+
+    @Column(nullable = false)
+    private Double averageMachineStrength;
+
+    @Column(nullable = false)
+    private Double averageLargeCost;
+
+    @Column(nullable = false)
+    private Double averageMediumCost;
+
+    @Column(nullable = false)
+    private Double averageSmallCost;
+}
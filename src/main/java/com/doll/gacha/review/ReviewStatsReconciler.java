@@ -0,0 +1,42 @@
+package com.doll.gacha.review;
+
+import com.doll.gacha.review.event.ReviewStatsChangedEvent;
+import com.doll.gacha.review.repositroy.ReviewStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 리뷰 통계 재계산 작업
+ * - 평소에는 ReviewService가 증감으로 맞추지만, SQL 직접 수정/시드 데이터 등으로 어긋날 수 있음
+ * - 서버 기동 시 + 매일 새벽(기본 04:00)에 reviews 테이블 기준으로 통째로 다시 계산
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReviewStatsReconciler {
+
+    private final ReviewStatsRepository reviewStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${review-stats.reconcile-cron:0 0 4 * * *}")
+    @Transactional
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        long drifted = reviewStatsRepository.countDrifted();
+
+        reviewStatsRepository.deleteAllStats();
+        int rebuilt = reviewStatsRepository.insertAllFromReviews();
+
+        eventPublisher.publishEvent(ReviewStatsChangedEvent.reconciled());
+
+        log.info("리뷰 통계 재계산 완료 - 가게 수: {}, 어긋난 가게 수: {}, 소요: {}ms",
+                rebuilt, drifted, System.currentTimeMillis() - start);
+    }
+}
@@ -1,5 +1,6 @@
 package com.doll.gacha.review.dto;
 
+import com.doll.gacha.review.ReviewStatsEntity;
 import lombok.*;
 
 @Getter
@@ -15,6 +16,17 @@ public class ReviewStatsDTO {
     private Double avgMediumDollCost;   // 평균 중형 인형 비용
     private Double avgSmallDollCost;    // 평균 소형 인형 비용
 
+    public static ReviewStatsDTO from(ReviewStatsEntity stats) {
+        return ReviewStatsDTO.builder()
+                .totalReviews(stats.getReviewCount())
+                .avgRating(stats.getAverageRating())
+                .avgMachineStrength(stats.getAverageMachineStrength())
+                .avgLargeDollCost(stats.getAverageLargeCost())
+                .avgMediumDollCost(stats.getAverageMediumCost())
+                .avgSmallDollCost(stats.getAverageSmallCost())
+                .build();
+    }
+
     /**
      * 리뷰가 없을 때 기본값 반환
      */
@@ -0,0 +1,66 @@
+package com.doll.gacha.review.dto;
+
+import com.doll.gacha.review.ReviewEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리뷰 통계 증감분
+ * - 작성: added(리뷰), 삭제: removed(리뷰), 수정: removed(수정 전).plus(added(수정 후))
+ * - 비용은 값이 있는 리뷰만 평균에 들어가므로 합계와 개수를 따로 증감
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewStatsDelta {
+    private final long reviewCount;
+    private final long ratingSum;
+    private final long machineStrengthSum;
+    private final long largeDollCostSum;
+    private final long largeDollCostCount;
+    private final long mediumDollCostSum;
+    private final long mediumDollCostCount;
+    private final long smallDollCostSum;
+    private final long smallDollCostCount;
+
+    public static ReviewStatsDelta added(ReviewEntity review) {
+        return of(review, 1);
+    }
+
+    public static ReviewStatsDelta removed(ReviewEntity review) {
+        return of(review, -1);
+    }
+
+    public ReviewStatsDelta plus(ReviewStatsDelta other) {
+        return new ReviewStatsDelta(
+                reviewCount + other.reviewCount,
+                ratingSum + other.ratingSum,
+                machineStrengthSum + other.machineStrengthSum,
+                largeDollCostSum + other.largeDollCostSum,
+                largeDollCostCount + other.largeDollCostCount,
+                mediumDollCostSum + other.mediumDollCostSum,
+                mediumDollCostCount + other.mediumDollCostCount,
+                smallDollCostSum + other.smallDollCostSum,
+                smallDollCostCount + other.smallDollCostCount);
+    }
+
+    private static ReviewStatsDelta of(ReviewEntity review, int sign) {
+        return new ReviewStatsDelta(
+                sign,
+                (long) sign * review.getRating(),
+                (long) sign * review.getMachineStrength(),
+                (long) sign * valueOf(review.getLargeDollCost()),
+                (long) sign * countOf(review.getLargeDollCost()),
+                (long) sign * valueOf(review.getMediumDollCost()),
+                (long) sign * countOf(review.getMediumDollCost()),
+                (long) sign * valueOf(review.getSmallDollCost()),
+                (long) sign * countOf(review.getSmallDollCost()));
+    }
+
+    private static long valueOf(Integer cost) {
+        return cost != null ? cost : 0;
+    }
+
+    private static long countOf(Integer cost) {
+        return cost != null ? 1 : 0;
+    }
+}
@@ -0,0 +1,29 @@
+package com.doll.gacha.review.event;
+
+import com.doll.gacha.review.dto.ReviewStatsDelta;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가게 리뷰 통계 변경 이벤트
+ * - 리뷰 작성/수정/삭제로 doll_shop_review_stats에 증감분을 반영한 뒤 발행 (ReviewService)
+ * - dollShopId가 null이면 전체 재계산 (ReviewStatsReconciler) → 구독자도 통째로 다시 적재
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReviewStatsChangedEvent {
+    private final Long dollShopId;
+    private final ReviewStatsDelta delta;
+
+    public static ReviewStatsChangedEvent of(Long dollShopId, ReviewStatsDelta delta) {
+        return new ReviewStatsChangedEvent(dollShopId, delta);
+    }
+
+    public static ReviewStatsChangedEvent reconciled() {
+        return new ReviewStatsChangedEvent(null, null);
+    }
+
+    public boolean isReconciled() {
+        return dollShopId == null;
+    }
+}
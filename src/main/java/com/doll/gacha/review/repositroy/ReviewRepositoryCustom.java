@@ -1,5 +1,6 @@
 package com.doll.gacha.review.repositroy;
 
+import com.doll.gacha.common.dto.CursorResponse;
 import com.doll.gacha.review.dto.ReviewDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,5 +11,9 @@ public interface ReviewRepositoryCustom {
      * 특정 가게의 리뷰 목록 조회 - 페이징 (N+1 해결, 파일 정보 포함)
      */
     Page<ReviewDTO> findReviewsWithFilesByDollShopId(Long dollShopId, Pageable pageable);
-}
 
+    /**
+     * 특정 가게의 리뷰 목록 조회 - 커서 방식 (무한 스크롤, count 쿼리 없음, 최신순)
+     */
+    CursorResponse<ReviewDTO> findReviewsWithFilesByCursor(Long dollShopId, String cursor, int size);
+}
@@ -4,9 +4,12 @@ import static com.doll.gacha.file.entity.QFileEntity.fileEntity;
 import static com.doll.gacha.jwt.entity.QUserEntity.userEntity;
 import static com.doll.gacha.review.QReviewEntity.reviewEntity;
 
+import com.doll.gacha.common.dto.Cursor;
+import com.doll.gacha.common.dto.CursorResponse;
 import com.doll.gacha.file.entity.FileEntity;
 import com.doll.gacha.review.ReviewEntity;
 import com.doll.gacha.review.dto.ReviewDTO;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -14,6 +17,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +27,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
 
+    // 커서 방식은 최신순 고정
+    private static final String CURSOR_SORT = "createdAt,desc";
+
     private final JPAQueryFactory queryFactory;
 
     @Override
@@ -61,7 +68,43 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
                 .map(ReviewEntity::getId)
                 .toList();
 
-        // 4. 파일 URL 조회 (IN 쿼리 사용 - 원칙 준수)
+        // 4. 파일 URL 조회 및 DTO 변환
+        List<ReviewDTO> content = toDTOsWithFiles(entities, reviewIds);
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public CursorResponse<ReviewDTO> findReviewsWithFilesByCursor(Long dollShopId, String cursor, int size) {
+        Cursor last = Cursor.decode(cursor, CURSOR_SORT);
+
+        // 1. 커서 다음부터 size + 1 개 조회 (count 쿼리, OFFSET 없음)
+        List<ReviewEntity> entities = queryFactory
+                .selectFrom(reviewEntity)
+                .join(reviewEntity.user, userEntity).fetchJoin()
+                .where(
+                        reviewEntity.dollShop.id.eq(dollShopId),
+                        reviewEntity.isDeleted.eq(false),
+                        afterCursor(last)
+                )
+                .orderBy(reviewEntity.createdAt.desc(), reviewEntity.id.desc())
+                .limit(size + 1)
+                .fetch();
+
+        // 2. 파일 URL 조회 및 DTO 변환
+        List<Long> reviewIds = entities.stream()
+                .map(ReviewEntity::getId)
+                .toList();
+        List<ReviewDTO> fetched = toDTOsWithFiles(entities, reviewIds);
+
+        return CursorResponse.of(fetched, size,
+                dto -> new Cursor(CURSOR_SORT, dto.getCreatedAt().toString(), dto.getId()));
+    }
+
+    /**
+     * 리뷰 Entity 목록 → DTO (파일 URL은 IN 쿼리 한 번으로 조회 - 원칙 준수)
+     */
+    private List<ReviewDTO> toDTOsWithFiles(List<ReviewEntity> entities, List<Long> reviewIds) {
         Map<Long, List<String>> fileUrlsMap;
         if (reviewIds.isEmpty()) {
             fileUrlsMap = Collections.emptyMap();
@@ -85,15 +128,23 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
                     ));
         }
 
-        // 5. DTO 변환 및 반환
-        List<ReviewDTO> content = entities.stream()
+        return entities.stream()
                 .map(entity -> ReviewDTO.from(
                         entity,
                         fileUrlsMap.getOrDefault(entity.getId(), List.of())
                 ))
                 .toList();
+    }
 
-        return new PageImpl<>(content, pageable, total);
+    /**
+     * 커서 이후 조건: (작성일, ID)가 커서보다 오래된 리뷰
+     */
+    private BooleanExpression afterCursor(Cursor last) {
+        if (last == null) {
+            return null;
+        }
+        LocalDateTime createdAt = last.keyAsDateTime();
+        return reviewEntity.createdAt.lt(createdAt)
+                .or(reviewEntity.createdAt.eq(createdAt).and(reviewEntity.id.lt(last.getId())));
     }
 }
-
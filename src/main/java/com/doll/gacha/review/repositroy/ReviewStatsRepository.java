@@ -0,0 +1,105 @@
+package com.doll.gacha.review.repositroy;
+
+import com.doll.gacha.review.ReviewStatsEntity;
+import com.doll.gacha.review.dto.ReviewStatsDelta;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 가게별 리뷰 통계 (doll_shop_review_stats)
+ * - 증감은 DB에서 원자적으로 (INSERT ... ON DUPLICATE KEY UPDATE x = x + 증감분)
+ *   → 동시에 리뷰가 써져도 읽고-더하고-쓰기 경합 없음
+ * - 네이티브 쿼리라 실행 전 flush, 실행 후 영속성 컨텍스트 clear (같은 트랜잭션에서 옛 통계를 읽지 않도록)
+ */
+@Repository
+public interface ReviewStatsRepository extends JpaRepository<ReviewStatsEntity, Long> {
+
+    /**
+     * 합계/개수 증감 (행이 없으면 생성)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO doll_shop_review_stats" +
+            " (doll_shop_id, review_count, rating_sum, machine_strength_sum," +
+            "  large_doll_cost_sum, large_doll_cost_count, medium_doll_cost_sum, medium_doll_cost_count," +
+            "  small_doll_cost_sum, small_doll_cost_count," +
+            "  average_rating, average_machine_strength, average_large_cost, average_medium_cost, average_small_cost)" +
+            " VALUES (:shopId, :#{#d.reviewCount}, :#{#d.ratingSum}, :#{#d.machineStrengthSum}," +
+            "  :#{#d.largeDollCostSum}, :#{#d.largeDollCostCount}, :#{#d.mediumDollCostSum}, :#{#d.mediumDollCostCount}," +
+            "  :#{#d.smallDollCostSum}, :#{#d.smallDollCostCount}, 0, 0, 0, 0, 0)" +
+            " ON DUPLICATE KEY UPDATE" +
+            " review_count = review_count + VALUES(review_count)," +
+            " rating_sum = rating_sum + VALUES(rating_sum)," +
+            " machine_strength_sum = machine_strength_sum + VALUES(machine_strength_sum)," +
+            " large_doll_cost_sum = large_doll_cost_sum + VALUES(large_doll_cost_sum)," +
+            " large_doll_cost_count = large_doll_cost_count + VALUES(large_doll_cost_count)," +
+            " medium_doll_cost_sum = medium_doll_cost_sum + VALUES(medium_doll_cost_sum)," +
+            " medium_doll_cost_count = medium_doll_cost_count + VALUES(medium_doll_cost_count)," +
+            " small_doll_cost_sum = small_doll_cost_sum + VALUES(small_doll_cost_sum)," +
+            " small_doll_cost_count = small_doll_cost_count + VALUES(small_doll_cost_count)",
+            nativeQuery = true)
+    void addSums(@Param("shopId") Long shopId, @Param("d") ReviewStatsDelta delta);
+
+    /**
+     * 합계로 평균 다시 계산 (정렬용 컬럼)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE doll_shop_review_stats SET" +
+            " average_rating = IF(review_count > 0, rating_sum / review_count, 0)," +
+            " average_machine_strength = IF(review_count > 0, machine_strength_sum / review_count, 0)," +
+            " average_large_cost = IF(large_doll_cost_count > 0, large_doll_cost_sum / large_doll_cost_count, 0)," +
+            " average_medium_cost = IF(medium_doll_cost_count > 0, medium_doll_cost_sum / medium_doll_cost_count, 0)," +
+            " average_small_cost = IF(small_doll_cost_count > 0, small_doll_cost_sum / small_doll_cost_count, 0)" +
+            " WHERE doll_shop_id = :shopId",
+            nativeQuery = true)
+    void refreshAverages(@Param("shopId") Long shopId);
+
+    /**
+     * 증감 반영 (합계 → 평균 순서)
+     */
+    default void applyDelta(Long shopId, ReviewStatsDelta delta) {
+        addSums(shopId, delta);
+        refreshAverages(shopId);
+    }
+
+    /**
+     * 전체 비우기 (재계산 전)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM doll_shop_review_stats", nativeQuery = true)
+    int deleteAllStats();
+
+    /**
+     * reviews 테이블 기준으로 전체 재계산 (리뷰가 있는 가게만 행 생성)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO doll_shop_review_stats" +
+            " (doll_shop_id, review_count, rating_sum, machine_strength_sum," +
+            "  large_doll_cost_sum, large_doll_cost_count, medium_doll_cost_sum, medium_doll_cost_count," +
+            "  small_doll_cost_sum, small_doll_cost_count," +
+            "  average_rating, average_machine_strength, average_large_cost, average_medium_cost, average_small_cost)" +
+            " SELECT r.doll_shop_id, COUNT(*), SUM(r.rating), SUM(r.machine_strength)," +
+            "  COALESCE(SUM(r.large_doll_cost), 0), COUNT(r.large_doll_cost)," +
+            "  COALESCE(SUM(r.medium_doll_cost), 0), COUNT(r.medium_doll_cost)," +
+            "  COALESCE(SUM(r.small_doll_cost), 0), COUNT(r.small_doll_cost)," +
+            "  AVG(r.rating), AVG(r.machine_strength)," +
+            "  COALESCE(AVG(r.large_doll_cost), 0), COALESCE(AVG(r.medium_doll_cost), 0), COALESCE(AVG(r.small_doll_cost), 0)" +
+            " FROM reviews r" +
+            " WHERE r.is_deleted = false" +
+            " GROUP BY r.doll_shop_id",
+            nativeQuery = true)
+    int insertAllFromReviews();
+
+    /**
+     * reviews 기준 값과 다른(어긋난) 가게 수 (재계산 전 점검용 로그)
+     */
+    @Query(value = "SELECT COUNT(*) FROM (" +
+            " SELECT r.doll_shop_id, COUNT(*) AS cnt, SUM(r.rating) AS rating_sum FROM reviews r" +
+            " WHERE r.is_deleted = false GROUP BY r.doll_shop_id) t" +
+            " LEFT JOIN doll_shop_review_stats s ON s.doll_shop_id = t.doll_shop_id" +
+            " WHERE s.doll_shop_id IS NULL OR s.review_count <> t.cnt OR s.rating_sum <> t.rating_sum",
+            nativeQuery = true)
+    long countDrifted();
+}
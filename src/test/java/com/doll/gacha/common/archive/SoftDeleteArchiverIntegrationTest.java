@@ -0,0 +1,181 @@
+package com.doll.gacha.common.archive;
+
+import com.doll.gacha.community.CommunityEntity;
+import com.doll.gacha.community.comment.CommentEntity;
+import com.doll.gacha.community.comment.repository.CommentRepository;
+import com.doll.gacha.community.repository.CommunityRepository;
+import com.doll.gacha.file.entity.FileEntity;
+import com.doll.gacha.file.repository.FileRepository;
+import com.doll.gacha.jwt.entity.UserEntity;
+import com.doll.gacha.jwt.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 보관 작업은 DDL(CREATE TABLE ... LIKE)과 자체 트랜잭션을 쓰므로 테스트 트랜잭션 롤백 대신 직접 커밋하고 정리함
+ */
+@SpringBootTest(properties = {"archive.enabled=true", "archive.cron=-"})
+@DisplayName("SoftDeleteArchiver 통합 테스트")
+class SoftDeleteArchiverIntegrationTest {
+
+    private static final List<String> ARCHIVE_TABLES =
+            List.of("comment_archive", "community_archive", "reviews_archive", "files_archive");
+
+    @Autowired
+    private SoftDeleteArchiver softDeleteArchiver;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CommunityRepository communityRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    private UserEntity testUser;
+
+    // 오래전에 삭제된 게시글 + 답글이 달린 댓글 + 첨부 파일
+    private CommunityEntity oldPost;
+    private CommentEntity oldPostRoot;
+    private CommentEntity oldPostReply;
+    private FileEntity oldPostFile;
+
+    // 보관 기준(90일) 안에 삭제된 게시글
+    private CommunityEntity recentPost;
+
+    // 살아있는 게시글 - 오래전에 삭제됐지만 답글이 남은 댓글 / 오래전에 삭제된 답글 없는 댓글
+    private CommunityEntity livePost;
+    private CommentEntity deletedParent;
+    private CommentEntity liveReply;
+    private CommentEntity deletedLeaf;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(UserEntity.builder()
+                .username("archiveuser")
+                .password("password123")
+                .email("archive@example.com")
+                .nickname("보관테스터")
+                .build());
+
+        oldPost = savePost("오래전에 삭제된 글");
+        oldPostRoot = saveComment(oldPost, null);
+        oldPostReply = saveComment(oldPost, oldPostRoot);
+        oldPostFile = fileRepository.save(FileEntity.builder()
+                .originalFileName("photo.jpg")
+                .storedFileName("stored-photo.jpg")
+                .filePath("/uploads/")
+                .refId(oldPost.getId())
+                .refType(FileEntity.RefType.COMMUNITY)
+                .fileUsage(FileEntity.Usage.IMAGES)
+                .build());
+        softDelete("community", oldPost.getId(), 100);
+
+        recentPost = savePost("최근에 삭제된 글");
+        softDelete("community", recentPost.getId(), 10);
+
+        livePost = savePost("살아있는 글");
+        deletedParent = saveComment(livePost, null);
+        liveReply = saveComment(livePost, deletedParent);
+        deletedLeaf = saveComment(livePost, null);
+        softDelete("comment", deletedParent.getId(), 100);
+        softDelete("comment", deletedLeaf.getId(), 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ARCHIVE_TABLES.forEach(table -> jdbcTemplate.execute("DROP TABLE IF EXISTS " + table));
+        jdbcTemplate.update("DELETE FROM files WHERE id = ?", oldPostFile.getId());
+        // 답글 → 댓글 순으로 지워야 parent_id 외래키에 걸리지 않음
+        jdbcTemplate.update("DELETE FROM comment WHERE parent_id IS NOT NULL AND user_id = ?", testUser.getId());
+        jdbcTemplate.update("DELETE FROM comment WHERE user_id = ?", testUser.getId());
+        jdbcTemplate.update("DELETE FROM community WHERE user_id = ?", testUser.getId());
+        userRepository.deleteById(testUser.getId());
+    }
+
+    @Test
+    @DisplayName("게시글 단계만 실행 - 댓글이 남은 게시글은 기준일이 지났어도 건너뜀")
+    void archiveCommunity_skipsPostWithComments() {
+        int moved = softDeleteArchiver.archive("community");
+
+        assertThat(moved).isZero();
+        assertThat(exists("community", oldPost.getId())).isTrue();
+        assertThat(exists("files", oldPostFile.getId())).isTrue();
+        assertThat(exists("community", recentPost.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("전체 실행 - 답글 → 부모 댓글 → 게시글(+파일) 순으로 옮기고, 답글이 남은 댓글과 기준일 안의 글은 그대로")
+    void archive_movesLeavesBeforeParents() {
+        softDeleteArchiver.archive();
+
+        // 삭제된 게시글의 댓글은 답글부터 옮겨져 외래키 오류 없이 모두 보관
+        assertThat(exists("comment", oldPostReply.getId())).isFalse();
+        assertThat(exists("comment", oldPostRoot.getId())).isFalse();
+        assertThat(exists("comment_archive", oldPostReply.getId())).isTrue();
+        assertThat(exists("comment_archive", oldPostRoot.getId())).isTrue();
+
+        // 댓글이 모두 옮겨진 뒤 게시글과 첨부 파일 정보가 같이 보관
+        assertThat(exists("community", oldPost.getId())).isFalse();
+        assertThat(exists("community_archive", oldPost.getId())).isTrue();
+        assertThat(exists("files", oldPostFile.getId())).isFalse();
+        assertThat(exists("files_archive", oldPostFile.getId())).isTrue();
+
+        // 보관 기준(90일) 안에 삭제된 게시글은 그대로
+        assertThat(exists("community", recentPost.getId())).isTrue();
+
+        // 살아있는 답글이 달린 삭제 댓글은 건너뛰고, 답글 없는 삭제 댓글만 보관
+        assertThat(exists("comment", deletedParent.getId())).isTrue();
+        assertThat(exists("comment", liveReply.getId())).isTrue();
+        assertThat(exists("comment", deletedLeaf.getId())).isFalse();
+        assertThat(exists("comment_archive", deletedLeaf.getId())).isTrue();
+        assertThat(exists("community", livePost.getId())).isTrue();
+    }
+
+    private CommunityEntity savePost(String title) {
+        return communityRepository.save(CommunityEntity.builder()
+                .user(testUser)
+                .title(title)
+                .content(title + " 내용")
+                .viewCount(0)
+                .isDeleted(false)
+                .build());
+    }
+
+    private CommentEntity saveComment(CommunityEntity community, CommentEntity parent) {
+        return commentRepository.save(CommentEntity.builder()
+                .community(community)
+                .user(testUser)
+                .content("댓글")
+                .parent(parent)
+                .build());
+    }
+
+    // 삭제 시각(updated_at)을 과거로 맞춤 (@PreUpdate가 현재 시각으로 덮어쓰지 않도록 SQL로 직접)
+    private void softDelete(String table, Long id, int daysAgo) {
+        jdbcTemplate.update("UPDATE " + table + " SET is_deleted = true, updated_at = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(daysAgo), id);
+    }
+
+    private boolean exists(String table, Long id) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE id = ?", Integer.class, id);
+        return count != null && count > 0;
+    }
+}
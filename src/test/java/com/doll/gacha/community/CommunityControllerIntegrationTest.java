@@ -3,6 +3,8 @@ package com.doll.gacha.community;
 import com.doll.gacha.common.WithMockCustomUser;
 import com.doll.gacha.community.dto.CommunityCreateDTO;
 import com.doll.gacha.community.dto.CommunityUpdateDTO;
+import com.doll.gacha.community.event.CommentCountChangedEvent;
+import com.doll.gacha.community.event.CommunityChangedEvent;
 import com.doll.gacha.community.repository.CommunityRepository;
 import com.doll.gacha.jwt.entity.UserEntity;
 import com.doll.gacha.jwt.repository.UserRepository;
@@ -43,6 +45,12 @@ class CommunityControllerIntegrationTest {
     @Autowired
     private CommunityRepository communityRepository;
 
+    @Autowired
+    private CommunityTextIndex communityTextIndex;
+
+    @Autowired
+    private CommunityHotRanking communityHotRanking;
+
     private UserEntity testUser;
     private CommunityEntity testCommunity;
 
@@ -68,6 +76,20 @@ class CommunityControllerIntegrationTest {
         communityRepository.save(testCommunity);
     }
 
+    @Test
+    @DisplayName("게시글 목록 조회 (커서 방식)")
+    void getCommunityListByCursor_success() throws Exception {
+        mockMvc.perform(get("/api/community/cursor")
+                        .param("size", "10"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.content[0].id").value(testCommunity.getId()))
+                .andExpect(jsonPath("$.data.hasNext").exists())
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+    }
+
     @Test
     @DisplayName("게시글 목록 조회 (페이징)")
     void getCommunityList_success() throws Exception {
@@ -83,6 +105,47 @@ class CommunityControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.totalPages").exists());
     }
 
+    @Test
+    @DisplayName("게시글 목록 조회 - 인기순 (sort=hot, 메모리 랭킹)")
+    void getCommunityList_hot() throws Exception {
+        mockMvc.perform(get("/api/community")
+                        .param("sort", "hot")
+                        .param("page", "0")
+                        .param("size", "10"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.page").value(0))
+                .andExpect(jsonPath("$.data.totalElements").exists());
+    }
+
+    @Test
+    @DisplayName("게시글 목록 검색 - 인기순 + 검색어 (미리 정렬된 상위 N개가 아니라 후보 전체에서 거름)")
+    void getCommunityList_hotWithKeyword() throws Exception {
+        CommunityEntity post = communityRepository.save(CommunityEntity.builder()
+                .user(testUser)
+                .title("해달인형 자랑")
+                .content("오늘 뽑은 인형")
+                .viewCount(0)
+                .isDeleted(false)
+                .build());
+        // 후보에만 넣고 상위 N개 목록은 다시 정렬하지 않음 (상위 N개 밖의 글과 같은 상태)
+        communityHotRanking.onCommunityChanged(CommunityChangedEvent.upserted(post.getId()));
+        try {
+            mockMvc.perform(get("/api/community")
+                            .param("sort", "hot")
+                            .param("searchType", "title")
+                            .param("keyword", "해달인형"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.totalElements").value(1))
+                    .andExpect(jsonPath("$.data.content[0].id").value(post.getId()));
+        } finally {
+            communityHotRanking.onCommunityChanged(CommunityChangedEvent.deleted(post.getId()));
+        }
+    }
+
     @Test
     @DisplayName("게시글 목록 검색 - 제목으로")
     void getCommunityList_searchByTitle() throws Exception {
@@ -97,6 +160,89 @@ class CommunityControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.content").isArray());
     }
 
+    @Test
+    @DisplayName("게시글 목록 검색 - 내용으로 (전문 검색, 관련도순, 검색어 n-gram이 떨어져 있는 글은 제외)")
+    void getCommunityList_searchByContent() throws Exception {
+        CommunityEntity matched = communityRepository.save(CommunityEntity.builder()
+                .user(testUser)
+                .title("오늘 뽑은 인형")
+                .content("우리 집 고양이 인형입니다.")
+                .viewCount(0)
+                .isDeleted(false)
+                .build());
+        // "고양", "양이"는 모두 들어있지만 "고양이"는 없음
+        CommunityEntity split = communityRepository.save(CommunityEntity.builder()
+                .user(testUser)
+                .title("고양 나들이")
+                .content("고양 시에 사는 양이 이야기")
+                .viewCount(0)
+                .isDeleted(false)
+                .build());
+        // 테스트 트랜잭션은 커밋되지 않아 커밋 후 색인 반영이 일어나지 않으므로 직접 반영 (끝나면 제거)
+        communityTextIndex.onCommunityChanged(CommunityChangedEvent.upserted(matched.getId()));
+        communityTextIndex.onCommunityChanged(CommunityChangedEvent.upserted(split.getId()));
+        try {
+            mockMvc.perform(get("/api/community")
+                            .param("searchType", "content")
+                            .param("keyword", "고양이")
+                            .param("sort", "relevance")
+                            .param("page", "0")
+                            .param("size", "10"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.data.totalElements").value(1))
+                    .andExpect(jsonPath("$.data.content.length()").value(1))
+                    .andExpect(jsonPath("$.data.content[0].id").value(matched.getId()))
+                    .andExpect(jsonPath("$.data.content[0].contentHighlight").value("우리 집 <mark>고양이</mark> 인형입니다."));
+        } finally {
+            communityTextIndex.onCommunityChanged(CommunityChangedEvent.deleted(matched.getId()));
+            communityTextIndex.onCommunityChanged(CommunityChangedEvent.deleted(split.getId()));
+        }
+    }
+
+    @Test
+    @DisplayName("게시글 목록 검색 - 댓글순/최신순 (검색 결과를 색인 안에서 정렬, 댓글 수는 커밋 후 이벤트로 반영)")
+    void getCommunityList_searchSorted() throws Exception {
+        CommunityEntity older = communityRepository.save(CommunityEntity.builder()
+                .user(testUser)
+                .title("수달인형 후기")
+                .content("수달인형 뽑았어요")
+                .viewCount(0)
+                .isDeleted(false)
+                .build());
+        CommunityEntity newer = communityRepository.save(CommunityEntity.builder()
+                .user(testUser)
+                .title("수달인형 질문")
+                .content("수달인형 어디서 뽑나요")
+                .viewCount(0)
+                .isDeleted(false)
+                .build());
+        communityTextIndex.onCommunityChanged(CommunityChangedEvent.upserted(older.getId()));
+        communityTextIndex.onCommunityChanged(CommunityChangedEvent.upserted(newer.getId()));
+        communityTextIndex.onCommentCountChanged(CommentCountChangedEvent.added(older.getId()));
+        try {
+            mockMvc.perform(get("/api/community")
+                            .param("keyword", "수달인형")
+                            .param("sort", "commentCount,desc"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.totalElements").value(2))
+                    .andExpect(jsonPath("$.data.content[0].id").value(older.getId()))
+                    .andExpect(jsonPath("$.data.content[1].id").value(newer.getId()));
+
+            mockMvc.perform(get("/api/community")
+                            .param("keyword", "수달인형")
+                            .param("sort", "createdAt,desc"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content[0].id").value(newer.getId()))
+                    .andExpect(jsonPath("$.data.content[1].id").value(older.getId()));
+        } finally {
+            communityTextIndex.onCommunityChanged(CommunityChangedEvent.deleted(older.getId()));
+            communityTextIndex.onCommunityChanged(CommunityChangedEvent.deleted(newer.getId()));
+        }
+    }
+
     @Test
     @DisplayName("게시글 상세 조회")
     void getCommunityDetail_success() throws Exception {
@@ -109,6 +255,18 @@ class CommunityControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.content").value("테스트 내용입니다."));
     }
 
+    @Test
+    @DisplayName("게시글 상세 조회 - 조회할 때마다 조회수 증가 (DB 반영 전에도 응답에 포함)")
+    void getCommunityDetail_incrementsViewCount() throws Exception {
+        mockMvc.perform(get("/api/community/{communityId}", testCommunity.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.viewCount").value(1));
+
+        mockMvc.perform(get("/api/community/{communityId}", testCommunity.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.viewCount").value(2));
+    }
+
     @Test
     @DisplayName("게시글 상세 조회 - 존재하지 않는 게시글")
     void getCommunityDetail_notFound() throws Exception {
@@ -22,6 +22,10 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -50,6 +54,9 @@ class CommentControllerIntegrationTest {
     @Autowired
     private CommentRepository commentRepository;
 
+    @Autowired
+    private CommentStreamHub commentStreamHub;
+
     private UserEntity testUser;
     private CommunityEntity testCommunity;
     private CommentEntity testComment;
@@ -110,6 +117,17 @@ class CommentControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.content").isEmpty());
     }
 
+    @Test
+    @DisplayName("실시간 댓글 스트림 구독 (SSE)")
+    void streamComments_subscribed() throws Exception {
+        mockMvc.perform(get("/api/comments/community/{communityId}/stream", testCommunity.getId())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+
+        assertThat(commentStreamHub.subscriberCount(testCommunity.getId())).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("댓글 작성 - 로그인 필요")
     @WithMockCustomUser(username = "testuser")
@@ -129,6 +147,85 @@ class CommentControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.id").exists());
     }
 
+    @Test
+    @DisplayName("댓글 작성 - 게시글 댓글 수(comment_count) 증가")
+    @WithMockCustomUser(username = "testuser")
+    void createComment_incrementsCommentCount() throws Exception {
+        long before = communityRepository.findById(testCommunity.getId()).orElseThrow().getCommentCount();
+
+        CommentCreateDTO createDTO = CommentCreateDTO.builder()
+                .communityId(testCommunity.getId())
+                .content("댓글 수 확인용 댓글")
+                .build();
+
+        mockMvc.perform(post("/api/comments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDTO)))
+                .andExpect(status().isCreated());
+
+        long after = communityRepository.findById(testCommunity.getId()).orElseThrow().getCommentCount();
+        assertThat(after).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("답글 작성 - 스레드로 묶여서 조회, 스레드 답글 수 증가")
+    @WithMockCustomUser(username = "testuser")
+    void createReply_loadedAsThread() throws Exception {
+        CommentCreateDTO replyDTO = CommentCreateDTO.builder()
+                .communityId(testCommunity.getId())
+                .parentId(testComment.getId())
+                .content("답글입니다.")
+                .build();
+
+        mockMvc.perform(post("/api/comments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(replyDTO)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.parentId").value(testComment.getId()))
+                .andExpect(jsonPath("$.data.depth").value(1));
+
+        mockMvc.perform(get("/api/comments/community/{communityId}", testCommunity.getId())
+                        .param("page", "0")
+                        .param("size", "10"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.content[0].id").value(testComment.getId()))
+                .andExpect(jsonPath("$.data.content[0].replyCount").value(1))
+                .andExpect(jsonPath("$.data.content[0].replies[0].content").value("답글입니다."))
+                .andExpect(jsonPath("$.data.content[0].replies[0].depth").value(1));
+    }
+
+    @Test
+    @DisplayName("답글 작성 - 최대 깊이 초과 시 실패")
+    @WithMockCustomUser(username = "testuser")
+    void createReply_exceedsMaxDepth() throws Exception {
+        CommentEntity parent = testComment;
+        for (int depth = 1; depth <= CommentEntity.MAX_DEPTH; depth++) {
+            parent = commentRepository.save(CommentEntity.builder()
+                    .community(testCommunity)
+                    .user(testUser)
+                    .parent(parent)
+                    .content(depth + "단계 답글")
+                    .build());
+        }
+
+        CommentCreateDTO replyDTO = CommentCreateDTO.builder()
+                .communityId(testCommunity.getId())
+                .parentId(parent.getId())
+                .content("너무 깊은 답글")
+                .build();
+
+        mockMvc.perform(post("/api/comments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(replyDTO)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.errorCode").value("BUSINESS_RULE_VIOLATION"));
+    }
+
     @Test
     @DisplayName("댓글 작성 - 인증 없이 요청 시 실패")
     void createComment_unauthorized() throws Exception {
@@ -161,20 +258,25 @@ class CommentControllerIntegrationTest {
     }
 
     @Test
-    @DisplayName("댓글 수정 - 작성자만 가능")
+    @DisplayName("댓글 수정 - 작성자만 가능 (응답에 바뀐 수정 시각 포함)")
     @WithMockCustomUser(username = "testuser")
     void updateComment_success() throws Exception {
+        LocalDateTime before = testComment.getUpdatedAt();
         CommentUpdateDTO updateDTO = CommentUpdateDTO.builder()
                 .content("수정된 댓글입니다.")
                 .build();
 
-        mockMvc.perform(put("/api/comments/{commentId}", testComment.getId())
+        String response = mockMvc.perform(put("/api/comments/{commentId}", testComment.getId())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updateDTO)))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data.content").value("수정된 댓글입니다."));
+                .andExpect(jsonPath("$.data.content").value("수정된 댓글입니다."))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        LocalDateTime updatedAt = LocalDateTime.parse(objectMapper.readTree(response).at("/data/updatedAt").asText());
+        assertThat(updatedAt).isAfter(before);
     }
 
     @Test
@@ -0,0 +1,231 @@
+package com.doll.gacha.community.comment;
+
+import com.doll.gacha.community.comment.dto.CommentDTO;
+import com.doll.gacha.community.event.CommentChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CommentFirstPageCache 테스트")
+class CommentFirstPageCacheTest {
+
+    private static final Long COMMUNITY_ID = 1L;
+    private static final int PAGE_SIZE = 2;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private CommentFirstPageCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CommentFirstPageCache(100, 300, PAGE_SIZE);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("최상위 댓글 작성 - 맨 앞에 추가, 페이지 크기를 넘으면 마지막 스레드 밀려남, 전체 수 증가")
+    void created_root() {
+        load(root(20L), root(10L));
+
+        cache.onCommentChanged(CommentChangedEvent.created(root(30L)));
+
+        Page<CommentDTO> page = cached();
+        assertThat(page.getContent()).extracting(CommentDTO::getId).containsExactly(30L, 20L);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("답글 작성 - 부모 아래에 추가하고 스레드 답글 수 증가")
+    void created_reply() {
+        load(root(10L));
+
+        cache.onCommentChanged(CommentChangedEvent.created(reply(11L, 10L)));
+
+        CommentDTO thread = cached().getContent().get(0);
+        assertThat(thread.getReplies()).extracting(CommentDTO::getId).containsExactly(11L);
+        assertThat(thread.getReplyCount()).isEqualTo(1);
+        assertThat(cached().getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글 수정 - 내용과 수정 시각 반영")
+    void updated() {
+        load(root(10L));
+        CommentDTO changed = root(10L).toBuilder()
+                .content("수정된 댓글")
+                .updatedAt(CREATED_AT.plusMinutes(5))
+                .build();
+
+        cache.onCommentChanged(CommentChangedEvent.updated(changed));
+
+        CommentDTO thread = cached().getContent().get(0);
+        assertThat(thread.getContent()).isEqualTo("수정된 댓글");
+        assertThat(thread.getUpdatedAt()).isEqualTo(CREATED_AT.plusMinutes(5));
+    }
+
+    @Test
+    @DisplayName("답글 삭제 - 아래 답글이 남아 있으면 자리 표시로 가리고 스레드 답글 수 감소")
+    void deleted_replyMasked() {
+        CommentDTO reply = reply(11L, 10L);
+        reply.getReplies().add(reply(12L, 11L).toBuilder().depth(2).build());
+        CommentDTO thread = root(10L);
+        thread.getReplies().add(reply);
+        thread.setReplyCount(2L);
+        load(thread);
+
+        cache.onCommentChanged(CommentChangedEvent.deleted(deletedReply(11L, 10L)));
+
+        CommentDTO cachedThread = cached().getContent().get(0);
+        CommentDTO cachedReply = cachedThread.getReplies().get(0);
+        assertThat(cachedReply.getDeleted()).isTrue();
+        assertThat(cachedReply.getContent()).isEqualTo("삭제된 댓글입니다.");
+        assertThat(cachedReply.getNickname()).isNull();
+        assertThat(cachedReply.getReplies()).extracting(CommentDTO::getId).containsExactly(12L);
+        assertThat(cachedThread.getReplyCount()).isEqualTo(1);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("답글 삭제 - 아래 답글이 없으면 목록에서 빠지고 스레드 답글 수 감소")
+    void deleted_leafReplyPruned() {
+        CommentDTO thread = root(10L);
+        thread.getReplies().add(reply(11L, 10L));
+        thread.setReplyCount(1L);
+        load(thread);
+
+        cache.onCommentChanged(CommentChangedEvent.deleted(deletedReply(11L, 10L)));
+
+        CommentDTO cachedThread = cached().getContent().get(0);
+        assertThat(cachedThread.getReplies()).isEmpty();
+        assertThat(cachedThread.getReplyCount()).isZero();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("답글 삭제 - 삭제된 최상위 댓글만 남으면 스레드가 빠지므로 캐시에서 제거")
+    void deleted_prunesThread() {
+        CommentDTO thread = root(10L).toBuilder()
+                .deleted(true)
+                .content("삭제된 댓글입니다.")
+                .replyCount(1L)
+                .replies(new ArrayList<>(List.of(reply(11L, 10L))))
+                .build();
+        load(thread);
+
+        cache.onCommentChanged(CommentChangedEvent.deleted(deletedReply(11L, 10L)));
+
+        cached();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("최상위 댓글 삭제 - 다음 스레드를 채워야 하므로 캐시에서 제거")
+    void deleted_root() {
+        load(root(20L), root(10L));
+
+        cache.onCommentChanged(CommentChangedEvent.deleted(root(20L).toBuilder().deleted(true).build()));
+
+        cached();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("이미 반영된 변경 (캐시를 채운 조회가 커밋 후에 읽은 경우) - 다시 반영하지 않음")
+    void replay_ignored() {
+        CommentDTO thread = root(10L);
+        thread.getReplies().add(reply(11L, 10L));
+        thread.setReplyCount(1L);
+        load(root(20L), thread);
+
+        cache.onCommentChanged(CommentChangedEvent.created(root(20L)));
+        cache.onCommentChanged(CommentChangedEvent.created(reply(11L, 10L)));
+
+        Page<CommentDTO> page = cached();
+        assertThat(page.getContent()).extracting(CommentDTO::getId).containsExactly(20L, 10L);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent().get(1).getReplies()).hasSize(1);
+        assertThat(page.getContent().get(1).getReplyCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("변경 반영 시 이전에 내준 페이지는 그대로 (복사본을 고쳐서 교체)")
+    void apply_copyOnWrite() {
+        load(root(10L));
+        Page<CommentDTO> before = cached();
+
+        cache.onCommentChanged(CommentChangedEvent.created(reply(11L, 10L)));
+
+        assertThat(before.getContent().get(0).getReplies()).isEmpty();
+        assertThat(before.getContent().get(0).getReplyCount()).isZero();
+        assertThat(cached().getContent().get(0).getReplies()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("캐시되지 않은 게시글의 변경은 무시")
+    void notCached_ignored() {
+        cache.onCommentChanged(CommentChangedEvent.created(root(10L)));
+
+        assertThat(cached().getContent()).isEmpty();
+        assertThat(loads).hasValue(1);
+    }
+
+    private void load(CommentDTO... threads) {
+        cache.get(COMMUNITY_ID, id -> {
+            loads.incrementAndGet();
+            return new PageImpl<>(List.of(threads), PageRequest.of(0, PAGE_SIZE), threads.length);
+        });
+    }
+
+    // 캐시에 없으면 빈 페이지로 채움 (loads 증가로 다시 조회했는지 확인)
+    private Page<CommentDTO> cached() {
+        return cache.get(COMMUNITY_ID, id -> {
+            loads.incrementAndGet();
+            return new PageImpl<>(List.of(), PageRequest.of(0, PAGE_SIZE), 0);
+        });
+    }
+
+    private CommentDTO root(Long id) {
+        return CommentDTO.builder()
+                .id(id)
+                .communityId(COMMUNITY_ID)
+                .content("댓글 " + id)
+                .depth(0)
+                .replyCount(0L)
+                .deleted(false)
+                .userId(1L)
+                .username("testuser")
+                .nickname("테스터")
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .build();
+    }
+
+    private CommentDTO reply(Long id, Long parentId) {
+        return root(id).toBuilder()
+                .parentId(parentId)
+                .depth(1)
+                .replies(new ArrayList<>())
+                .build();
+    }
+
+    private CommentDTO deletedReply(Long id, Long parentId) {
+        return reply(id, parentId).toBuilder()
+                .deleted(true)
+                .content("삭제된 댓글입니다.")
+                .userId(null)
+                .username(null)
+                .nickname(null)
+                .build();
+    }
+}
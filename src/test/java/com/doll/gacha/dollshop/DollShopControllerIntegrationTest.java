@@ -1,13 +1,27 @@
 package com.doll.gacha.dollshop;
 
+import com.doll.gacha.dollshop.index.DollShopColumnarCodec;
+import com.doll.gacha.dollshop.repositroy.DollShopChangeLogRepository;
+import com.doll.gacha.dollshop.repositroy.DollShopRepository;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -18,9 +32,20 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @DisplayName("DollShop Controller 통합 테스트")
 class DollShopControllerIntegrationTest {
 
+    private static final long REPLAY_SHOP_ID = 999001L;
+
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private DollShopRepository dollShopRepository;
+
+    @Autowired
+    private DollShopChangeLogRepository dollShopChangeLogRepository;
+
+    @Autowired
+    private DollShopDataVersion dollShopDataVersion;
+
     @Test
     @DisplayName("지도용 - 전체 매장 조회 (gubun1만)")
     void searchShopsForMap_withGubun1() throws Exception {
@@ -45,6 +70,153 @@ class DollShopControllerIntegrationTest {
                 .andExpect(jsonPath("$.data").isArray());
     }
 
+    @Test
+    @DisplayName("지도용 - ETag가 같으면 304 (본문 없음)")
+    void searchShopsForMap_notModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/doll-shops/map")
+                        .param("gubun1", "서울특별시"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("X-Data-Version"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/doll-shops/map")
+                        .param("gubun1", "서울특별시")
+                        .header("If-None-Match", etag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("지도용 - 컬럼형 바이너리 스냅샷")
+    void getCompactMap() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/doll-shops/map/compact"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-doll-shop-columnar"))
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // "DSMC" 헤더 + 복원하면 857번 매장 포함
+        assertThat(new String(body, 0, 4)).isEqualTo("DSMC");
+        assertThat(DollShopColumnarCodec.decode(body))
+                .anyMatch(shop -> shop.getId() == 857L && "서울특별시".equals(shop.getGubun1()));
+    }
+
+    @Test
+    @DisplayName("지도용 - 화면 영역(bbox) 매장 조회")
+    void searchShopsInBounds() throws Exception {
+        // 857번 매장(망원동) 주변 영역
+        mockMvc.perform(get("/api/doll-shops/map/bbox")
+                        .param("minLat", "37.54")
+                        .param("maxLat", "37.57")
+                        .param("minLng", "126.89")
+                        .param("maxLng", "126.92"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data").isArray())
+                .andExpect(jsonPath("$.data[?(@.id == 857)]").exists());
+    }
+
+    @Test
+    @DisplayName("지도용 - 화면 영역(bbox) 조회 (최소값이 최대값보다 큼)")
+    void searchShopsInBounds_invalidBounds() throws Exception {
+        mockMvc.perform(get("/api/doll-shops/map/bbox")
+                        .param("minLat", "37.57")
+                        .param("maxLat", "37.54")
+                        .param("minLng", "126.89")
+                        .param("maxLng", "126.92"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("지도용 - 클러스터 조회 (축소 시 묶어서 반환)")
+    void searchClustersInBounds_lowZoom() throws Exception {
+        // 서울 전체 화면
+        mockMvc.perform(get("/api/doll-shops/map/clusters")
+                        .param("minLat", "37.42")
+                        .param("maxLat", "37.70")
+                        .param("minLng", "126.76")
+                        .param("maxLng", "127.18")
+                        .param("zoom", "8"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data").isArray())
+                .andExpect(jsonPath("$.data[0].count").exists());
+    }
+
+    @Test
+    @DisplayName("지도용 - 클러스터 조회 (셀에 걸쳐 있어도 클러스터 중심이 영역 밖이면 제외)")
+    void searchClustersInBounds_centerOutsideBounds() throws Exception {
+        // 줌 5 셀(약 2.6도) 안의 아주 좁은 영역 - 셀은 겹치지만 수도권 클러스터 중심은 영역 밖
+        mockMvc.perform(get("/api/doll-shops/map/clusters")
+                        .param("minLat", "37.554")
+                        .param("maxLat", "37.556")
+                        .param("minLng", "126.904")
+                        .param("maxLng", "126.907")
+                        .param("zoom", "5"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").isEmpty());
+    }
+
+    @Test
+    @DisplayName("지도용 - 클러스터 조회 (확대 시 개별 매장)")
+    void searchClustersInBounds_highZoom() throws Exception {
+        mockMvc.perform(get("/api/doll-shops/map/clusters")
+                        .param("minLat", "37.554")
+                        .param("maxLat", "37.556")
+                        .param("minLng", "126.904")
+                        .param("maxLng", "126.907")
+                        .param("zoom", "18"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[?(@.shop.id == 857)].count").value(1));
+    }
+
+    @Test
+    @DisplayName("주변 매장 조회 - 가까운 순")
+    void searchNearbyShops() throws Exception {
+        // 857번 매장(망원동) 바로 옆 좌표
+        mockMvc.perform(get("/api/doll-shops/nearby")
+                        .param("lat", "37.5549")
+                        .param("lng", "126.9054")
+                        .param("limit", "5")
+                        .param("radiusKm", "3"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data[0].id").value(857))
+                .andExpect(jsonPath("$.data[0].distanceKm").exists());
+    }
+
+    @Test
+    @DisplayName("주변 매장 조회 - 별점순")
+    void searchNearbyShops_sortByRating() throws Exception {
+        mockMvc.perform(get("/api/doll-shops/nearby")
+                        .param("lat", "37.5549")
+                        .param("lng", "126.9054")
+                        .param("sort", "averageRating"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].averageRating").exists())
+                .andExpect(jsonPath("$.data[0].reviewCount").exists());
+    }
+
+    @Test
+    @DisplayName("주변 매장 조회 - 반경 초과")
+    void searchNearbyShops_invalidRadius() throws Exception {
+        mockMvc.perform(get("/api/doll-shops/nearby")
+                        .param("lat", "37.5549")
+                        .param("lng", "126.9054")
+                        .param("radiusKm", "100"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("게시판용 - 페이징 조회 (기본)")
     void searchShopsPaged_default() throws Exception {
@@ -89,6 +261,285 @@ class DollShopControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.content").isArray());
     }
 
+    @Test
+    @DisplayName("게시판용 - 통계 정렬은 리뷰 없는 가게를 0으로 (커서 방식과 같은 순서, 같은 값이면 ID 내림차순)")
+    void searchShops_sortByStatsTreatsMissingAsZero() throws Exception {
+        String body = mockMvc.perform(get("/api/doll-shops/search")
+                        .param("size", "50")
+                        .param("sort", "averageLargeCost,asc"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<Number> costs = JsonPath.read(body, "$.data.content[*].averageLargeCost");
+        List<Number> ids = JsonPath.read(body, "$.data.content[*].id");
+        for (int i = 1; i < ids.size(); i++) {
+            double previous = costs.get(i - 1).doubleValue();
+            double current = costs.get(i).doubleValue();
+            assertThat(current).isGreaterThanOrEqualTo(previous);
+            if (current == previous) {
+                assertThat(ids.get(i).longValue()).isLessThan(ids.get(i - 1).longValue());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("게시판용 - 키워드 검색 (공백 무시, 매장명 일치 우선)")
+    void searchShops_keyword() throws Exception {
+        mockMvc.perform(get("/api/doll-shops/search")
+                        .param("keyword", "하이캐치 망원"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].businessName").value(containsString("하이캐치")));
+    }
+
+    @Test
+    @DisplayName("게시판용 - 키워드 검색 + 정렬 지정 (sort=id도 관련도순이 아니라 ID순)")
+    void searchShops_keywordSorted() throws Exception {
+        String byIdAsc = mockMvc.perform(get("/api/doll-shops/search")
+                        .param("keyword", "마포구")
+                        .param("sort", "id,asc"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(greaterThan(1)))
+                .andReturn().getResponse().getContentAsString();
+        List<Number> ids = JsonPath.read(byIdAsc, "$.data.content[*].id");
+        assertThat(ids).extracting(Number::longValue).isSorted();
+
+        String byMachines = mockMvc.perform(get("/api/doll-shops/search")
+                        .param("keyword", "마포구")
+                        .param("sort", "totalGameMachines,desc"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<Number> machines = JsonPath.read(byMachines, "$.data.content[*].totalGameMachines");
+        assertThat(machines).extracting(Number::intValue).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    @DisplayName("게시판용 - 초성 검색")
+    void searchShops_chosung() throws Exception {
+        // 하이캐치 망원점 → ㅎㅇㅋㅊ
+        mockMvc.perform(get("/api/doll-shops/search")
+                        .param("keyword", "ㅎㅇㅋㅊ"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].businessName").value(containsString("하이캐치")))
+                .andExpect(jsonPath("$.data.totalElements").value(greaterThan(0)));
+    }
+
+    @Test
+    @DisplayName("자동완성 - 매장명 접두사")
+    void suggest_shopName() throws Exception {
+        mockMvc.perform(get("/api/doll-shops/suggest")
+                        .param("q", "하이캐"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].type").value("SHOP"))
+                .andExpect(jsonPath("$.data[0].text").value(containsString("하이캐치")));
+    }
+
+    @Test
+    @DisplayName("자동완성 - 지역 우선, 초성 입력")
+    void suggest_regionAndChosung() throws Exception {
+        mockMvc.perform(get("/api/doll-shops/suggest")
+                        .param("q", "서울"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].type").value("REGION"))
+                .andExpect(jsonPath("$.data[0].gubun1").value("서울특별시"));
+
+        // 하이캐치 → ㅎㅇㅋ
+        mockMvc.perform(get("/api/doll-shops/suggest")
+                        .param("q", "ㅎㅇㅋ"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].text").value(containsString("하이캐치")));
+    }
+
+    @Test
+    @DisplayName("게시판용 - 커서 방식 조회 (다음 페이지는 이전 페이지 마지막 ID 이후)")
+    void searchShopsByCursor() throws Exception {
+        String first = mockMvc.perform(get("/api/doll-shops/search/cursor")
+                        .param("size", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").exists())
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+
+        String nextCursor = JsonPath.read(first, "$.data.nextCursor");
+        Number lastId = JsonPath.read(first, "$.data.content[1].id");
+
+        String second = mockMvc.perform(get("/api/doll-shops/search/cursor")
+                        .param("size", "2")
+                        .param("cursor", nextCursor))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andReturn().getResponse().getContentAsString();
+
+        Number nextFirstId = JsonPath.read(second, "$.data.content[0].id");
+        assertThat(nextFirstId.longValue()).isLessThan(lastId.longValue());
+    }
+
+    @Test
+    @DisplayName("게시판용 - 커서 방식 조회 (별점순)")
+    void searchShopsByCursor_sortByRating() throws Exception {
+        mockMvc.perform(get("/api/doll-shops/search/cursor")
+                        .param("size", "5")
+                        .param("sort", "averageRating,desc"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].averageRating").exists());
+    }
+
+    @Test
+    @DisplayName("게시판용 - 페이지를 넘겨도 전체 개수 동일 (개수 캐시)")
+    void searchShopsPaged_cachedTotal() throws Exception {
+        String first = mockMvc.perform(get("/api/doll-shops/search")
+                        .param("page", "0")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long total = ((Number) JsonPath.read(first, "$.data.totalElements")).longValue();
+
+        mockMvc.perform(get("/api/doll-shops/search")
+                        .param("page", "1")
+                        .param("size", "5"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(total));
+    }
+
+    @Test
+    @DisplayName("지역별 집계 - 시/도 합계와 시/군/구")
+    void getRegionStats() throws Exception {
+        mockMvc.perform(get("/api/doll-shops/regions/stats")
+                        .param("gubun1", "서울특별시"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].gubun1").value("서울특별시"))
+                .andExpect(jsonPath("$.data[0].gubun2").doesNotExist())
+                .andExpect(jsonPath("$.data[0].shopCount").value(greaterThan(0)))
+                .andExpect(jsonPath("$.data[?(@.gubun2 == '마포구')].shopCount").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("게시판용 - 커서 방식 조회 (잘못된 커서)")
+    void searchShopsByCursor_invalidCursor() throws Exception {
+        mockMvc.perform(get("/api/doll-shops/search/cursor")
+                        .param("cursor", "not-a-cursor"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("지도 변경분 - 변경이 없으면 빈 upserts/tombstones")
+    void getChanges_empty() throws Exception {
+        mockMvc.perform(get("/api/doll-shops/changes")
+                        .param("since", "0"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.version").value(0))
+                .andExpect(jsonPath("$.data.upserts").isArray())
+                .andExpect(jsonPath("$.data.tombstones").isArray())
+                .andExpect(jsonPath("$.data.fullReload").value(false));
+    }
+
+    @Test
+    @DisplayName("지도 변경분 - 서버보다 앞선 버전이면 전체 다시 받기")
+    void getChanges_fullReload() throws Exception {
+        mockMvc.perform(get("/api/doll-shops/changes")
+                        .param("since", "999999"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.fullReload").value(true));
+    }
+
+    @Test
+    @DisplayName("지도 변경분 - 잘못된 조회 개수")
+    void getChanges_invalidSize() throws Exception {
+        mockMvc.perform(get("/api/doll-shops/changes")
+                        .param("size", "5000"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("지도 변경분 - 다른 프로세스(import)가 남긴 변경 이력을 읽어서 메모리 인덱스(bbox/검색)에 반영")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void refresh_replaysChangeLogFromOtherProcess() throws Exception {
+        // import 프로세스처럼 이벤트 없이 DB에만 커밋 (테스트 트랜잭션 밖이라 끝나면 직접 정리)
+        dollShopRepository.save(DollShop.builder()
+                .id(REPLAY_SHOP_ID)
+                .businessName("변경반영테스트 망원점")
+                .latitude(37.556)
+                .longitude(126.905)
+                .address("서울특별시 마포구 변경반영로 1")
+                .totalGameMachines(3)
+                .isOperating(true)
+                .approvalDate(LocalDate.of(2024, 1, 1))
+                .gubun1("서울특별시")
+                .gubun2("마포구")
+                .build());
+        List<Long> logIds = new ArrayList<>();
+        logIds.add(saveChangeLog(DollShopChangeLog.ChangeType.INSERT));
+        try {
+            mockMvc.perform(get("/api/doll-shops/map/bbox")
+                            .param("minLat", "37.54")
+                            .param("maxLat", "37.57")
+                            .param("minLng", "126.89")
+                            .param("maxLng", "126.92"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[?(@.id == " + REPLAY_SHOP_ID + ")]").doesNotExist());
+
+            dollShopDataVersion.refresh();
+
+            assertThat(dollShopDataVersion.current()).isEqualTo(logIds.get(0));
+            mockMvc.perform(get("/api/doll-shops/map/bbox")
+                            .param("minLat", "37.54")
+                            .param("maxLat", "37.57")
+                            .param("minLng", "126.89")
+                            .param("maxLng", "126.92"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[?(@.id == " + REPLAY_SHOP_ID + ")]").exists());
+            mockMvc.perform(get("/api/doll-shops/search")
+                            .param("keyword", "변경반영테스트"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.totalElements").value(1))
+                    .andExpect(jsonPath("$.data.content[0].id").value(REPLAY_SHOP_ID));
+
+            // DB에서 없어진 매장은 삭제로 반영
+            dollShopRepository.deleteById(REPLAY_SHOP_ID);
+            logIds.add(saveChangeLog(DollShopChangeLog.ChangeType.CLOSE));
+            dollShopDataVersion.refresh();
+
+            mockMvc.perform(get("/api/doll-shops/search")
+                            .param("keyword", "변경반영테스트"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.totalElements").value(0));
+        } finally {
+            dollShopRepository.findById(REPLAY_SHOP_ID).ifPresent(dollShopRepository::delete);
+            dollShopChangeLogRepository.deleteAllById(logIds);
+            dollShopDataVersion.refresh();
+        }
+    }
+
+    private Long saveChangeLog(DollShopChangeLog.ChangeType type) {
+        return dollShopChangeLogRepository.save(DollShopChangeLog.builder()
+                .dollShopId(REPLAY_SHOP_ID)
+                .changeType(type)
+                .source("test")
+                .changedAt(LocalDateTime.now())
+                .build()).getId();
+    }
+
     @Test
     @DisplayName("상세 조회 - 특정 매장 조회")
     void getShopById_success() throws Exception {
@@ -101,9 +552,46 @@ class DollShopControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.businessName").exists())
                 .andExpect(jsonPath("$.data.address").exists())
                 .andExpect(jsonPath("$.data.totalGameMachines").exists())
-                .andExpect(jsonPath("$.data.isOperating").exists());
+                .andExpect(jsonPath("$.data.isOperating").exists())
+                .andExpect(jsonPath("$.data.imagePath").exists()); // 대표 썸네일 (썸네일 캐시)
         // phone은 null일 수 있으므로 검증 제외
-        // imagePath는 없어야 함 (별도 API로 요청)
+    }
+
+    @Test
+    @DisplayName("상세 조회 - 평균 별점/리뷰 수 포함, 반복 조회해도 같은 결과 (상세 캐시)")
+    void getShopById_withReviewStats() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/doll-shops/{id}", 857))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.id").value(857))
+                    .andExpect(jsonPath("$.data.averageRating").isNumber())
+                    .andExpect(jsonPath("$.data.reviewCount").isNumber())
+                    .andExpect(jsonPath("$.data.imagePath").exists());
+        }
+    }
+
+    @Test
+    @DisplayName("상세 한 번에 조회 - 매장 + 리뷰 통계 + 리뷰 첫 페이지")
+    void getShopFullDetail_success() throws Exception {
+        mockMvc.perform(get("/api/doll-shops/{id}/full", 857)
+                        .param("reviewSize", "5"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.shop.id").value(857))
+                .andExpect(jsonPath("$.data.shop.imagePath").exists())
+                .andExpect(jsonPath("$.data.stats.totalReviews").isNumber())
+                .andExpect(jsonPath("$.data.reviews.content").isArray())
+                .andExpect(jsonPath("$.data.reviews.page").value(0))
+                .andExpect(jsonPath("$.data.reviews.size").value(5));
+    }
+
+    @Test
+    @DisplayName("상세 한 번에 조회 - 존재하지 않는 매장")
+    void getShopFullDetail_notFound() throws Exception {
+        mockMvc.perform(get("/api/doll-shops/{id}/full", 999999))
+                .andDo(print())
+                .andExpect(status().isNotFound());
     }
 
     @Test
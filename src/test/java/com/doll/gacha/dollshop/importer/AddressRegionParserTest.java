@@ -0,0 +1,70 @@
+package com.doll.gacha.dollshop.importer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AddressRegionParser 테스트")
+class AddressRegionParserTest {
+
+    @Test
+    @DisplayName("시/도 + 구")
+    void seoulGu() {
+        String address = "서울특별시 마포구 포은로 88";
+
+        assertThat(AddressRegionParser.gubun1Of(address)).isEqualTo("서울특별시");
+        assertThat(AddressRegionParser.gubun2Of(address)).isEqualTo("마포구");
+    }
+
+    @Test
+    @DisplayName("시 아래 구가 있으면 시까지만 (검색 필터의 시/군/구 목록과 동일)")
+    void cityWithGu() {
+        String address = "경기도 수원시 팔달구 정조로 1";
+
+        assertThat(AddressRegionParser.gubun1Of(address)).isEqualTo("경기도");
+        assertThat(AddressRegionParser.gubun2Of(address)).isEqualTo("수원시");
+    }
+
+    @Test
+    @DisplayName("군")
+    void county() {
+        assertThat(AddressRegionParser.gubun2Of("경기도 가평군 가평읍 1")).isEqualTo("가평군");
+    }
+
+    @Test
+    @DisplayName("세종특별자치시 - 시/군/구가 없으므로 세종시")
+    void sejong() {
+        String address = "세종특별자치시 한누리대로 2130";
+
+        assertThat(AddressRegionParser.gubun1Of(address)).isEqualTo("세종특별자치시");
+        assertThat(AddressRegionParser.gubun2Of(address)).isEqualTo("세종시");
+        assertThat(AddressRegionParser.gubun2Of("세종특별자치시")).isEqualTo("세종시");
+    }
+
+    @Test
+    @DisplayName("두 번째 단어가 시/군/구가 아니거나 없으면 gubun2는 null")
+    void noDistrict() {
+        assertThat(AddressRegionParser.gubun2Of("경상북도 울릉읍 도동리 1")).isNull();
+        assertThat(AddressRegionParser.gubun1Of("서울특별시")).isEqualTo("서울특별시");
+        assertThat(AddressRegionParser.gubun2Of("서울특별시")).isNull();
+    }
+
+    @Test
+    @DisplayName("앞뒤/중간 공백이 여러 개여도 단어 단위로 추출")
+    void extraWhitespace() {
+        String address = "  서울특별시   강남구\t테헤란로 1 ";
+
+        assertThat(AddressRegionParser.gubun1Of(address)).isEqualTo("서울특별시");
+        assertThat(AddressRegionParser.gubun2Of(address)).isEqualTo("강남구");
+    }
+
+    @Test
+    @DisplayName("빈 주소 / null - 둘 다 null")
+    void blankAddress() {
+        assertThat(AddressRegionParser.gubun1Of("   ")).isNull();
+        assertThat(AddressRegionParser.gubun2Of("   ")).isNull();
+        assertThat(AddressRegionParser.gubun1Of(null)).isNull();
+        assertThat(AddressRegionParser.gubun2Of(null)).isNull();
+    }
+}
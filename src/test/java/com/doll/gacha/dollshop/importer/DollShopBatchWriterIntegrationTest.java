@@ -0,0 +1,101 @@
+package com.doll.gacha.dollshop.importer;
+
+import com.doll.gacha.dollshop.DollShop;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@DisplayName("DollShopBatchWriter 통합 테스트")
+class DollShopBatchWriterIntegrationTest {
+
+    private static final long SHOP_ID = 999101L;
+
+    @Autowired
+    private DollShopBatchWriter dollShopBatchWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 매장을 두 번 upsert해도 한 행, 값도 그대로")
+    void upsert_idempotent() {
+        DollShop shop = shop("멱등 테스트점", 3, true);
+
+        dollShopBatchWriter.upsert(List.of(shop), 100);
+        Map<String, Object> first = row();
+        dollShopBatchWriter.upsert(List.of(shop), 100);
+
+        assertThat(count()).isEqualTo(1);
+        assertThat(row()).isEqualTo(first);
+        assertThat(first.get("business_name")).isEqualTo("멱등 테스트점");
+    }
+
+    @Test
+    @DisplayName("이미 있는 매장은 파일 값으로 갱신하고 파일에 없는 image_path는 유지")
+    void upsert_updatesExistingKeepsImagePath() {
+        dollShopBatchWriter.upsert(List.of(shop("갱신 전", 3, true)), 100);
+        jdbcTemplate.update("UPDATE doll_shop SET image_path = ? WHERE id = ?", "/images/shop.jpg", SHOP_ID);
+
+        dollShopBatchWriter.upsert(List.of(shop("갱신 후", 7, false)), 100);
+
+        Map<String, Object> row = row();
+        assertThat(count()).isEqualTo(1);
+        assertThat(row.get("business_name")).isEqualTo("갱신 후");
+        assertThat(((Number) row.get("total_game_machines")).intValue()).isEqualTo(7);
+        assertThat(isOperating()).isFalse();
+        assertThat(row.get("image_path")).isEqualTo("/images/shop.jpg");
+    }
+
+    @Test
+    @DisplayName("폐업 처리는 is_operating만 false로, 두 번 해도 같음")
+    void close_idempotent() {
+        dollShopBatchWriter.upsert(List.of(shop("폐업 테스트점", 3, true)), 100);
+
+        dollShopBatchWriter.close(List.of(SHOP_ID), 100);
+        dollShopBatchWriter.close(List.of(SHOP_ID), 100);
+
+        Map<String, Object> row = row();
+        assertThat(isOperating()).isFalse();
+        assertThat(row.get("business_name")).isEqualTo("폐업 테스트점");
+    }
+
+    private DollShop shop(String name, int machines, boolean operating) {
+        return DollShop.builder()
+                .id(SHOP_ID)
+                .businessName(name)
+                .longitude(126.9)
+                .latitude(37.55)
+                .address("서울특별시 마포구 포은로 1")
+                .totalGameMachines(machines)
+                .phone(null)
+                .isOperating(operating)
+                .approvalDate(LocalDate.of(2024, 1, 1))
+                .gubun1("서울특별시")
+                .gubun2("마포구")
+                .build();
+    }
+
+    private Map<String, Object> row() {
+        return jdbcTemplate.queryForMap("SELECT * FROM doll_shop WHERE id = ?", SHOP_ID);
+    }
+
+    private Boolean isOperating() {
+        return jdbcTemplate.queryForObject("SELECT is_operating FROM doll_shop WHERE id = ?", Boolean.class, SHOP_ID);
+    }
+
+    private int count() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM doll_shop WHERE id = ?", Integer.class, SHOP_ID);
+        return count == null ? 0 : count;
+    }
+}
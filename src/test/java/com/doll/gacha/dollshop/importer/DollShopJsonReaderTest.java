@@ -0,0 +1,134 @@
+package com.doll.gacha.dollshop.importer;
+
+import com.doll.gacha.dollshop.DollShop;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DollShopJsonReader 테스트")
+class DollShopJsonReaderTest {
+
+    private final DollShopJsonReader reader = new DollShopJsonReader();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("매장 하나씩 읽고 주소에서 시/도, 시/군/구 추출")
+    void read_fullShop() throws IOException {
+        Path file = write("seoul.json", """
+                [
+                  {"id": 855, "businessName": "하이캐치 망원점", "longitude": 126.9, "latitude": 37.55,
+                   "address": "서울특별시 마포구 포은로 88", "totalGameMachines": 43, "phone": "02-123-4567",
+                   "isOperating": true, "approvalDate": "2025-08-28"}
+                ]
+                """);
+
+        List<DollShop> shops = new ArrayList<>();
+        int count = reader.read(file, shops::add);
+
+        assertThat(count).isEqualTo(1);
+        DollShop shop = shops.get(0);
+        assertThat(shop.getId()).isEqualTo(855L);
+        assertThat(shop.getBusinessName()).isEqualTo("하이캐치 망원점");
+        assertThat(shop.getLongitude()).isEqualTo(126.9);
+        assertThat(shop.getLatitude()).isEqualTo(37.55);
+        assertThat(shop.getTotalGameMachines()).isEqualTo(43);
+        assertThat(shop.getPhone()).isEqualTo("02-123-4567");
+        assertThat(shop.getIsOperating()).isTrue();
+        assertThat(shop.getApprovalDate()).isEqualTo(LocalDate.of(2025, 8, 28));
+        assertThat(shop.getGubun1()).isEqualTo("서울특별시");
+        assertThat(shop.getGubun2()).isEqualTo("마포구");
+    }
+
+    @Test
+    @DisplayName("null 필드는 비워두고, 주소가 null이면 시/도, 시/군/구도 null (isComplete로 걸러짐)")
+    void read_nullFields() throws IOException {
+        Path file = write("nulls.json", """
+                [
+                  {"id": 1, "businessName": "전화 없는 매장", "longitude": 127.0, "latitude": 37.5,
+                   "address": "경기도 가평군 가평읍 1", "totalGameMachines": 2, "phone": null,
+                   "isOperating": false, "approvalDate": null},
+                  {"id": 2, "businessName": null, "longitude": null, "latitude": null, "address": null,
+                   "totalGameMachines": null, "phone": null, "isOperating": null, "approvalDate": null}
+                ]
+                """);
+
+        List<DollShop> shops = new ArrayList<>();
+        reader.read(file, shops::add);
+
+        DollShop noPhone = shops.get(0);
+        assertThat(noPhone.getPhone()).isNull();
+        assertThat(noPhone.getApprovalDate()).isNull();
+        assertThat(noPhone.getIsOperating()).isFalse();
+        assertThat(noPhone.getGubun2()).isEqualTo("가평군");
+
+        DollShop empty = shops.get(1);
+        assertThat(empty.getId()).isEqualTo(2L);
+        assertThat(empty.getBusinessName()).isNull();
+        assertThat(empty.getLongitude()).isNull();
+        assertThat(empty.getTotalGameMachines()).isNull();
+        assertThat(empty.getAddress()).isNull();
+        assertThat(empty.getGubun1()).isNull();
+        assertThat(empty.getGubun2()).isNull();
+        assertThat(DollShopBatchWriter.isComplete(empty)).isFalse();
+    }
+
+    @Test
+    @DisplayName("모르는 필드는 값/객체/배열 모두 건너뛰고 다음 필드와 다음 매장을 계속 읽음")
+    void read_unknownFields() throws IOException {
+        Path file = write("unknown.json", """
+                [
+                  {"id": 10, "extra": "무시", "nested": {"a": [1, 2, {"b": null}]}, "tags": ["x", "y"],
+                   "businessName": "첫 매장", "address": "세종특별자치시 한누리대로 1"},
+                  {"score": 4.5, "id": 11, "businessName": "둘째 매장"}
+                ]
+                """);
+
+        List<DollShop> shops = new ArrayList<>();
+        int count = reader.read(file, shops::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(shops).extracting(DollShop::getId).containsExactly(10L, 11L);
+        assertThat(shops.get(0).getBusinessName()).isEqualTo("첫 매장");
+        assertThat(shops.get(0).getGubun2()).isEqualTo("세종시");
+        assertThat(shops.get(1).getBusinessName()).isEqualTo("둘째 매장");
+    }
+
+    @Test
+    @DisplayName("최상위가 배열이 아니면 실패")
+    void read_notArray() throws IOException {
+        Path file = write("object.json", "{\"id\": 1}");
+
+        assertThatThrownBy(() -> reader.read(file, shop -> { }))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("디렉터리의 *.json만 이름순, 없으면 실패")
+    void listFiles() throws IOException {
+        write("b.json", "[]");
+        write("a.json", "[]");
+        write("readme.txt", "");
+
+        assertThat(reader.listFiles(dir)).extracting(path -> path.getFileName().toString())
+                .containsExactly("a.json", "b.json");
+        assertThatThrownBy(() -> reader.listFiles(Files.createDirectory(dir.resolve("empty"))))
+                .isInstanceOf(IOException.class);
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(dir.resolve(name), content, StandardCharsets.UTF_8);
+    }
+}
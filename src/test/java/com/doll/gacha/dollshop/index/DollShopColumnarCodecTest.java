@@ -0,0 +1,86 @@
+package com.doll.gacha.dollshop.index;
+
+import com.doll.gacha.dollshop.dto.DollShopMapDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DollShopColumnarCodec 테스트")
+class DollShopColumnarCodecTest {
+
+    @Test
+    @DisplayName("값이 모두 있는 매장 - 주소 접두어 생략 포함 그대로 복원")
+    void roundTrip_fullShops() {
+        DollShopMapDTO mapo = shop(3L, "서울특별시", "마포구", "서울특별시 마포구 양화로 1", LocalDate.of(2021, 5, 3), 12);
+        DollShopMapDTO sejong = shop(1L, "세종특별자치시", null, "세종특별자치시 한누리대로 2", LocalDate.of(2019, 1, 1), 0);
+
+        List<DollShopMapDTO> decoded = DollShopColumnarCodec.decode(DollShopColumnarCodec.encode(List.of(mapo, sejong), 7L));
+
+        assertThat(decoded).usingRecursiveFieldByFieldElementComparator().containsExactly(sejong, mapo);
+    }
+
+    @Test
+    @DisplayName("null 컬럼 - 0/1970-01-01로 바뀌지 않고 null로 복원")
+    void roundTrip_nullColumns() {
+        DollShopMapDTO empty = DollShopMapDTO.builder()
+                .id(5L)
+                .latitude(37.5)
+                .longitude(127.0)
+                .isOperating(true)
+                .build();
+        DollShopMapDTO before = shop(2L, "서울특별시", "강남구", "서울특별시 강남구 테헤란로 3", LocalDate.of(2020, 2, 2), 4);
+        DollShopMapDTO after = shop(9L, "서울특별시", "강남구", null, LocalDate.of(2018, 8, 8), null);
+        after.setPhone(null);
+
+        List<DollShopMapDTO> decoded = DollShopColumnarCodec.decode(
+                DollShopColumnarCodec.encode(List.of(after, empty, before), 1L));
+
+        assertThat(decoded).usingRecursiveFieldByFieldElementComparator().containsExactly(before, empty, after);
+        DollShopMapDTO restored = decoded.get(1);
+        assertThat(restored.getGubun1()).isNull();
+        assertThat(restored.getAddress()).isNull();
+        assertThat(restored.getBusinessName()).isNull();
+        assertThat(restored.getApprovalDate()).isNull();
+        assertThat(restored.getTotalGameMachines()).isNull();
+        // null 다음 날짜도 직전 날짜 기준 차이로 정확히 복원
+        assertThat(decoded.get(2).getApprovalDate()).isEqualTo(LocalDate.of(2018, 8, 8));
+    }
+
+    @Test
+    @DisplayName("좌표 - 소수점 7자리(공공데이터)도, 고정소수점으로 안 맞는 값도 그대로 복원")
+    void roundTrip_coordinatesLossless() {
+        DollShopMapDTO sevenDigits = shop(1L, "서울특별시", "마포구", "서울특별시 마포구 포은로 88", LocalDate.of(2025, 8, 25), 0);
+        sevenDigits.setLatitude(37.5548849);
+        sevenDigits.setLongitude(126.9054233);
+        List<DollShopMapDTO> decoded = DollShopColumnarCodec.decode(DollShopColumnarCodec.encode(List.of(sevenDigits), 1L));
+        assertThat(decoded.get(0).getLatitude()).isEqualTo(37.5548849);
+        assertThat(decoded.get(0).getLongitude()).isEqualTo(126.9054233);
+
+        DollShopMapDTO irregular = shop(2L, "서울특별시", "마포구", "서울특별시 마포구 포은로 89", LocalDate.of(2025, 8, 25), 0);
+        irregular.setLatitude(Math.PI * 10);
+        irregular.setLongitude(126.0 + 1.0 / 3);
+        decoded = DollShopColumnarCodec.decode(DollShopColumnarCodec.encode(List.of(sevenDigits, irregular), 1L));
+        assertThat(decoded).usingRecursiveFieldByFieldElementComparator().containsExactly(sevenDigits, irregular);
+    }
+
+    private DollShopMapDTO shop(Long id, String gubun1, String gubun2, String address, LocalDate approvalDate,
+                                Integer machines) {
+        return DollShopMapDTO.builder()
+                .id(id)
+                .businessName("인형뽑기 " + id)
+                .address(address)
+                .phone("02-000-000" + id)
+                .latitude(37.5 + id * 0.25)
+                .longitude(126.5 + id * 0.25)
+                .totalGameMachines(machines)
+                .approvalDate(approvalDate)
+                .isOperating(true)
+                .gubun1(gubun1)
+                .gubun2(gubun2)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.doll.gacha.dollshop.index;
+
+import com.doll.gacha.dollshop.dto.DollShopSearchDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DollShopSearchCountCache 테스트")
+class DollShopSearchCountCacheTest {
+
+    private DollShopSearchCountCache cache;
+    private AtomicInteger counts;
+
+    @BeforeEach
+    void setUp() {
+        cache = new DollShopSearchCountCache();
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+        counts = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 조건은 다시 세지 않음 (키워드 대소문자, 빈 값과 null은 같은 조건)")
+    void get_cached() {
+        assertThat(cache.get(condition(null, "Catch"), () -> count(10))).isEqualTo(10);
+        assertThat(cache.get(condition("", "catch"), () -> count(20))).isEqualTo(10);
+
+        assertThat(counts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("비우면 다시 셈")
+    void clear_recounts() {
+        cache.get(condition(null, null), () -> count(10));
+
+        cache.clear();
+
+        assertThat(cache.get(condition(null, null), () -> count(11))).isEqualTo(11);
+        assertThat(counts).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("세는 도중에 비워지면 그 결과는 저장하지 않음 (다음 조회에서 새로 셈)")
+    void clearDuringCount_notStored() {
+        long stale = cache.get(condition(null, null), () -> {
+            cache.clear();
+            return count(10);
+        });
+
+        assertThat(stale).isEqualTo(10);
+        assertThat(cache.get(condition(null, null), () -> count(11))).isEqualTo(11);
+        assertThat(counts).hasValue(2);
+    }
+
+    private long count(long total) {
+        counts.incrementAndGet();
+        return total;
+    }
+
+    private DollShopSearchDTO condition(String gubun1, String keyword) {
+        DollShopSearchDTO searchDTO = new DollShopSearchDTO();
+        searchDTO.setGubun1(gubun1);
+        searchDTO.setKeyword(keyword);
+        return searchDTO;
+    }
+}
@@ -8,6 +8,7 @@ import com.doll.gacha.jwt.repository.UserRepository;
 import com.doll.gacha.review.dto.ReviewCreateDTO;
 import com.doll.gacha.review.dto.ReviewUpdateDTO;
 import com.doll.gacha.review.repositroy.ReviewRepository;
+import com.doll.gacha.review.repositroy.ReviewStatsRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -51,6 +52,9 @@ class ReviewControllerIntegrationTest {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private ReviewStatsRepository reviewStatsRepository;
+
     private UserEntity testUser;
     private DollShop testDollShop;
     private ReviewEntity testReview;
@@ -101,6 +105,19 @@ class ReviewControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.totalElements").exists());
     }
 
+    @Test
+    @DisplayName("특정 매장의 리뷰 목록 조회 (커서 방식)")
+    void getReviewsByDollShopCursor_success() throws Exception {
+        mockMvc.perform(get("/api/reviews/doll-shop/{dollShopId}/cursor", 857)
+                        .param("size", "10"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.hasNext").exists())
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+    }
+
     @Test
     @DisplayName("특정 매장의 리뷰 통계 조회")
     void getReviewStats_success() throws Exception {
@@ -156,6 +173,32 @@ class ReviewControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.rating").value(5));
     }
 
+    @Test
+    @DisplayName("리뷰 작성 - 가게 리뷰 통계에 바로 반영")
+    @WithMockCustomUser(username = "testuser")
+    void createReview_updatesStats() throws Exception {
+        long before = reviewStatsRepository.findById(893L)
+                .map(ReviewStatsEntity::getReviewCount)
+                .orElse(0L);
+
+        ReviewCreateDTO createDTO = ReviewCreateDTO.builder()
+                .dollShopId(893L)
+                .content("통계 반영 확인용 리뷰")
+                .rating(5)
+                .machineStrength(4)
+                .build();
+
+        mockMvc.perform(post("/api/reviews")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDTO)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/reviews/doll-shop/{dollShopId}/stats", 893))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalReviews").value(before + 1));
+    }
+
     @Test
     @DisplayName("리뷰 작성 - 인증 없이 요청 시 실패")
     void createReview_unauthorized() throws Exception {